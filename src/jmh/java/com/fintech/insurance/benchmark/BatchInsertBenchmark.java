@@ -0,0 +1,125 @@
+package com.fintech.insurance.benchmark;
+
+import com.fintech.insurance.InsuranceServiceApplication;
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.service.ClaimService;
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.policy.service.PolicyService;
+import com.fintech.insurance.underwriting.dto.UnderwritingCaseDTO;
+import com.fintech.insurance.underwriting.service.UnderwritingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts/sec through the batched write path for batches of 1, 100 and 10k entities.
+ * Runs against the datasource configured for the application, e.g.
+ * -Djmh.args="BatchInsertBenchmark -jvmArgs -Dspring.datasource.url=jdbc:mysql://..."
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class BatchInsertBenchmark {
+    
+    @Param({"1", "100", "10000"})
+    private int batchSize;
+    
+    private ConfigurableApplicationContext context;
+    private ClaimService claimService;
+    private PolicyService policyService;
+    private UnderwritingService underwritingService;
+    
+    private List<ClaimDTO> claims;
+    private List<PolicyDTO> policies;
+    private List<UnderwritingCaseDTO> cases;
+    
+    /**
+     * Reported by JMH as a secondary result; its rate is the inserts/sec figure.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Inserts {
+        public long rows;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InsuranceServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        claimService = context.getBean(ClaimService.class);
+        policyService = context.getBean(PolicyService.class);
+        underwritingService = context.getBean(UnderwritingService.class);
+        
+        claims = new ArrayList<>(batchSize);
+        policies = new ArrayList<>(batchSize);
+        cases = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            long customerId = 1_000_000L + i;
+            claims.add(ClaimDTO.builder()
+                .policyId(customerId)
+                .customerId(customerId)
+                .claimType(ClaimType.MEDICAL_EXPENSE)
+                .claimAmount(BigDecimal.valueOf(2_500))
+                .incidentDate(LocalDate.now().minusDays(10))
+                .incidentDescription("Outpatient treatment following a sports injury")
+                .incidentLocation("Pune")
+                .build());
+            policies.add(PolicyDTO.builder()
+                .customerId(customerId)
+                .productType(ProductType.HEALTH_INSURANCE)
+                .premium(BigDecimal.valueOf(1_200))
+                .coverageAmount(BigDecimal.valueOf(500_000))
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusYears(1))
+                .paymentFrequency(PaymentFrequency.MONTHLY)
+                .build());
+            cases.add(UnderwritingCaseDTO.builder()
+                .policyId(customerId)
+                .customerId(customerId)
+                .recommendedPremium(BigDecimal.valueOf(1_200))
+                .build());
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Object fileClaims(Inserts inserts) {
+        inserts.rows += batchSize;
+        return claimService.fileClaims(claims);
+    }
+    
+    @Benchmark
+    public Object createPolicies(Inserts inserts) {
+        inserts.rows += batchSize;
+        return policyService.createPolicies(policies);
+    }
+    
+    @Benchmark
+    public Object createCases(Inserts inserts) {
+        inserts.rows += batchSize;
+        return underwritingService.createCases(cases);
+    }
+}
@@ -0,0 +1,131 @@
+package com.fintech.insurance.benchmark;
+
+import com.fintech.insurance.InsuranceServiceApplication;
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.service.ClaimService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Approvals/sec through the previous read-modify-write path (findById, status
+ * check in Java, full-row save) against the single conditional UPDATE. Each
+ * operation also resets the claim to UNDER_REVIEW with one JDBC statement so it
+ * can be approved again; that cost is the same for both paths. Runs against the
+ * configured datasource, like {@link BatchInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class ClaimTransitionBenchmark {
+    
+    private static final int CLAIMS = 1024;
+    private static final Set<ClaimStatus> APPROVABLE = EnumSet.of(
+        ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING, ClaimStatus.REJECTED);
+    private static final BigDecimal APPROVED_AMOUNT = BigDecimal.valueOf(2_000);
+    
+    private ConfigurableApplicationContext context;
+    private ClaimRepository claimRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private long[] claimIds;
+    
+    // Threads start far apart in the ID range so they rarely touch the same claim
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+        
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams params) {
+            next = params.getThreadIndex() * (CLAIMS / params.getThreadCount());
+        }
+    }
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(InsuranceServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        claimRepository = context.getBean(ClaimRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        
+        List<ClaimDTO> claims = new ArrayList<>(CLAIMS);
+        for (int i = 0; i < CLAIMS; i++) {
+            claims.add(ClaimDTO.builder()
+                .policyId(2_000_000L + i)
+                .customerId(2_000_000L + i)
+                .claimType(ClaimType.VEHICLE_DAMAGE)
+                .claimAmount(BigDecimal.valueOf(5_000))
+                .incidentDate(LocalDate.now().minusDays(5))
+                .incidentDescription("Rear bumper damage in a parking lot collision")
+                .incidentLocation("Mumbai")
+                .build());
+        }
+        claimIds = context.getBean(ClaimService.class).fileClaims(claims).stream()
+            .mapToLong(ClaimDTO::getId)
+            .toArray();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Object readModifyWrite(Cursor cursor) {
+        long id = nextId(cursor);
+        Object result = transactionTemplate.execute(status -> {
+            Claim claim = claimRepository.findById(id).orElseThrow();
+            if (claim.getStatus() == ClaimStatus.APPROVED || claim.getStatus() == ClaimStatus.SETTLED) {
+                return null;
+            }
+            claim.setStatus(ClaimStatus.APPROVED);
+            claim.setApprovedAmount(APPROVED_AMOUNT);
+            claim.setAssessmentDate(LocalDate.now());
+            return claimRepository.save(claim);
+        });
+        reset(id);
+        return result;
+    }
+    
+    @Benchmark
+    public int conditionalUpdate(Cursor cursor) {
+        long id = nextId(cursor);
+        Integer updated = transactionTemplate.execute(status -> claimRepository.approveIfStatusIn(
+            id, APPROVABLE, APPROVED_AMOUNT, null, LocalDate.now(), LocalDateTime.now()));
+        reset(id);
+        return updated;
+    }
+    
+    private long nextId(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % claimIds.length;
+        return claimIds[cursor.next];
+    }
+    
+    private void reset(long id) {
+        jdbcTemplate.update("UPDATE claims SET status = 'UNDER_REVIEW' WHERE id = ?", id);
+    }
+}
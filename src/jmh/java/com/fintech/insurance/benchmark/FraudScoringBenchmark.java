@@ -0,0 +1,142 @@
+package com.fintech.insurance.benchmark;
+
+import com.fintech.insurance.claims.counter.InMemorySettledClaimCounter;
+import com.fintech.insurance.claims.fraud.FraudRuleEngine;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.service.ClaimMetrics;
+import com.fintech.insurance.claims.service.FraudDetectionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-claim latency of the compiled rule evaluator against the previous
+ * hard-coded scorer, plus the scoreAll batch path and risk-level banding.
+ * The settled-claim count comes from the in-memory counter store in both
+ * cases so the comparison covers scoring only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FraudScoringBenchmark {
+    
+    private static final int CLAIMS = 1024;
+    
+    private InMemorySettledClaimCounter counter;
+    private FraudDetectionService fraudDetectionService;
+    private List<Claim> claims;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.fintech.insurance"))
+            .setLevel(ch.qos.logback.classic.Level.OFF);
+        
+        counter = new InMemorySettledClaimCounter();
+        // Meters are no-ops here; MetricsOverheadBenchmark measures them
+        MeterRegistry noop = new SimpleMeterRegistry();
+        noop.config().meterFilter(MeterFilter.deny());
+        fraudDetectionService = new FraudDetectionService(counter,
+            new FraudRuleEngine(new DefaultResourceLoader(), "classpath:fraud-rules.properties"),
+            new ClaimMetrics(noop));
+        
+        SplittableRandom random = new SplittableRandom(42);
+        claims = new ArrayList<>(CLAIMS);
+        for (int i = 0; i < CLAIMS; i++) {
+            long customerId = 1 + random.nextInt(256);
+            counter.add(customerId, random.nextInt(6));
+            LocalDate filed = LocalDate.now();
+            claims.add(Claim.builder()
+                .customerId(customerId)
+                .claimType(ClaimType.values()[random.nextInt(ClaimType.values().length)])
+                .claimAmount(BigDecimal.valueOf(random.nextInt(15_000_000), 2))
+                .incidentDate(filed.minusDays(random.nextInt(365)))
+                .filedDate(filed)
+                .incidentLocation(random.nextBoolean() ? "Mumbai" : "  ")
+                .incidentDescription(random.nextBoolean() ? "Rear-ended at a traffic signal" : "Hit")
+                .build());
+        }
+        
+        for (Claim claim : claims) {
+            if (legacyScore(claim) != fraudDetectionService.calculateFraudScore(claim)) {
+                throw new IllegalStateException("Compiled rules disagree with legacy scorer for " + claim);
+            }
+        }
+    }
+    
+    private Claim nextClaim() {
+        next = (next + 1) & (CLAIMS - 1);
+        return claims.get(next);
+    }
+    
+    @Benchmark
+    public double legacy() {
+        return legacyScore(nextClaim());
+    }
+    
+    @Benchmark
+    public double compiled() {
+        return fraudDetectionService.calculateFraudScore(nextClaim());
+    }
+    
+    @Benchmark
+    public FraudRiskLevel riskLevel() {
+        return fraudDetectionService.determineFraudRiskLevel(fraudDetectionService.calculateFraudScore(nextClaim()));
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CLAIMS)
+    public double[] compiledBatch() {
+        return fraudDetectionService.scoreAll(claims);
+    }
+    
+    // FraudDetectionService.calculateFraudScore before the rule engine
+    private double legacyScore(Claim claim) {
+        double score = 0.0;
+        
+        Long previousClaims = counter.get(claim.getCustomerId());
+        if (previousClaims > 3) {
+            score += 0.30;
+        } else if (previousClaims > 1) {
+            score += 0.15;
+        }
+        
+        long daysSinceIncident = ChronoUnit.DAYS.between(claim.getIncidentDate(), claim.getFiledDate());
+        if (daysSinceIncident > 180) {
+            score += 0.15;
+        } else if (daysSinceIncident > 90) {
+            score += 0.08;
+        }
+        
+        if (claim.getClaimAmount().doubleValue() > 100000) {
+            score += 0.20;
+        } else if (claim.getClaimAmount().doubleValue() > 50000) {
+            score += 0.10;
+        }
+        
+        if (claim.getIncidentLocation() == null || claim.getIncidentLocation().trim().isEmpty()) {
+            score += 0.05;
+        }
+        if (claim.getIncidentDescription() == null || claim.getIncidentDescription().length() < 20) {
+            score += 0.10;
+        }
+        
+        return Math.min(score, 1.0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintech.insurance.benchmark;
+
+import com.fintech.insurance.common.id.BusinessIds;
+import com.fintech.insurance.common.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Snowflake generator, alone and with the prefixed string
+ * form the entities use. Run with {@code -t 1} and {@code -t 8} to see the
+ * cost of CAS contention on the shared state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+    
+    private SnowflakeIdGenerator generator;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new SnowflakeIdGenerator(1);
+    }
+    
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+    
+    @Benchmark
+    public String claimNumber() {
+        return generator.next(BusinessIds.CLAIM_PREFIX);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public long nextIdContended() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,122 @@
+package com.fintech.insurance.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fintech.insurance.common.logging.LogSampling;
+import com.fintech.insurance.common.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time a request thread spends in one log call, from four threads writing to a
+ * file. {@code sync} is the default console pattern with SQL logged in full;
+ * {@code json-logs} mirrors logback-spring.xml for that profile: sampled read
+ * paths and SQL, JSON lines behind a non-blocking async queue. Once the queue
+ * is full the async mode drops INFO events instead of waiting for the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+    
+    @Param({"sync", "json-logs"})
+    public String mode;
+    
+    private LoggerContext context;
+    private Path file;
+    private Logger service;
+    private Logger sql;
+    
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        file = Files.createTempFile("logging-benchmark", ".log");
+        
+        Encoder<ILoggingEvent> encoder;
+        if (mode.equals("sync")) {
+            PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+            pattern.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n");
+            encoder = pattern;
+        } else {
+            JsonEncoder json = new JsonEncoder();
+            json.setWithSequenceNumber(false);
+            json.setWithNanoseconds(false);
+            json.setWithContext(false);
+            json.setWithMessage(false);
+            json.setWithArguments(false);
+            json.setWithFormattedMessage(true);
+            encoder = json;
+        }
+        encoder.setContext(context);
+        encoder.start();
+        
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        if (mode.equals("sync")) {
+            root.addAppender(fileAppender);
+        } else {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.setRate(100);
+            filter.setLoggers("org.hibernate.SQL");
+            filter.start();
+            context.addTurboFilter(filter);
+            
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(fileAppender);
+            async.start();
+            root.addAppender(async);
+        }
+        
+        service = context.getLogger("com.fintech.insurance.claims.service.ClaimService");
+        sql = context.getLogger("org.hibernate.SQL");
+        sql.setLevel(Level.DEBUG);
+    }
+    
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+    
+    @Benchmark
+    public void readPath() {
+        service.info(LogSampling.SAMPLED, "Fetching claim: {}", 48211L);
+    }
+    
+    @Benchmark
+    public void writePath() {
+        service.info("Claim filed: {}, Fraud Score: {}, Risk Level: {}", "CLM-1792318936060", 0.35, "MEDIUM");
+    }
+    
+    @Benchmark
+    public void sqlStatement() {
+        sql.debug("select c1_0.id,c1_0.claim_amount,c1_0.claim_number,c1_0.status from claims c1_0 where c1_0.id=?");
+    }
+}
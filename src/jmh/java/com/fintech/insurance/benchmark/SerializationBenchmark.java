@@ -0,0 +1,113 @@
+package com.fintech.insurance.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.common.event.InsuranceEvent;
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.model.ProductType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the response DTOs and the Kafka event payload,
+ * through an ObjectMapper built with the same defaults Spring Boot uses
+ * (JavaTimeModule, ISO dates). Writers are resolved once, as the HTTP
+ * message converter and the outbox do after warm-up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    private ObjectWriter claimWriter;
+    private ObjectWriter policyWriter;
+    private ObjectWriter eventWriter;
+    private ClaimDTO claim;
+    private PolicyDTO policy;
+    private InsuranceEvent event;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        claimWriter = objectMapper.writerFor(ClaimDTO.class);
+        policyWriter = objectMapper.writerFor(PolicyDTO.class);
+        eventWriter = objectMapper.writerFor(InsuranceEvent.class);
+        
+        claim = ClaimDTO.builder()
+            .id(1_000_001L)
+            .claimNumber("CLM0000012345678901234567")
+            .policyId(42L)
+            .customerId(7L)
+            .claimType(ClaimType.VEHICLE_DAMAGE)
+            .claimAmount(new BigDecimal("18450.00"))
+            .approvedAmount(new BigDecimal("17000.00"))
+            .status(ClaimStatus.APPROVED)
+            .incidentDate(LocalDate.of(2026, 3, 14))
+            .incidentDescription("Rear-ended at a traffic signal on the ring road")
+            .incidentLocation("Mumbai")
+            .fraudScore(0.18)
+            .fraudRiskLevel(FraudRiskLevel.LOW)
+            .filedDate(LocalDate.of(2026, 3, 15))
+            .assessmentDate(LocalDate.of(2026, 3, 20))
+            .build();
+        policy = PolicyDTO.builder()
+            .id(2_000_001L)
+            .policyNumber("POL0000012345678901234567")
+            .customerId(7L)
+            .productType(ProductType.values()[0])
+            .premium(new BigDecimal("1250.00"))
+            .coverageAmount(new BigDecimal("500000.00"))
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2027, 1, 1))
+            .status(PolicyStatus.ACTIVE)
+            .description("Family floater with critical illness rider")
+            .beneficiary("Spouse")
+            .paymentFrequency(PaymentFrequency.values()[0])
+            .build();
+        event = InsuranceEvent.builder()
+            .eventId("EVT0000012345678901234567")
+            .eventType("CLAIM_APPROVED")
+            .timestamp(LocalDateTime.of(2026, 3, 20, 10, 15, 30))
+            .source("claims-service")
+            .claimId(1_000_001L)
+            .claimNumber("CLM0000012345678901234567")
+            .claimAmount(new BigDecimal("18450.00"))
+            .approvedAmount(new BigDecimal("17000.00"))
+            .claimStatus("APPROVED")
+            .fraudScore(0.18)
+            .fraudRiskLevel("LOW")
+            .policyId(42L)
+            .customerId(7L)
+            .build();
+    }
+    
+    @Benchmark
+    public byte[] claimDTO() throws JsonProcessingException {
+        return claimWriter.writeValueAsBytes(claim);
+    }
+    
+    @Benchmark
+    public byte[] policyDTO() throws JsonProcessingException {
+        return policyWriter.writeValueAsBytes(policy);
+    }
+    
+    @Benchmark
+    public byte[] insuranceEvent() throws JsonProcessingException {
+        return eventWriter.writeValueAsBytes(event);
+    }
+}
@@ -0,0 +1,56 @@
+package com.fintech.insurance.claims.service;
+
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on every claim read path. Lives in the service
+ * package because {@code mapToDTO} is package-private; run with
+ * {@code -prof gc} (the profile default) to see bytes allocated per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClaimMappingBenchmark {
+    
+    private Claim claim;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        claim = Claim.builder()
+            .id(1_000_001L)
+            .claimNumber("CLM0000012345678901234567")
+            .policyId(42L)
+            .customerId(7L)
+            .claimType(ClaimType.VEHICLE_DAMAGE)
+            .claimAmount(new BigDecimal("18450.00"))
+            .approvedAmount(new BigDecimal("17000.00"))
+            .status(ClaimStatus.APPROVED)
+            .incidentDate(LocalDate.of(2026, 3, 14))
+            .incidentDescription("Rear-ended at a traffic signal on the ring road")
+            .incidentLocation("Mumbai")
+            .fraudScore(0.18)
+            .fraudRiskLevel(FraudRiskLevel.LOW)
+            .assignedAdjusterId(311L)
+            .adjusterNotes("Garage estimate verified")
+            .filedDate(LocalDate.of(2026, 3, 15))
+            .assessmentDate(LocalDate.of(2026, 3, 20))
+            .build();
+    }
+    
+    @Benchmark
+    public ClaimDTO mapToDTO() {
+        return ClaimService.mapToDTO(claim);
+    }
+}
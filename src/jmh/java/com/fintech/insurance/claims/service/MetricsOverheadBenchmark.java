@@ -0,0 +1,140 @@
+package com.fintech.insurance.claims.service;
+
+import com.fintech.insurance.claims.counter.InMemorySettledClaimCounter;
+import com.fintech.insurance.claims.fraud.FraudRuleEngine;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.common.metrics.RepositoryQueryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.metrics.AutoTimer;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.MetricsRepositoryMethodInvocationListener;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the domain meters against a Prometheus registry with percentile
+ * histograms on. The gap between {@code fraudScoreBare} and
+ * {@code fraudScoreInstrumented} is one histogram update, around 100 ns, and the
+ * pre-registered paths should report ~0 B/op under {@code -prof gc} (the profile
+ * default), unlike the per-call registry lookup and Spring Boot's repository
+ * listener they replace.
+ * Lives in the service package because the ClaimMetrics record methods are
+ * package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    
+    private static final FraudRiskLevel[] LEVELS = FraudRiskLevel.values();
+    
+    private MeterRegistry prometheus;
+    private ClaimMetrics claimMetrics;
+    private FraudDetectionService bare;
+    private FraudDetectionService instrumented;
+    private Claim claim;
+    private RepositoryMethodInvocationListener repositoryQueryMetrics;
+    private RepositoryMethodInvocationListener bootRepositoryListener;
+    private RepositoryMethodInvocation invocation;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.fintech.insurance"))
+            .setLevel(ch.qos.logback.classic.Level.OFF);
+        
+        prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        claimMetrics = new ClaimMetrics(prometheus);
+        MeterRegistry noop = new SimpleMeterRegistry();
+        noop.config().meterFilter(MeterFilter.deny());
+        
+        InMemorySettledClaimCounter counter = new InMemorySettledClaimCounter();
+        counter.add(7L, 2);
+        FraudRuleEngine rules = new FraudRuleEngine(new DefaultResourceLoader(), "classpath:fraud-rules.properties");
+        bare = new FraudDetectionService(counter, rules, new ClaimMetrics(noop));
+        instrumented = new FraudDetectionService(counter, rules, claimMetrics);
+        claim = Claim.builder()
+            .customerId(7L)
+            .claimType(ClaimType.VEHICLE_DAMAGE)
+            .claimAmount(new BigDecimal("18450.00"))
+            .incidentDate(LocalDate.now().minusDays(12))
+            .filedDate(LocalDate.now())
+            .incidentLocation("Pune")
+            .incidentDescription("Rear-ended at a traffic signal")
+            .build();
+        
+        // Separate registries: the two listeners use different tag keys for the same name
+        repositoryQueryMetrics = new RepositoryQueryMetrics(() -> prometheus);
+        MeterRegistry bootRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        bootRepositoryListener = new MetricsRepositoryMethodInvocationListener(() -> bootRegistry,
+            new DefaultRepositoryTagsProvider(), RepositoryQueryMetrics.METRIC_NAME, AutoTimer.ENABLED);
+        invocation = new RepositoryMethodInvocation(ClaimRepository.class,
+            ClaimRepository.class.getMethod("findByPolicyId", Long.class), new RepositoryMethodInvocationResult() {
+                @Override
+                public State getState() {
+                    return State.SUCCESS;
+                }
+                
+                @Override
+                public Throwable getError() {
+                    return null;
+                }
+            }, 1_250_000L);
+    }
+    
+    private FraudRiskLevel nextLevel() {
+        next = (next + 1) % LEVELS.length;
+        return LEVELS[next];
+    }
+    
+    @Benchmark
+    public double fraudScoreBare() {
+        return bare.calculateFraudScore(claim);
+    }
+    
+    @Benchmark
+    public double fraudScoreInstrumented() {
+        return instrumented.calculateFraudScore(claim);
+    }
+    
+    @Benchmark
+    public void preRegisteredTimerAndCounter() {
+        claimMetrics.recordFileClaim(1_250_000L);
+        claimMetrics.countRiskLevel(nextLevel());
+    }
+    
+    // What the pre-registered meters avoid: a tag array and registry lookup per call
+    @Benchmark
+    public void registryLookupPerCall() {
+        prometheus.timer("claims.file").record(1_250_000L, TimeUnit.NANOSECONDS);
+        prometheus.counter("claims.fraud.risk", "level", nextLevel().name()).increment();
+    }
+    
+    @Benchmark
+    public void repositoryQueryMetrics() {
+        repositoryQueryMetrics.afterInvocation(invocation);
+    }
+    
+    @Benchmark
+    public void bootRepositoryListener() {
+        bootRepositoryListener.afterInvocation(invocation);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fintech.insurance.policy.service;
+
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.model.ProductType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on every policy read path. Lives in the service
+ * package because {@code mapToDTO} is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyMappingBenchmark {
+    
+    private PolicyService policyService;
+    private Policy policy;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // mapToDTO touches none of the collaborators
+        policyService = new PolicyService(null, null, null, null, null, null);
+        policy = Policy.builder()
+            .id(2_000_001L)
+            .policyNumber("POL0000012345678901234567")
+            .customerId(7L)
+            .productType(ProductType.values()[0])
+            .premium(new BigDecimal("1250.00"))
+            .coverageAmount(new BigDecimal("500000.00"))
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2027, 1, 1))
+            .status(PolicyStatus.ACTIVE)
+            .description("Family floater with critical illness rider")
+            .beneficiary("Spouse")
+            .paymentFrequency(PaymentFrequency.values()[0])
+            .build();
+    }
+    
+    @Benchmark
+    public PolicyDTO mapToDTO() {
+        return policyService.mapToDTO(policy);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.insurance.underwriting.service;
+
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.dto.QuoteDTO;
+import com.fintech.insurance.underwriting.dto.QuoteRequestDTO;
+import com.fintech.insurance.underwriting.rating.RiskRatingEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch quoting through QuoteService, reported in quotes per second. A
+ * parallelism of 1 with the slice as large as the batch prices it on the
+ * calling thread; the others split it into 1000-quote slices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuoteBenchmark {
+    
+    private static final int QUOTES = 10_000;
+    
+    @Param({"1", "4"})
+    public int parallelism;
+    
+    private QuoteService quoteService;
+    private List<QuoteRequestDTO> requests;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        RiskRatingEngine riskRatingEngine =
+            new RiskRatingEngine(new DefaultResourceLoader(), "classpath:underwriting-rating.properties");
+        int sliceSize = parallelism == 1 ? QUOTES : 1_000;
+        quoteService = new QuoteService(riskRatingEngine, new UnderwritingMetrics(new SimpleMeterRegistry()),
+            QUOTES, sliceSize, parallelism);
+        
+        ProductType[] productTypes = ProductType.values();
+        requests = new ArrayList<>(QUOTES);
+        for (int i = 0; i < QUOTES; i++) {
+            requests.add(QuoteRequestDTO.builder()
+                .reference("Q-" + i)
+                .productType(productTypes[i % productTypes.length])
+                .premium(BigDecimal.valueOf(50_000 + i * 137L, 2))
+                .coverageAmount(BigDecimal.valueOf(10_000L + i * 977L))
+                .termMonths(12 * (1 + i % 30))
+                .priorSettledClaims(i % 7)
+                .build());
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        quoteService.shutdown();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(QUOTES)
+    public List<QuoteDTO> quoteBatch() {
+        return quoteService.quote(requests);
+    }
+}
@@ -0,0 +1,133 @@
+package com.fintech.insurance.underwriting.service;
+
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.dto.UnderwritingCaseDTO;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import com.fintech.insurance.underwriting.model.UnderwritingCase;
+import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import com.fintech.insurance.underwriting.rating.RiskFactors;
+import com.fintech.insurance.underwriting.rating.RiskRatingEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Underwriting assessment: risk scoring against the rating tables (one case
+ * and a 1024-case batch), premium loading, the combined assessment used when
+ * a case is created, and DTO mapping. Lives in the service package because
+ * these methods are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnderwritingBenchmark {
+    
+    private static final int CASES = 1024;
+    
+    private UnderwritingService underwritingService;
+    private RiskRatingEngine riskRatingEngine;
+    private UnderwritingCaseDTO[] requests;
+    private Policy[] policies;
+    private long[] priorSettledClaims;
+    private RiskFactors factors;
+    private double[] scores;
+    private BigDecimal[] basePremiums;
+    private RiskLevel[] riskLevels;
+    private UnderwritingCase uwCase;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The assessment helpers only touch the rating engine
+        riskRatingEngine = new RiskRatingEngine(new DefaultResourceLoader(), "classpath:underwriting-rating.properties");
+        underwritingService = new UnderwritingService(null, null, null, null, null, null, null, null, riskRatingEngine);
+        
+        ProductType[] productTypes = ProductType.values();
+        requests = new UnderwritingCaseDTO[CASES];
+        policies = new Policy[CASES];
+        priorSettledClaims = new long[CASES];
+        basePremiums = new BigDecimal[CASES];
+        riskLevels = new RiskLevel[CASES];
+        for (int i = 0; i < CASES; i++) {
+            basePremiums[i] = BigDecimal.valueOf(50_000 + i * 137L, 2);
+            riskLevels[i] = RiskLevel.values()[i % RiskLevel.values().length];
+            requests[i] = UnderwritingCaseDTO.builder()
+                .policyId(1_000L + i)
+                .customerId(1L + i % 256)
+                .recommendedPremium(basePremiums[i])
+                .build();
+            LocalDate startDate = LocalDate.of(2026, 1, 1);
+            policies[i] = Policy.builder()
+                .id(1_000L + i)
+                .customerId(1L + i % 256)
+                .productType(productTypes[i % productTypes.length])
+                .premium(basePremiums[i])
+                .coverageAmount(BigDecimal.valueOf(10_000L + i * 977L))
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(12L * (1 + i % 30)))
+                .build();
+            priorSettledClaims[i] = i % 7;
+        }
+        factors = new RiskFactors(CASES);
+        scores = new double[CASES];
+        uwCase = UnderwritingCase.builder()
+            .id(3_000_001L)
+            .caseNumber("UW00000012345678901234567")
+            .policyId(42L)
+            .customerId(7L)
+            .riskScore(0.5)
+            .riskLevel(RiskLevel.HIGH)
+            .decision(UnderwritingDecision.REFERRED)
+            .underwriterNotes("Refer for medical history")
+            .recommendedPremium(new BigDecimal("1625.00"))
+            .build();
+    }
+    
+    private int nextIndex() {
+        next = (next + 1) & (CASES - 1);
+        return next;
+    }
+    
+    @Benchmark
+    public RiskLevel riskScoring() {
+        int i = nextIndex();
+        return underwritingService.determineRiskLevel(
+            underwritingService.calculateRiskScore(policies[i], priorSettledClaims[i]));
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(CASES)
+    public double[] batchRiskScoring() {
+        factors.clear();
+        for (int i = 0; i < CASES; i++) {
+            UnderwritingService.addFactors(factors, policies[i], priorSettledClaims[i]);
+        }
+        riskRatingEngine.current().scoreAll(factors, scores);
+        return scores;
+    }
+    
+    @Benchmark
+    public BigDecimal recommendedPremium() {
+        int i = nextIndex();
+        return underwritingService.calculateRecommendedPremium(basePremiums[i], riskLevels[i]);
+    }
+    
+    @Benchmark
+    public UnderwritingCase assessCase() {
+        int i = nextIndex();
+        return underwritingService.buildAssessedCase(requests[i],
+            underwritingService.calculateRiskScore(policies[i], priorSettledClaims[i]));
+    }
+    
+    @Benchmark
+    public UnderwritingCaseDTO mapToDTO() {
+        return underwritingService.mapToDTO(uwCase);
+    }
+}
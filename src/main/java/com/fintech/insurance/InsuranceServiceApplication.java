@@ -1,19 +1,28 @@
 package com.fintech.insurance;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.metrics.data.RepositoryMetricsAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC serves reads only; its transaction manager would displace the JPA one.
+// Repository timings are registered by MetricsConfig instead of Boot's listener.
+@SpringBootApplication(exclude = {
+    R2dbcTransactionManagerAutoConfiguration.class,
+    RepositoryMetricsAutoConfiguration.class
+})
 @EnableDiscoveryClient
 @EnableJpaAuditing
 @EnableMongoRepositories
 @EnableKafka
 @EnableCaching
+@EnableScheduling
 public class InsuranceServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(InsuranceServiceApplication.class, args);
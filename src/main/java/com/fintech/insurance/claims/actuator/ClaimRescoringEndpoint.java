@@ -0,0 +1,39 @@
+package com.fintech.insurance.claims.actuator;
+
+import com.fintech.insurance.claims.service.ClaimRescoringService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/claimrescoring reports progress and throughput, POST starts
+ * or resumes a run ({"restart": true} starts over), DELETE stops it after the current page.
+ */
+@Component
+@Endpoint(id = "claimrescoring")
+@RequiredArgsConstructor
+public class ClaimRescoringEndpoint {
+    
+    private final ClaimRescoringService claimRescoringService;
+    
+    @ReadOperation
+    public Map<String, Object> progress() {
+        return claimRescoringService.getProgress();
+    }
+    
+    @WriteOperation
+    public Map<String, Object> start(@Nullable Boolean restart) {
+        return claimRescoringService.start(Boolean.TRUE.equals(restart));
+    }
+    
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        return claimRescoringService.stop();
+    }
+}
@@ -1,14 +1,24 @@
 package com.fintech.insurance.claims.controller;
 
+import com.fintech.insurance.claims.dto.BulkApprovalRequest;
+import com.fintech.insurance.claims.dto.BulkRejectionRequest;
+import com.fintech.insurance.claims.dto.BulkSettlementRequest;
+import com.fintech.insurance.claims.dto.BulkTransitionResponse;
 import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.dto.ClaimPortfolioStatsDTO;
 import com.fintech.insurance.claims.service.ClaimService;
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -27,6 +37,19 @@ public class ClaimController {
         return ResponseEntity.status(HttpStatus.CREATED).body(filed);
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "File a batch of claims")
+    public ResponseEntity<List<ClaimDTO>> fileClaims(@Valid @RequestBody List<ClaimDTO> dtos) {
+        List<ClaimDTO> filed = claimService.fileClaims(dtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(filed);
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Live claim counts and amounts by status, type and fraud risk level")
+    public ResponseEntity<ClaimPortfolioStatsDTO> getPortfolioStats() {
+        return ResponseEntity.ok(claimService.getPortfolioStats());
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get claim by ID")
     public ResponseEntity<ClaimDTO> getClaim(@PathVariable Long id) {
@@ -55,6 +78,38 @@ public class ClaimController {
         return ResponseEntity.ok(claims);
     }
     
+    @GetMapping("/customer/{customerId}/page")
+    @Operation(summary = "Page through claims for customer by ID cursor")
+    public ResponseEntity<CursorPage<ClaimDTO>> getCustomerClaimsPage(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(claimService.getCustomerClaimsPage(customerId, after, size));
+    }
+    
+    @GetMapping(value = "/customer/{customerId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    @Operation(summary = "Stream claims for customer as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamCustomerClaims(@PathVariable Long customerId) {
+        StreamingResponseBody body = out -> claimService.streamCustomerClaims(customerId, out);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(body);
+    }
+    
+    @GetMapping("/policy/{policyId}/page")
+    @Operation(summary = "Page through claims for policy by ID cursor")
+    public ResponseEntity<CursorPage<ClaimDTO>> getClaimsByPolicyPage(
+            @PathVariable Long policyId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(claimService.getClaimsByPolicyPage(policyId, after, size));
+    }
+    
+    @GetMapping(value = "/policy/{policyId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    @Operation(summary = "Stream claims for policy as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamClaimsByPolicy(@PathVariable Long policyId) {
+        StreamingResponseBody body = out -> claimService.streamClaimsByPolicy(policyId, out);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(body);
+    }
+    
     @PostMapping("/{id}/approve")
     @Operation(summary = "Approve claim")
     public ResponseEntity<ClaimDTO> approveClaim(
@@ -80,4 +135,22 @@ public class ClaimController {
         ClaimDTO rejected = claimService.rejectClaim(id, reason);
         return ResponseEntity.ok(rejected);
     }
+    
+    @PostMapping("/bulk/approve")
+    @Operation(summary = "Approve many claims, with an outcome per claim")
+    public ResponseEntity<BulkTransitionResponse> bulkApproveClaims(@Valid @RequestBody BulkApprovalRequest request) {
+        return ResponseEntity.ok(claimService.bulkApproveClaims(request.getApprovals()));
+    }
+    
+    @PostMapping("/bulk/settle")
+    @Operation(summary = "Settle many claims, with an outcome per claim")
+    public ResponseEntity<BulkTransitionResponse> bulkSettleClaims(@Valid @RequestBody BulkSettlementRequest request) {
+        return ResponseEntity.ok(claimService.bulkSettleClaims(request.getClaimIds()));
+    }
+    
+    @PostMapping("/bulk/reject")
+    @Operation(summary = "Reject many claims, with an outcome per claim")
+    public ResponseEntity<BulkTransitionResponse> bulkRejectClaims(@Valid @RequestBody BulkRejectionRequest request) {
+        return ResponseEntity.ok(claimService.bulkRejectClaims(request.getClaimIds(), request.getReason()));
+    }
 }
@@ -0,0 +1,58 @@
+package com.fintech.insurance.claims.controller;
+
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.exception.ClaimNotFoundException;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.repository.ReactiveClaimReader;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only claim endpoints backed by R2DBC. Collections are streamed as NDJSON,
+ * one claim per line as rows arrive, or collected into a JSON array when the
+ * client asks for {@code application/json}.
+ */
+@RestController
+@RequestMapping("/api/reactive/claims")
+@RequiredArgsConstructor
+public class ReactiveClaimController {
+    
+    private final ReactiveClaimReader claimReader;
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get claim by ID (reactive)")
+    public Mono<ClaimDTO> getClaim(@PathVariable Long id) {
+        return claimReader.findById(id)
+            .switchIfEmpty(Mono.error(() -> new ClaimNotFoundException("Claim not found")));
+    }
+    
+    @GetMapping("/number/{claimNumber}")
+    @Operation(summary = "Get claim by number (reactive)")
+    public Mono<ClaimDTO> getClaimByNumber(@PathVariable String claimNumber) {
+        return claimReader.findByClaimNumber(claimNumber)
+            .switchIfEmpty(Mono.error(() -> new ClaimNotFoundException("Claim not found")));
+    }
+    
+    @GetMapping(value = "/customer/{customerId}", produces = {NdjsonWriter.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream claims for customer (reactive)")
+    public Flux<ClaimDTO> getCustomerClaims(@PathVariable Long customerId) {
+        return claimReader.streamByCustomerId(customerId);
+    }
+    
+    @GetMapping(value = "/policy/{policyId}", produces = {NdjsonWriter.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream claims for policy (reactive)")
+    public Flux<ClaimDTO> getClaimsByPolicy(@PathVariable Long policyId) {
+        return claimReader.streamByPolicyId(policyId);
+    }
+    
+    @GetMapping(value = "/status/{status}", produces = {NdjsonWriter.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream claims in a status (reactive)")
+    public Flux<ClaimDTO> getClaimsByStatus(@PathVariable ClaimStatus status) {
+        return claimReader.streamByStatus(status);
+    }
+}
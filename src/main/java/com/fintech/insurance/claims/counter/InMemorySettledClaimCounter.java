@@ -0,0 +1,83 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Node-local counter store. Settlements committed on other nodes are only
+ * picked up by reconciliation, so multi-node deployments should use the Redis store.
+ */
+@Component
+@ConditionalOnProperty(name = "insurance.fraud.settled-counter.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySettledClaimCounter implements SettledClaimCounter {
+    
+    private final LongCounterMap counts = new LongCounterMap(1 << 16);
+    // Claim -> customer of settlements held back until the seed, null once seeded; guarded by this
+    private volatile Map<Long, Long> pending = new HashMap<>();
+    
+    @Override
+    public long get(long customerId) {
+        return counts.get(customerId);
+    }
+    
+    @Override
+    public long[] getAll(long[] customerIds) {
+        long[] result = new long[customerIds.length];
+        for (int i = 0; i < customerIds.length; i++) {
+            result[i] = counts.get(customerIds[i]);
+        }
+        return result;
+    }
+    
+    @Override
+    public void increment(long customerId, long claimId) {
+        if (pending != null) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.put(claimId, customerId);
+                    return;
+                }
+            }
+        }
+        counts.add(customerId, 1L);
+    }
+    
+    @Override
+    public void add(long customerId, long delta) {
+        counts.add(customerId, delta);
+    }
+    
+    @Override
+    public synchronized boolean seed(Iterable<CustomerClaimCount> seedCounts,
+                                     Function<Collection<Long>, Collection<Long>> alreadyCounted) {
+        if (pending == null) {
+            return false;
+        }
+        for (CustomerClaimCount count : seedCounts) {
+            counts.put(count.getCustomerId(), count.getClaimCount());
+        }
+        if (!pending.isEmpty()) {
+            Set<Long> counted = new HashSet<>(alreadyCounted.apply(pending.keySet()));
+            pending.forEach((claimId, customerId) -> {
+                if (!counted.contains(claimId)) {
+                    counts.add(customerId, 1L);
+                }
+            });
+        }
+        pending = null;
+        return true;
+    }
+    
+    @Override
+    public void forEach(CountVisitor visitor) {
+        counts.forEach(visitor);
+    }
+}
@@ -0,0 +1,165 @@
+package com.fintech.insurance.claims.counter;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing long-to-long map with no boxing on the read path.
+ * Reads are optimistic and only fall back to a read lock when they race a write.
+ */
+final class LongCounterMap {
+    
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.5f;
+    
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+    
+    LongCounterMap(int expectedSize) {
+        this.table = new Table(tableSizeFor(expectedSize));
+    }
+    
+    long get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        long value = table.find(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = table.find(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+    
+    void add(long key, long delta) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotFor(key);
+            table.values[slot] += delta;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    void put(long key, long value) {
+        checkKey(key);
+        long stamp = lock.writeLock();
+        try {
+            int slot = slotFor(key);
+            table.values[slot] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    void forEach(SettledClaimCounter.CountVisitor visitor) {
+        long stamp = lock.readLock();
+        try {
+            long[] keys = table.keys;
+            long[] values = table.values;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    visitor.visit(keys[i], values[i]);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    // Caller holds the write lock
+    private int slotFor(long key) {
+        int slot = table.indexOf(key);
+        if (table.keys[slot] == key) {
+            return slot;
+        }
+        if (size + 1 > table.keys.length * LOAD_FACTOR) {
+            table = table.grow();
+            slot = table.indexOf(key);
+        }
+        table.keys[slot] = key;
+        size++;
+        return slot;
+    }
+    
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Unsupported key: " + key);
+        }
+    }
+    
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+    
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    private static final class Table {
+        final long[] keys;
+        final long[] values;
+        
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+        
+        long find(long key) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            // Bounded probe: an optimistic reader may observe a table mid-write
+            for (int probes = 0; probes <= mask; probes++) {
+                long k = keys[i];
+                if (k == key) {
+                    return values[i];
+                }
+                if (k == EMPTY) {
+                    return 0L;
+                }
+                i = (i + 1) & mask;
+            }
+            return 0L;
+        }
+        
+        int indexOf(long key) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+        
+        Table grow() {
+            Table grown = new Table(keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    int slot = grown.indexOf(keys[i]);
+                    grown.keys[slot] = keys[i];
+                    grown.values[slot] = values[i];
+                }
+            }
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Counter store shared by all nodes, kept in a single Redis hash keyed by customer ID.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "insurance.fraud.settled-counter.store", havingValue = "redis")
+public class RedisSettledClaimCounter implements SettledClaimCounter {
+    
+    static final String COUNTS_KEY = "insurance:claims:settled-by-customer";
+    static final String SEEDED_KEY = COUNTS_KEY + ":seeded";
+    static final String SEED_LOCK_KEY = COUNTS_KEY + ":seeding";
+    // Claim -> customer of settlements held back until the hash is seeded
+    static final String PENDING_KEY = COUNTS_KEY + ":pending";
+    // Outlives any normal seed; if the seeding node dies, the next node to start takes over
+    private static final Duration SEED_LOCK_TTL = Duration.ofMinutes(10);
+    private static final int SEED_BATCH_SIZE = 1000;
+    
+    // Checking the seeded flag and counting in one script, so no increment can fall between the two
+    private static final RedisScript<Long> INCREMENT = RedisScript.of("""
+        if redis.call('EXISTS', KEYS[3]) == 1 then
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+        end
+        redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+        return 0
+        """, Long.class);
+    
+    // ARGV holds the held-back claims the seed counts already include
+    private static final RedisScript<Long> FINISH_SEED = RedisScript.of("""
+        local counted = {}
+        for i = 1, #ARGV do
+            counted[ARGV[i]] = true
+        end
+        local pending = redis.call('HGETALL', KEYS[2])
+        for i = 1, #pending, 2 do
+            if not counted[pending[i]] then
+                redis.call('HINCRBY', KEYS[1], pending[i + 1], 1)
+            end
+        end
+        redis.call('DEL', KEYS[2])
+        redis.call('SET', KEYS[3], '1')
+        return #pending / 2
+        """, Long.class);
+    
+    private final StringRedisTemplate redisTemplate;
+    
+    @Override
+    public long get(long customerId) {
+        String value = hash().get(COUNTS_KEY, Long.toString(customerId));
+        return value == null ? 0L : Long.parseLong(value);
+    }
+    
+    @Override
+    public long[] getAll(long[] customerIds) {
+        List<String> fields = new ArrayList<>(customerIds.length);
+        for (long customerId : customerIds) {
+            fields.add(Long.toString(customerId));
+        }
+        // Single HMGET round trip for the whole batch
+        List<String> values = hash().multiGet(COUNTS_KEY, fields);
+        long[] result = new long[customerIds.length];
+        for (int i = 0; i < result.length; i++) {
+            String value = values.get(i);
+            result[i] = value == null ? 0L : Long.parseLong(value);
+        }
+        return result;
+    }
+    
+    @Override
+    public void increment(long customerId, long claimId) {
+        redisTemplate.execute(INCREMENT, List.of(COUNTS_KEY, PENDING_KEY, SEEDED_KEY),
+            Long.toString(customerId), Long.toString(claimId));
+    }
+    
+    @Override
+    public void add(long customerId, long delta) {
+        hash().increment(COUNTS_KEY, Long.toString(customerId), delta);
+    }
+    
+    @Override
+    public boolean seed(Iterable<CustomerClaimCount> counts,
+                        Function<Collection<Long>, Collection<Long>> alreadyCounted) {
+        // Only one node seeds the shared hash at a time; the rest reuse it
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, "1", SEED_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY))) {
+                return false;
+            }
+            List<CustomerClaimCount> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (CustomerClaimCount count : counts) {
+                batch.add(count);
+                if (batch.size() == SEED_BATCH_SIZE) {
+                    putAll(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                putAll(batch);
+            }
+            // Settlements held back after this read are newer than the seed's counts and all applied
+            Set<String> held = hash().keys(PENDING_KEY);
+            List<String> counted = new ArrayList<>();
+            if (!held.isEmpty()) {
+                List<Long> claimIds = held.stream().map(Long::valueOf).toList();
+                alreadyCounted.apply(claimIds).forEach(claimId -> counted.add(claimId.toString()));
+            }
+            // Marked only once complete, so a seed cut short is redone by the next node to start
+            redisTemplate.execute(FINISH_SEED, List.of(COUNTS_KEY, PENDING_KEY, SEEDED_KEY), counted.toArray());
+            return true;
+        } finally {
+            redisTemplate.delete(SEED_LOCK_KEY);
+        }
+    }
+    
+    // HSET per customer in one pipelined round trip; settlements since startup are held back, not in the hash
+    private void putAll(List<CustomerClaimCount> batch) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection strings = (StringRedisConnection) connection;
+            for (CustomerClaimCount count : batch) {
+                strings.hSet(COUNTS_KEY, count.getCustomerId().toString(), count.getClaimCount().toString());
+            }
+            return null;
+        });
+    }
+    
+    @Override
+    public void forEach(CountVisitor visitor) {
+        ScanOptions options = ScanOptions.scanOptions().count(SEED_BATCH_SIZE).build();
+        try (Cursor<Map.Entry<String, String>> cursor = hash().scan(COUNTS_KEY, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<String, String> entry = cursor.next();
+                visitor.visit(Long.parseLong(entry.getKey()), Long.parseLong(entry.getValue()));
+            }
+        }
+    }
+    
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Per-customer count of settled claims, read by the fraud scorer on every
+ * filed claim instead of running a COUNT over the claims table.
+ */
+public interface SettledClaimCounter {
+    
+    long get(long customerId);
+    
+    /**
+     * Looks up several customers in one call; results line up with the input.
+     */
+    long[] getAll(long[] customerIds);
+    
+    /**
+     * Counts a committed settlement. Until the store is seeded the settlement is
+     * held back by claim and applied by the seed, unless the seed's counts
+     * already include it.
+     */
+    void increment(long customerId, long claimId);
+    
+    /**
+     * Adds {@code delta} to the customer's count. Reconciliation corrects drift
+     * this way so that an increment landing meanwhile is kept.
+     */
+    void add(long customerId, long delta);
+    
+    /**
+     * Seeds the store from the database counts, then applies the settlements
+     * held back so far. {@code alreadyCounted} gets the held-back claim IDs and
+     * returns those the counts already include; it must read the same snapshot
+     * as the counts. Returns false when another node (or an earlier run) has
+     * seeded, or is seeding, a shared store. An interrupted seed can safely be
+     * run again.
+     */
+    boolean seed(Iterable<CustomerClaimCount> counts, Function<Collection<Long>, Collection<Long>> alreadyCounted);
+    
+    void forEach(CountVisitor visitor);
+    
+    @FunctionalInterface
+    interface CountVisitor {
+        void visit(long customerId, long count);
+    }
+}
@@ -0,0 +1,101 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.event.ClaimEvent;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds the settled-claim counters at startup, applies settlements once they
+ * commit and periodically reconciles the store against the claims table.
+ */
+@Component
+@Slf4j
+public class SettledClaimCounterMaintenance {
+    
+    private final SettledClaimCounter counter;
+    private final ClaimRepository claimRepository;
+    private final AtomicLong lastCorrected = new AtomicLong();
+    
+    public SettledClaimCounterMaintenance(SettledClaimCounter counter, ClaimRepository claimRepository,
+                                          MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.claimRepository = claimRepository;
+        Gauge.builder("claims.settled.counter.drift", lastCorrected, AtomicLong::get)
+            .description("Customers corrected by the last settled-claim counter reconciliation")
+            .register(meterRegistry);
+    }
+    
+    // One snapshot for the counts and for which held-back settlements they already include
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void seed() {
+        long start = System.currentTimeMillis();
+        List<CustomerClaimCount> counts = claimRepository.countSettledClaimsGroupedByCustomer();
+        if (counter.seed(counts, claimRepository::findSettledClaimIds)) {
+            log.info("Seeded settled-claim counters for {} customers in {} ms",
+                counts.size(), System.currentTimeMillis() - start);
+        } else {
+            log.info("Settled-claim counters already seeded or being seeded by another node, skipping");
+        }
+    }
+    
+    @TransactionalEventListener(condition = "#event.eventType == 'CLAIM_SETTLED'")
+    public void onClaimSettled(ClaimEvent event) {
+        counter.increment(event.getCustomerId(), event.getClaimId());
+    }
+    
+    @Scheduled(initialDelayString = "${insurance.fraud.settled-counter.reconcile-interval:PT1H}",
+               fixedDelayString = "${insurance.fraud.settled-counter.reconcile-interval:PT1H}")
+    public void reconcile() {
+        Map<Long, Long> expected = new HashMap<>();
+        for (CustomerClaimCount count : claimRepository.countSettledClaimsGroupedByCustomer()) {
+            expected.put(count.getCustomerId(), count.getClaimCount());
+        }
+        
+        List<Long> suspects = new ArrayList<>();
+        expected.forEach((customerId, count) -> {
+            if (counter.get(customerId) != count) {
+                suspects.add(customerId);
+            }
+        });
+        counter.forEach((customerId, count) -> {
+            if (count != 0 && !expected.containsKey(customerId)) {
+                suspects.add(customerId);
+            }
+        });
+        
+        // Re-check each suspect on its own so a settlement that committed
+        // during the scan above is not "corrected" back to a stale count, and
+        // apply the difference so an increment landing meanwhile is kept
+        long corrected = 0;
+        for (Long customerId : suspects) {
+            long actual = claimRepository.countSettledClaimsByCustomer(customerId);
+            long stored = counter.get(customerId);
+            if (stored != actual) {
+                log.warn("Settled-claim counter drift for customer {}: store={}, database={}",
+                    customerId, stored, actual);
+                counter.add(customerId, actual - stored);
+                corrected++;
+            }
+        }
+        lastCorrected.set(corrected);
+        log.info("Settled-claim counter reconciliation checked {} customers, corrected {}",
+            expected.size(), corrected);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintech.insurance.claims.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalRequest {
+    
+    @NotEmpty(message = "At least one approval is required")
+    private List<@Valid Approval> approvals;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Approval {
+        
+        @NotNull(message = "Claim ID is required")
+        private Long claimId;
+        
+        @NotNull(message = "Approved amount is required")
+        @DecimalMin(value = "0.01", message = "Approved amount must be greater than 0")
+        private BigDecimal approvedAmount;
+        
+        private String notes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fintech.insurance.claims.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRejectionRequest {
+    
+    @NotEmpty(message = "At least one claim ID is required")
+    private List<@NotNull Long> claimIds;
+    
+    @NotBlank(message = "Rejection reason is required")
+    private String reason;
+}
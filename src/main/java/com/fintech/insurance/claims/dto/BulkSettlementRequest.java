@@ -0,0 +1,20 @@
+package com.fintech.insurance.claims.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSettlementRequest {
+    
+    @NotEmpty(message = "At least one claim ID is required")
+    private List<@NotNull Long> claimIds;
+}
@@ -0,0 +1,33 @@
+package com.fintech.insurance.claims.dto;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.service.ClaimTransitionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResponse {
+    
+    private ClaimStatus targetStatus;
+    private int requested;
+    private int applied;
+    private List<Item> results;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long claimId;
+        private ClaimTransitionResult.Outcome outcome;
+        // New status when applied, otherwise the status that blocked the transition
+        private ClaimStatus status;
+    }
+}
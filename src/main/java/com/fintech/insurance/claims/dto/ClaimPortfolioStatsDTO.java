@@ -0,0 +1,37 @@
+package com.fintech.insurance.claims.dto;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimPortfolioStatsDTO {
+    
+    private long totalClaims;
+    private BigDecimal totalClaimedAmount;
+    private BigDecimal totalApprovedAmount;
+    private Map<ClaimStatus, Aggregate> byStatus;
+    private Map<ClaimType, Aggregate> byClaimType;
+    // Keyed by FraudRiskLevel, plus UNSCORED for claims still waiting for the scoring pipeline
+    private Map<String, Aggregate> byFraudRiskLevel;
+    private LocalDateTime seededAt;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Aggregate {
+        private long count;
+        private BigDecimal claimedAmount;
+    }
+}
@@ -18,7 +18,11 @@ public class ClaimEvent {
     private String claimNumber;
     private Long policyId;
     private Long customerId;
+    private String claimType;
     private BigDecimal claimAmount;
     private BigDecimal approvedAmount;
+    private String fraudRiskLevel;
+    // Null for CLAIM_FILED
+    private String previousStatus;
     private String status;
 }
\ No newline at end of file
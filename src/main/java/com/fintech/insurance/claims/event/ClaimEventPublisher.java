@@ -0,0 +1,227 @@
+package com.fintech.insurance.claims.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.concurrent.BoundedMpmcQueue;
+import com.fintech.insurance.common.tracing.EventTracing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands committed claim lifecycle events to Kafka without ever blocking the
+ * request thread. Events go through a bounded lock-free queue drained by a
+ * single sender thread; when the queue is full the configured
+ * {@link OverflowPolicy} decides which event is dropped. Each event keeps the
+ * traceparent of the request that published it, and the sender continues that
+ * trace with a producer span.
+ */
+@Component
+@Slf4j
+public class ClaimEventPublisher implements SmartLifecycle {
+    
+    public enum OverflowPolicy {
+        /** Reject the event being published and keep the backlog. */
+        DROP_NEWEST,
+        /** Discard the oldest queued event to make room for the new one. */
+        DROP_OLDEST
+    }
+    
+    private static final long MIN_IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    
+    private final BoundedMpmcQueue<QueuedEvent> queue;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventTracing eventTracing;
+    private final String topic;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter sent;
+    private final Counter failed;
+    private final Timer sendSucceeded;
+    private final Timer sendFailed;
+    
+    private volatile boolean running;
+    private volatile Thread sender;
+    
+    public ClaimEventPublisher(KafkaTemplate<String, String> kafkaTemplate,
+                               ObjectMapper objectMapper,
+                               EventTracing eventTracing,
+                               MeterRegistry meterRegistry,
+                               @Value("${insurance.claims.events.topic:claim-events}") String topic,
+                               @Value("${insurance.claims.events.queue-capacity:8192}") int queueCapacity,
+                               @Value("${insurance.claims.events.batch-size:256}") int batchSize,
+                               @Value("${insurance.claims.events.overflow-policy:drop-newest}") OverflowPolicy overflowPolicy) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.eventTracing = eventTracing;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new BoundedMpmcQueue<>(queueCapacity);
+        Gauge.builder("claims.events.queue.depth", queue, BoundedMpmcQueue::size)
+            .description("Claim events waiting for the Kafka sender")
+            .register(meterRegistry);
+        this.queued = Counter.builder("claims.events.queued").register(meterRegistry);
+        this.dropped = Counter.builder("claims.events.dropped").register(meterRegistry);
+        this.sent = Counter.builder("claims.events.sent").register(meterRegistry);
+        this.failed = Counter.builder("claims.events.failed").register(meterRegistry);
+        this.sendSucceeded = sendTimer(meterRegistry, "success");
+        this.sendFailed = sendTimer(meterRegistry, "failure");
+    }
+    
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("kafka.send")
+            .description("Time from handing a record to the producer until the broker acknowledges it")
+            .tag("producer", "claim-events")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+    }
+    
+    @TransactionalEventListener
+    public void onClaimEvent(ClaimEvent event) {
+        publish(event);
+    }
+    
+    /**
+     * Returns false if the event was dropped because the queue is full.
+     */
+    public boolean publish(ClaimEvent event) {
+        // Captured here: the sender thread runs outside the publishing request's trace
+        QueuedEvent queuedEvent = new QueuedEvent(event, eventTracing.currentTraceparent());
+        if (queue.offer(queuedEvent)) {
+            queued.increment();
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            // Other producers may take the freed slot first, so only try a few times
+            for (int attempt = 0; attempt < 3; attempt++) {
+                if (queue.poll() != null) {
+                    dropped.increment();
+                }
+                if (queue.offer(queuedEvent)) {
+                    queued.increment();
+                    return true;
+                }
+            }
+        }
+        dropped.increment();
+        log.warn("Claim event queue full, dropped {} for claim {}", event.getEventType(), event.getClaimNumber());
+        return false;
+    }
+    
+    @Override
+    public void start() {
+        running = true;
+        sender = new Thread(this::sendLoop, "claim-event-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = sender;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (queue.size() > 0) {
+            log.warn("Stopped with {} claim events still queued", queue.size());
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void sendLoop() {
+        List<QueuedEvent> batch = new ArrayList<>(batchSize);
+        long idleNanos = MIN_IDLE_NANOS;
+        while (running || queue.size() > 0) {
+            QueuedEvent event;
+            while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(idleNanos);
+                idleNanos = Math.min(idleNanos * 2, MAX_IDLE_NANOS);
+                continue;
+            }
+            idleNanos = MIN_IDLE_NANOS;
+            // The producer groups these into record batches (linger.ms / batch-size)
+            for (QueuedEvent queuedEvent : batch) {
+                send(queuedEvent);
+            }
+            batch.clear();
+        }
+        kafkaTemplate.flush();
+    }
+    
+    private void send(QueuedEvent queuedEvent) {
+        ClaimEvent event = queuedEvent.event();
+        Span span = null;
+        try {
+            ProducerRecord<String, String> record =
+                new ProducerRecord<>(topic, event.getClaimNumber(), objectMapper.writeValueAsString(event));
+            span = eventTracing.startPublishSpan("claim event publish", queuedEvent.traceparent(), record);
+            Span publishSpan = span;
+            long sentAt = System.nanoTime();
+            kafkaTemplate.send(record)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        sendSucceeded.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                        sent.increment();
+                    } else {
+                        sendFailed.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                        failed.increment();
+                        log.warn("Failed to send {} for claim {}: {}",
+                            event.getEventType(), event.getClaimNumber(), ex.getMessage());
+                    }
+                    endSpan(publishSpan, ex);
+                });
+        } catch (JsonProcessingException | RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to send {} for claim {}: {}", event.getEventType(), event.getClaimNumber(), e.getMessage());
+            endSpan(span, e);
+        }
+    }
+    
+    private static void endSpan(Span span, Throwable error) {
+        if (span != null) {
+            if (error != null) {
+                span.error(error);
+            }
+            span.end();
+        }
+    }
+    
+    private record QueuedEvent(ClaimEvent event, String traceparent) {
+    }
+}
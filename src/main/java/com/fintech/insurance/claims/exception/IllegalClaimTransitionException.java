@@ -0,0 +1,17 @@
+package com.fintech.insurance.claims.exception;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import lombok.Getter;
+
+@Getter
+public class IllegalClaimTransitionException extends InvalidClaimException {
+    
+    private final ClaimStatus currentStatus;
+    private final ClaimStatus targetStatus;
+    
+    public IllegalClaimTransitionException(Long claimId, ClaimStatus currentStatus, ClaimStatus targetStatus) {
+        super("Claim " + claimId + " cannot move from " + currentStatus + " to " + targetStatus);
+        this.currentStatus = currentStatus;
+        this.targetStatus = targetStatus;
+    }
+}
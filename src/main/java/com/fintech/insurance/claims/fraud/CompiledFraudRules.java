@@ -0,0 +1,207 @@
+package com.fintech.insurance.claims.fraud;
+
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable fraud rule set compiled into primitive arrays. Scoring a claim
+ * does not allocate: thresholds are pre-parsed and amounts are compared
+ * as BigDecimal without converting them to double.
+ */
+public final class CompiledFraudRules {
+    
+    private static final FraudRiskLevel[] LEVELS = {
+        FraudRiskLevel.CRITICAL, FraudRiskLevel.HIGH, FraudRiskLevel.MEDIUM
+    };
+    
+    private final String source;
+    private final Instant loadedAt;
+    
+    private final long[] priorClaimThresholds;
+    private final double[] priorClaimWeights;
+    private final long[] lateFilingThresholds;
+    private final double[] lateFilingWeights;
+    private final BigDecimal[] amountThresholds;
+    private final double[] amountWeights;
+    private final double missingLocationWeight;
+    private final double shortDescriptionWeight;
+    private final int minDescriptionLength;
+    private final double[] levelThresholds;
+    
+    private CompiledFraudRules(String source, Properties rules) {
+        this.source = source;
+        this.loadedAt = Instant.now();
+        
+        String[][] priorClaims = tiers(rules, "factor.prior-settled-claims");
+        priorClaimThresholds = longThresholds(priorClaims);
+        priorClaimWeights = weights(priorClaims);
+        
+        String[][] lateFiling = tiers(rules, "factor.days-since-incident");
+        lateFilingThresholds = longThresholds(lateFiling);
+        lateFilingWeights = weights(lateFiling);
+        
+        String[][] amounts = tiers(rules, "factor.claim-amount");
+        amountThresholds = new BigDecimal[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amountThresholds[i] = new BigDecimal(amounts[i][0]);
+            if (i > 0 && amountThresholds[i].compareTo(amountThresholds[i - 1]) >= 0) {
+                throw new IllegalArgumentException("factor.claim-amount tiers must be in descending order");
+            }
+        }
+        amountWeights = weights(amounts);
+        
+        missingLocationWeight = weight(required(rules, "factor.missing-location"), "factor.missing-location");
+        shortDescriptionWeight = weight(required(rules, "factor.short-description"), "factor.short-description");
+        minDescriptionLength = Integer.parseInt(required(rules, "factor.short-description.min-length"));
+        
+        levelThresholds = new double[] {
+            weight(required(rules, "level.critical"), "level.critical"),
+            weight(required(rules, "level.high"), "level.high"),
+            weight(required(rules, "level.medium"), "level.medium")
+        };
+        if (levelThresholds[0] < levelThresholds[1] || levelThresholds[1] < levelThresholds[2]) {
+            throw new IllegalArgumentException("Risk level thresholds must satisfy critical >= high >= medium");
+        }
+    }
+    
+    public static CompiledFraudRules compile(String source, Properties rules) {
+        return new CompiledFraudRules(source, rules);
+    }
+    
+    public double score(long priorSettledClaims, long daysSinceIncident, BigDecimal claimAmount,
+                        String incidentLocation, String incidentDescription) {
+        double score = 0.0;
+        score += tier(priorSettledClaims, priorClaimThresholds, priorClaimWeights);
+        score += tier(daysSinceIncident, lateFilingThresholds, lateFilingWeights);
+        for (int i = 0; i < amountThresholds.length; i++) {
+            if (claimAmount.compareTo(amountThresholds[i]) > 0) {
+                score += amountWeights[i];
+                break;
+            }
+        }
+        if (isBlank(incidentLocation)) {
+            score += missingLocationWeight;
+        }
+        if (incidentDescription == null || incidentDescription.length() < minDescriptionLength) {
+            score += shortDescriptionWeight;
+        }
+        return Math.min(score, 1.0);
+    }
+    
+    public FraudRiskLevel riskLevel(double fraudScore) {
+        for (int i = 0; i < levelThresholds.length; i++) {
+            if (fraudScore >= levelThresholds[i]) {
+                return LEVELS[i];
+            }
+        }
+        return FraudRiskLevel.LOW;
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+    
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("source", source);
+        description.put("loadedAt", loadedAt);
+        description.put("priorSettledClaims", describeTiers(priorClaimThresholds, priorClaimWeights));
+        description.put("daysSinceIncident", describeTiers(lateFilingThresholds, lateFilingWeights));
+        description.put("claimAmount", describeTiers(amountThresholds, amountWeights));
+        description.put("missingLocation", missingLocationWeight);
+        description.put("shortDescription", shortDescriptionWeight);
+        description.put("shortDescriptionMinLength", minDescriptionLength);
+        description.put("levels", Map.of(
+            "critical", levelThresholds[0], "high", levelThresholds[1], "medium", levelThresholds[2]));
+        return description;
+    }
+    
+    private static double tier(long value, long[] thresholds, double[] weights) {
+        for (int i = 0; i < thresholds.length; i++) {
+            if (value > thresholds[i]) {
+                return weights[i];
+            }
+        }
+        return 0.0;
+    }
+    
+    // Same notion of blank as String.trim().isEmpty(), without the copy
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static String required(Properties rules, String key) {
+        String value = rules.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing fraud rule: " + key);
+        }
+        return value.trim();
+    }
+    
+    private static String[][] tiers(Properties rules, String key) {
+        String[] entries = required(rules, key).split(",");
+        String[][] tiers = new String[entries.length][];
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid tier '" + entries[i] + "' in " + key);
+            }
+            tiers[i] = new String[] { pair[0].trim(), pair[1].trim() };
+        }
+        return tiers;
+    }
+    
+    private static long[] longThresholds(String[][] tiers) {
+        long[] thresholds = new long[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            thresholds[i] = Long.parseLong(tiers[i][0]);
+            if (i > 0 && thresholds[i] >= thresholds[i - 1]) {
+                throw new IllegalArgumentException("Tiers must be in descending order: " + Arrays.toString(thresholds));
+            }
+        }
+        return thresholds;
+    }
+    
+    private static double[] weights(String[][] tiers) {
+        double[] weights = new double[tiers.length];
+        for (int i = 0; i < tiers.length; i++) {
+            weights[i] = weight(tiers[i][1], "tier weight");
+        }
+        return weights;
+    }
+    
+    private static double weight(String value, String name) {
+        double weight = Double.parseDouble(value);
+        if (weight < 0.0 || weight > 1.0) {
+            throw new IllegalArgumentException(name + " must be between 0.0 and 1.0: " + value);
+        }
+        return weight;
+    }
+    
+    private static Map<String, Double> describeTiers(Object thresholds, double[] weights) {
+        Map<String, Double> tiers = new LinkedHashMap<>();
+        for (int i = 0; i < weights.length; i++) {
+            Object threshold = thresholds instanceof long[] longs ? longs[i] : ((Object[]) thresholds)[i];
+            tiers.put(">" + threshold, weights[i]);
+        }
+        return tiers;
+    }
+}
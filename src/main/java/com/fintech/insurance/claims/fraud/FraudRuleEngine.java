@@ -0,0 +1,72 @@
+package com.fintech.insurance.claims.fraud;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active fraud rule set. Reloads compile a complete new rule set
+ * off to the side and swap it in atomically, so a scoring call always sees
+ * one consistent version; an invalid file leaves the current rules in place.
+ */
+@Component
+@Slf4j
+public class FraudRuleEngine {
+    
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final AtomicReference<CompiledFraudRules> rules = new AtomicReference<>();
+    private volatile long lastModified;
+    
+    public FraudRuleEngine(ResourceLoader resourceLoader,
+                           @Value("${insurance.fraud.rules.location:classpath:fraud-rules.properties}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        rules.set(load());
+    }
+    
+    public CompiledFraudRules current() {
+        return rules.get();
+    }
+    
+    public CompiledFraudRules reload() {
+        CompiledFraudRules reloaded = load();
+        CompiledFraudRules previous = rules.getAndSet(reloaded);
+        log.info("Fraud rules reloaded from {} (previous version loaded at {})", location, previous.getLoadedAt());
+        return reloaded;
+    }
+    
+    @Scheduled(fixedDelayString = "${insurance.fraud.rules.refresh-interval:PT30S}")
+    public void reloadIfModified() {
+        try {
+            Resource resource = resourceLoader.getResource(location);
+            if (resource.isFile() && resource.lastModified() != lastModified) {
+                reload();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Keeping current fraud rules, reload from {} failed: {}", location, e.getMessage());
+        }
+    }
+    
+    private CompiledFraudRules load() {
+        Resource resource = resourceLoader.getResource(location);
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+            if (resource.isFile()) {
+                lastModified = resource.lastModified();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read fraud rules from " + location, e);
+        }
+        return CompiledFraudRules.compile(location, properties);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintech.insurance.claims.fraud;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/fraudrules shows the active rule set, POST reloads it.
+ */
+@Component
+@Endpoint(id = "fraudrules")
+@RequiredArgsConstructor
+public class FraudRulesEndpoint {
+    
+    private final FraudRuleEngine fraudRuleEngine;
+    
+    @ReadOperation
+    public Map<String, Object> rules() {
+        return fraudRuleEngine.current().describe();
+    }
+    
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return fraudRuleEngine.reload().describe();
+    }
+}
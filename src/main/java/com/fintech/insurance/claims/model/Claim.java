@@ -1,5 +1,6 @@
 package com.fintech.insurance.claims.model;
 
+import com.fintech.insurance.common.id.BusinessIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,7 +15,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+    @Index(name = "idx_claims_status_id", columnList = "status, id"),
+    @Index(name = "idx_claims_customer_id", columnList = "customer_id, id"),
+    @Index(name = "idx_claims_policy_id", columnList = "policy_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,7 +28,9 @@ import java.time.LocalDateTime;
 public class Claim {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "claim_id")
+    @TableGenerator(name = "claim_id", table = "id_generators", pkColumnName = "entity_name",
+        valueColumnName = "next_val", pkColumnValue = "claims", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 50)
@@ -47,6 +54,7 @@ public class Claim {
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
+    @Builder.Default
     private ClaimStatus status = ClaimStatus.SUBMITTED;
     
     @Column(nullable = false)
@@ -88,7 +96,7 @@ public class Claim {
     @PrePersist
     public void prePersist() {
         if (claimNumber == null) {
-            claimNumber = "CLM" + System.currentTimeMillis();
+            claimNumber = BusinessIds.claimNumber();
         }
         if (filedDate == null) {
             filedDate = LocalDate.now();
@@ -0,0 +1,59 @@
+package com.fintech.insurance.claims.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Allowed claim status transitions, kept in one table so the single-claim
+ * updates, the bulk adjudication path and the conditional SQL all agree.
+ */
+public final class ClaimTransitions {
+    
+    private static final Map<ClaimStatus, Set<ClaimStatus>> TARGETS = new EnumMap<>(ClaimStatus.class);
+    private static final Map<ClaimStatus, Set<ClaimStatus>> SOURCES = new EnumMap<>(ClaimStatus.class);
+    
+    static {
+        allow(ClaimStatus.SUBMITTED,
+            ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING, ClaimStatus.APPROVED, ClaimStatus.REJECTED);
+        allow(ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING, ClaimStatus.APPROVED, ClaimStatus.REJECTED);
+        allow(ClaimStatus.INVESTIGATING, ClaimStatus.UNDER_REVIEW, ClaimStatus.APPROVED, ClaimStatus.REJECTED);
+        allow(ClaimStatus.APPROVED, ClaimStatus.SETTLED);
+        // A rejection can be overturned on appeal
+        allow(ClaimStatus.REJECTED, ClaimStatus.APPROVED);
+        allow(ClaimStatus.SETTLED);
+        
+        for (ClaimStatus status : ClaimStatus.values()) {
+            TARGETS.computeIfPresent(status, (from, targets) -> Collections.unmodifiableSet(targets));
+            SOURCES.compute(status, (to, sources) ->
+                Collections.unmodifiableSet(sources == null ? EnumSet.noneOf(ClaimStatus.class) : sources));
+        }
+    }
+    
+    private ClaimTransitions() {
+    }
+    
+    public static boolean isAllowed(ClaimStatus from, ClaimStatus to) {
+        return TARGETS.get(from).contains(to);
+    }
+    
+    public static Set<ClaimStatus> targetsOf(ClaimStatus from) {
+        return TARGETS.get(from);
+    }
+    
+    /** Statuses a claim may be in to move to {@code to}. */
+    public static Set<ClaimStatus> sourcesOf(ClaimStatus to) {
+        return SOURCES.get(to);
+    }
+    
+    private static void allow(ClaimStatus from, ClaimStatus... targets) {
+        Set<ClaimStatus> allowed = EnumSet.noneOf(ClaimStatus.class);
+        for (ClaimStatus to : targets) {
+            allowed.add(to);
+            SOURCES.computeIfAbsent(to, status -> EnumSet.noneOf(ClaimStatus.class)).add(from);
+        }
+        TARGETS.put(from, allowed);
+    }
+}
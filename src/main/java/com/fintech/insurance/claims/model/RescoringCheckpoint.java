@@ -0,0 +1,42 @@
+package com.fintech.insurance.claims.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a claim re-scoring run, committed together with each chunk
+ * of score updates so an interrupted run resumes after the last chunk.
+ */
+@Entity
+@Table(name = "claim_rescoring_checkpoints")
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoringCheckpoint {
+    
+    public enum State { RUNNING, STOPPED, FAILED, COMPLETED }
+    
+    @Id
+    @Column(length = 50)
+    private String jobName;
+    
+    @Column(nullable = false)
+    private Long lastClaimId;
+    
+    private long processed;
+    private long updated;
+    private long escalated;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private State state;
+    
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+public class ClaimApproval {
+    long claimId;
+    ClaimStatus expectedStatus;
+    BigDecimal approvedAmount;
+    String notes;
+}
@@ -0,0 +1,16 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+
+import java.math.BigDecimal;
+
+public interface ClaimPortfolioRow {
+    ClaimStatus getStatus();
+    ClaimType getClaimType();
+    FraudRiskLevel getFraudRiskLevel();
+    Long getClaimCount();
+    BigDecimal getClaimedAmount();
+    BigDecimal getApprovedAmount();
+}
@@ -1,18 +1,103 @@
 package com.fintech.insurance.claims.repository;
 
 import com.fintech.insurance.claims.model.*;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ClaimRepository extends JpaRepository<Claim, Long> {
     Optional<Claim> findByClaimNumber(String claimNumber);
+    List<Claim> findByClaimNumberIn(Collection<String> claimNumbers);
     List<Claim> findByCustomerId(Long customerId);
     List<Claim> findByPolicyId(Long policyId);
     List<Claim> findByStatus(ClaimStatus status);
     
+    // Keyset page of scored claims: callers pass the last ID of the previous page.
+    // Unscored SUBMITTED claims belong to the async scoring pipeline.
+    List<Claim> findByStatusInAndFraudScoreIsNotNullAndIdGreaterThanOrderByIdAsc(
+        Collection<ClaimStatus> statuses, Long afterId, Limit limit);
+    
+    long countByStatusInAndFraudScoreIsNotNullAndIdGreaterThan(Collection<ClaimStatus> statuses, Long afterId);
+    
+    List<Claim> findByStatusAndFraudScoreIsNullOrderByIdAsc(ClaimStatus status, Limit limit);
+    
+    long countByStatusAndFraudScoreIsNull(ClaimStatus status);
+    
+    Optional<ClaimTransitionView> findTransitionViewById(Long id);
+    
+    List<ClaimTransitionView> findTransitionViewByIdIn(Collection<Long> ids);
+    
+    // Reads the latest committed status and holds the row until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Claim c WHERE c.id = :id")
+    Optional<Claim> findByIdForUpdate(Long id);
+    
+    // Conditional transitions: the status guard makes each one atomic, and the
+    // returned row count is 0 when the claim was missing or in another state
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = com.fintech.insurance.claims.model.ClaimStatus.APPROVED, " +
+           "c.approvedAmount = :approvedAmount, c.adjusterNotes = :notes, " +
+           "c.assessmentDate = :today, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.status IN :fromStatuses AND c.claimAmount >= :approvedAmount")
+    int approveIfStatusIn(Long id, Collection<ClaimStatus> fromStatuses, BigDecimal approvedAmount,
+                          String notes, LocalDate today, LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = com.fintech.insurance.claims.model.ClaimStatus.SETTLED, " +
+           "c.settlementDate = :today, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.status IN :fromStatuses")
+    int settleIfStatusIn(Long id, Collection<ClaimStatus> fromStatuses, LocalDate today, LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = com.fintech.insurance.claims.model.ClaimStatus.REJECTED, " +
+           "c.rejectionReason = :reason, c.assessmentDate = :today, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.status IN :fromStatuses")
+    int rejectIfStatusIn(Long id, Collection<ClaimStatus> fromStatuses, String reason,
+                         LocalDate today, LocalDateTime now);
+    
     @Query("SELECT COUNT(c) FROM Claim c WHERE c.customerId = :customerId " +
            "AND c.status = 'SETTLED'")
     Long countSettledClaimsByCustomer(Long customerId);
+    
+    @Query("SELECT c.customerId AS customerId, COUNT(c) AS claimCount FROM Claim c " +
+           "WHERE c.status = 'SETTLED' GROUP BY c.customerId")
+    List<CustomerClaimCount> countSettledClaimsGroupedByCustomer();
+    
+    @Query("SELECT c.id FROM Claim c WHERE c.id IN :ids AND c.status = 'SETTLED'")
+    List<Long> findSettledClaimIds(Collection<Long> ids);
+    
+    @Query("SELECT c.status AS status, c.claimType AS claimType, c.fraudRiskLevel AS fraudRiskLevel, " +
+           "COUNT(c) AS claimCount, SUM(c.claimAmount) AS claimedAmount, SUM(c.approvedAmount) AS approvedAmount " +
+           "FROM Claim c GROUP BY c.status, c.claimType, c.fraudRiskLevel")
+    List<ClaimPortfolioRow> summarizePortfolio();
+    
+    @Query("SELECT c.status AS status, c.claimType AS claimType, c.fraudRiskLevel AS fraudRiskLevel, " +
+           "COUNT(c) AS claimCount, SUM(c.claimAmount) AS claimedAmount, SUM(c.approvedAmount) AS approvedAmount " +
+           "FROM Claim c WHERE c.id IN :ids GROUP BY c.status, c.claimType, c.fraudRiskLevel")
+    List<ClaimPortfolioRow> summarizeClaims(Collection<Long> ids);
+    
+    List<Claim> findByCustomerIdAndIdGreaterThanOrderByIdAsc(Long customerId, Long afterId, Limit limit);
+    
+    List<Claim> findByPolicyIdAndIdGreaterThanOrderByIdAsc(Long policyId, Long afterId, Limit limit);
+    
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    Stream<Claim> streamByCustomerIdOrderByIdAsc(Long customerId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    Stream<Claim> streamByPolicyIdOrderByIdAsc(Long policyId);
 }
\ No newline at end of file
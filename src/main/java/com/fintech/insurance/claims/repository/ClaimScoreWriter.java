@@ -0,0 +1,56 @@
+package com.fintech.insurance.claims.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes fraud scores back in JDBC batches rather than through per-entity
+ * saves, touching only the score, risk level and status columns.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClaimScoreWriter {
+    
+    private static final String UPDATE_SCORE_SQL =
+        "UPDATE claims SET fraud_score = ?, fraud_risk_level = ?, status = ?, updated_at = ? " +
+        "WHERE id = ? AND status = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Returns the updates that were applied; claims whose status changed
+     * concurrently are left alone.
+     */
+    public List<FraudScoreUpdate> applyScores(List<FraudScoreUpdate> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setDouble(1, update.getFraudScore());
+            ps.setString(2, update.getFraudRiskLevel().name());
+            ps.setString(3, update.getNewStatus().name());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, update.getClaimId());
+            ps.setString(6, update.getExpectedStatus().name());
+        });
+        List<FraudScoreUpdate> applied = new ArrayList<>(updates.size());
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for rewritten batches
+                if (count != 0) {
+                    applied.add(updates.get(i));
+                }
+                i++;
+            }
+        }
+        return applied;
+    }
+}
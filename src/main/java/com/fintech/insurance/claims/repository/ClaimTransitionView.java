@@ -0,0 +1,11 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+
+import java.math.BigDecimal;
+
+public interface ClaimTransitionView {
+    Long getId();
+    ClaimStatus getStatus();
+    BigDecimal getClaimAmount();
+}
@@ -0,0 +1,91 @@
+package com.fintech.insurance.claims.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Applies adjudication transitions to many claims in JDBC batches. Every row
+ * is guarded by the status it was validated in against the transition table,
+ * so a claim that moved on since is left alone and reported with a zero update count.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClaimTransitionWriter {
+    
+    private static final String APPROVE_SQL =
+        "UPDATE claims SET status = 'APPROVED', approved_amount = ?, adjuster_notes = ?, " +
+        "assessment_date = ?, updated_at = ? " +
+        "WHERE id = ? AND status = ? AND claim_amount >= ?";
+    
+    private static final String SETTLE_SQL =
+        "UPDATE claims SET status = 'SETTLED', settlement_date = ?, updated_at = ? " +
+        "WHERE id = ? AND status = ?";
+    
+    private static final String REJECT_SQL =
+        "UPDATE claims SET status = 'REJECTED', rejection_reason = ?, assessment_date = ?, updated_at = ? " +
+        "WHERE id = ? AND status = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+    
+    /** Returns the update count of each approval, in order. */
+    public int[] approve(List<ClaimApproval> approvals) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(APPROVE_SQL, approvals, batchSize, (ps, approval) -> {
+            ps.setBigDecimal(1, approval.getApprovedAmount());
+            ps.setString(2, approval.getNotes());
+            ps.setDate(3, today);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, approval.getClaimId());
+            ps.setString(6, approval.getExpectedStatus().name());
+            ps.setBigDecimal(7, approval.getApprovedAmount());
+        }), approvals.size());
+    }
+    
+    /** Returns the update count of each claim, in order. */
+    public int[] settle(List<ExpectedClaimStatus> claims) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(SETTLE_SQL, claims, batchSize, (ps, claim) -> {
+            ps.setDate(1, today);
+            ps.setTimestamp(2, now);
+            ps.setLong(3, claim.getClaimId());
+            ps.setString(4, claim.getStatus().name());
+        }), claims.size());
+    }
+    
+    /** Returns the update count of each claim, in order. */
+    public int[] reject(List<ExpectedClaimStatus> claims, String reason) {
+        Date today = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return flatten(jdbcTemplate.batchUpdate(REJECT_SQL, claims, batchSize, (ps, claim) -> {
+            ps.setString(1, reason);
+            ps.setDate(2, today);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, claim.getClaimId());
+            ps.setString(5, claim.getStatus().name());
+        }), claims.size());
+    }
+    
+    private static int[] flatten(int[][] batches, int total) {
+        int[] counts = new int[total];
+        int i = 0;
+        for (int[] batch : batches) {
+            for (int count : batch) {
+                counts[i++] = count;
+            }
+        }
+        return counts;
+    }
+}
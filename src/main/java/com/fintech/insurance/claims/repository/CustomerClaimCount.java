@@ -0,0 +1,6 @@
+package com.fintech.insurance.claims.repository;
+
+public interface CustomerClaimCount {
+    Long getCustomerId();
+    Long getClaimCount();
+}
@@ -0,0 +1,11 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import lombok.Value;
+
+@Value
+public class ExpectedClaimStatus {
+    long claimId;
+    // Status the claim was validated in; the transition is skipped if it has moved on since
+    ClaimStatus status;
+}
@@ -0,0 +1,15 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import lombok.Value;
+
+@Value
+public class FraudScoreUpdate {
+    long claimId;
+    // Status the claim had when it was scored; the update is skipped if it has moved on since
+    ClaimStatus expectedStatus;
+    ClaimStatus newStatus;
+    double fraudScore;
+    FraudRiskLevel fraudRiskLevel;
+}
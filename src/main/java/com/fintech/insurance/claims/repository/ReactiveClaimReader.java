@@ -0,0 +1,102 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking claim reads over R2DBC, mapped straight to {@link ClaimDTO} the same
+ * way {@code ClaimService} maps entities. Multi-row queries stream with a bounded
+ * fetch size, so rows are read from the database only as fast as subscribers
+ * request them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveClaimReader {
+    
+    static final int FETCH_SIZE = 500;
+    
+    private static final String SELECT = "SELECT id, claim_number, policy_id, customer_id, claim_type, " +
+        "claim_amount, approved_amount, status, incident_date, incident_description, incident_location, " +
+        "fraud_score, fraud_risk_level, assigned_adjuster_id, adjuster_notes, rejection_reason, " +
+        "filed_date, assessment_date, settlement_date FROM claims ";
+    
+    private final DatabaseClient databaseClient;
+    
+    public Mono<ClaimDTO> findById(Long id) {
+        return databaseClient.sql(SELECT + "WHERE id = :id")
+            .bind("id", id)
+            .map(ReactiveClaimReader::toDTO)
+            .one();
+    }
+    
+    public Mono<ClaimDTO> findByClaimNumber(String claimNumber) {
+        return databaseClient.sql(SELECT + "WHERE claim_number = :claimNumber")
+            .bind("claimNumber", claimNumber)
+            .map(ReactiveClaimReader::toDTO)
+            .one();
+    }
+    
+    public Flux<ClaimDTO> streamByCustomerId(Long customerId) {
+        return stream(SELECT + "WHERE customer_id = :value ORDER BY id", customerId);
+    }
+    
+    public Flux<ClaimDTO> streamByPolicyId(Long policyId) {
+        return stream(SELECT + "WHERE policy_id = :value ORDER BY id", policyId);
+    }
+    
+    public Flux<ClaimDTO> streamByStatus(ClaimStatus status) {
+        // Inlined rather than bound: some drivers bind strings as CLOBs, which won't compare with
+        // enum columns, and an enum constant name is safe to embed
+        return stream(databaseClient.sql(SELECT + "WHERE status = '" + status.name() + "' ORDER BY id"));
+    }
+    
+    private Flux<ClaimDTO> stream(String sql, Object value) {
+        return stream(databaseClient.sql(sql).bind("value", value));
+    }
+    
+    private Flux<ClaimDTO> stream(DatabaseClient.GenericExecuteSpec query) {
+        return query
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(ReactiveClaimReader::toDTO)
+            .all();
+    }
+    
+    static ClaimDTO toDTO(Readable row) {
+        return ClaimDTO.builder()
+            .id(row.get("id", Long.class))
+            .claimNumber(row.get("claim_number", String.class))
+            .policyId(row.get("policy_id", Long.class))
+            .customerId(row.get("customer_id", Long.class))
+            .claimType(ClaimType.valueOf(row.get("claim_type", String.class)))
+            .claimAmount(row.get("claim_amount", BigDecimal.class))
+            .approvedAmount(row.get("approved_amount", BigDecimal.class))
+            .status(ClaimStatus.valueOf(row.get("status", String.class)))
+            .incidentDate(row.get("incident_date", LocalDate.class))
+            .incidentDescription(row.get("incident_description", String.class))
+            .incidentLocation(row.get("incident_location", String.class))
+            .fraudScore(row.get("fraud_score", Double.class))
+            .fraudRiskLevel(enumOrNull(FraudRiskLevel.class, row.get("fraud_risk_level", String.class)))
+            .assignedAdjusterId(row.get("assigned_adjuster_id", Long.class))
+            .adjusterNotes(row.get("adjuster_notes", String.class))
+            .rejectionReason(row.get("rejection_reason", String.class))
+            .filedDate(row.get("filed_date", LocalDate.class))
+            .assessmentDate(row.get("assessment_date", LocalDate.class))
+            .settlementDate(row.get("settlement_date", LocalDate.class))
+            .build();
+    }
+    
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.RescoringCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RescoringCheckpointRepository extends JpaRepository<RescoringCheckpoint, String> {
+}
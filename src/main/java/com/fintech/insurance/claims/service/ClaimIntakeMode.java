@@ -0,0 +1,7 @@
+package com.fintech.insurance.claims.service;
+
+/**
+ * SYNC scores and triages a claim inside the filing request; ASYNC persists
+ * it as SUBMITTED and leaves scoring to {@link ClaimScoringPipeline}.
+ */
+public enum ClaimIntakeMode { SYNC, ASYNC }
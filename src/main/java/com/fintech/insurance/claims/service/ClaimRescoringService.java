@@ -0,0 +1,255 @@
+package com.fintech.insurance.claims.service;
+
+import com.fintech.insurance.claims.exception.InvalidClaimException;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.model.RescoringCheckpoint;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.ClaimScoreWriter;
+import com.fintech.insurance.claims.repository.FraudScoreUpdate;
+import com.fintech.insurance.claims.repository.RescoringCheckpointRepository;
+import com.fintech.insurance.claims.stats.ClaimPortfolioStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Re-scores every open claim after the fraud rules change. Claims are read
+ * in keyset pages, scored in parallel slices on a bounded fork-join pool and
+ * written back in JDBC batches; each page commits together with its
+ * checkpoint so an interrupted run resumes where it stopped.
+ */
+@Service
+@Slf4j
+public class ClaimRescoringService {
+    
+    static final String JOB_NAME = "open-claims";
+    // Only claims that already have a score: unscored SUBMITTED claims are still
+    // queued for the scoring pipeline, which triages them on its first score
+    private static final Set<ClaimStatus> OPEN_STATUSES =
+        EnumSet.of(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING);
+    
+    private final ClaimRepository claimRepository;
+    private final ClaimScoreWriter claimScoreWriter;
+    private final RescoringCheckpointRepository checkpointRepository;
+    private final FraudDetectionService fraudDetectionService;
+    private final ClaimCache claimCache;
+    private final ClaimPortfolioStats portfolioStats;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final int parallelism;
+    private final ForkJoinPool scoringPool;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "claim-rescoring");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopRequested;
+    private volatile RescoringCheckpoint progress;
+    private volatile long runProcessed;
+    private volatile long runStartNanos;
+    private volatile long remainingAtStart;
+    
+    public ClaimRescoringService(ClaimRepository claimRepository,
+                                 ClaimScoreWriter claimScoreWriter,
+                                 RescoringCheckpointRepository checkpointRepository,
+                                 FraudDetectionService fraudDetectionService,
+                                 ClaimCache claimCache,
+                                 ClaimPortfolioStats portfolioStats,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${insurance.claims.rescoring.page-size:1000}") int pageSize,
+                                 @Value("${insurance.claims.rescoring.parallelism:4}") int parallelism) {
+        this.claimRepository = claimRepository;
+        this.claimScoreWriter = claimScoreWriter;
+        this.checkpointRepository = checkpointRepository;
+        this.fraudDetectionService = fraudDetectionService;
+        this.claimCache = claimCache;
+        this.portfolioStats = portfolioStats;
+        this.transactionTemplate = transactionTemplate;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.scoringPool = new ForkJoinPool(parallelism);
+    }
+    
+    /**
+     * Starts a run in the background. Resumes from the last checkpoint unless
+     * the previous run completed or a restart is requested.
+     */
+    public Map<String, Object> start(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidClaimException("Claim re-scoring is already running");
+        }
+        
+        try {
+            RescoringCheckpoint checkpoint = checkpointRepository.findById(JOB_NAME)
+                .filter(existing -> !restart && existing.getState() != RescoringCheckpoint.State.COMPLETED)
+                .orElseGet(() -> RescoringCheckpoint.builder()
+                    .jobName(JOB_NAME)
+                    .lastClaimId(0L)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+            checkpoint.setState(RescoringCheckpoint.State.RUNNING);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            progress = checkpointRepository.save(checkpoint);
+            
+            stopRequested = false;
+            runProcessed = 0;
+            runStartNanos = System.nanoTime();
+            remainingAtStart = claimRepository.countByStatusInAndFraudScoreIsNotNullAndIdGreaterThan(
+                OPEN_STATUSES, checkpoint.getLastClaimId());
+            log.info("Starting claim re-scoring after claim {} ({} open claims remaining)",
+                checkpoint.getLastClaimId(), remainingAtStart);
+            
+            runner.execute(this::run);
+        } catch (RuntimeException e) {
+            // Nothing is running yet, so a failed setup must not block the next start
+            running.set(false);
+            throw e;
+        }
+        return getProgress();
+    }
+    
+    public Map<String, Object> stop() {
+        stopRequested = true;
+        return getProgress();
+    }
+    
+    public Map<String, Object> getProgress() {
+        RescoringCheckpoint checkpoint = progress != null
+            ? progress
+            : checkpointRepository.findById(JOB_NAME).orElse(null);
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (checkpoint == null) {
+            report.put("state", "NEVER_RUN");
+            return report;
+        }
+        report.put("state", checkpoint.getState());
+        report.put("lastClaimId", checkpoint.getLastClaimId());
+        report.put("processed", checkpoint.getProcessed());
+        report.put("updated", checkpoint.getUpdated());
+        report.put("escalated", checkpoint.getEscalated());
+        report.put("startedAt", checkpoint.getStartedAt());
+        report.put("updatedAt", checkpoint.getUpdatedAt());
+        if (running.get()) {
+            double seconds = Math.max(Duration.ofNanos(System.nanoTime() - runStartNanos).toMillis(), 1) / 1000.0;
+            report.put("remainingAtStart", remainingAtStart);
+            report.put("processedThisRun", runProcessed);
+            report.put("claimsPerSecond", Math.round(runProcessed / seconds));
+        }
+        return report;
+    }
+    
+    private void run() {
+        // Only ever holds a position whose page has committed
+        RescoringCheckpoint checkpoint = progress;
+        try {
+            while (!stopRequested) {
+                List<Claim> page = claimRepository.findByStatusInAndFraudScoreIsNotNullAndIdGreaterThanOrderByIdAsc(
+                    OPEN_STATUSES, checkpoint.getLastClaimId(), Limit.of(pageSize));
+                if (page.isEmpty()) {
+                    checkpoint.setState(RescoringCheckpoint.State.COMPLETED);
+                    break;
+                }
+                
+                double[] scores = scoreInParallel(page);
+                List<FraudScoreUpdate> updates = new ArrayList<>();
+                long escalated = 0;
+                for (int i = 0; i < page.size(); i++) {
+                    Claim claim = page.get(i);
+                    FraudRiskLevel level = fraudDetectionService.determineFraudRiskLevel(scores[i]);
+                    ClaimStatus newStatus = fraudDetectionService.requiresInvestigation(level)
+                        ? ClaimStatus.INVESTIGATING
+                        : claim.getStatus();
+                    if (newStatus != claim.getStatus()) {
+                        escalated++;
+                    }
+                    if (level != claim.getFraudRiskLevel() || newStatus != claim.getStatus()
+                            || !Objects.equals(scores[i], claim.getFraudScore())) {
+                        updates.add(new FraudScoreUpdate(claim.getId(), claim.getStatus(), newStatus, scores[i], level));
+                    }
+                }
+                
+                // Advanced on a copy; adopted only once the page's scores have committed
+                RescoringCheckpoint pageCheckpoint = checkpoint.toBuilder()
+                    .lastClaimId(page.get(page.size() - 1).getId())
+                    .processed(checkpoint.getProcessed() + page.size())
+                    .escalated(checkpoint.getEscalated() + escalated)
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+                List<FraudScoreUpdate> applied = transactionTemplate.execute(status -> {
+                    List<FraudScoreUpdate> written = claimScoreWriter.applyScores(updates);
+                    // Read back while the update still holds the rows, so the write-through is what commits
+                    List<Long> writtenIds = written.stream().map(FraudScoreUpdate::getClaimId).toList();
+                    List<Claim> rescored = claimRepository.findAllById(writtenIds);
+                    claimCache.putAll(rescored.stream().map(ClaimService::mapToDTO).toList());
+                    pageCheckpoint.setUpdated(pageCheckpoint.getUpdated() + written.size());
+                    checkpointRepository.save(pageCheckpoint);
+                    return written;
+                });
+                checkpoint = pageCheckpoint;
+                progress = checkpoint;
+                portfolioStats.recordScores(page, applied);
+                runProcessed += page.size();
+                log.debug("Re-scored {} claims up to id {}, {} updated",
+                    page.size(), checkpoint.getLastClaimId(), applied.size());
+            }
+            if (stopRequested && checkpoint.getState() == RescoringCheckpoint.State.RUNNING) {
+                checkpoint.setState(RescoringCheckpoint.State.STOPPED);
+            }
+        } catch (RuntimeException e) {
+            log.error("Claim re-scoring failed after claim {}", checkpoint.getLastClaimId(), e);
+            checkpoint.setState(RescoringCheckpoint.State.FAILED);
+        } finally {
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            progress = checkpointRepository.save(checkpoint);
+            running.set(false);
+            log.info("Claim re-scoring {}: {} processed, {} updated, {} escalated", checkpoint.getState(),
+                checkpoint.getProcessed(), checkpoint.getUpdated(), checkpoint.getEscalated());
+        }
+    }
+    
+    private double[] scoreInParallel(List<Claim> page) {
+        int sliceSize = Math.max(1, (page.size() + parallelism - 1) / parallelism);
+        List<ForkJoinTask<double[]>> slices = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += sliceSize) {
+            List<Claim> slice = page.subList(from, Math.min(from + sliceSize, page.size()));
+            slices.add(scoringPool.submit(() -> fraudDetectionService.scoreAll(slice)));
+        }
+        double[] scores = new double[page.size()];
+        int offset = 0;
+        for (ForkJoinTask<double[]> slice : slices) {
+            double[] sliceScores = slice.join();
+            System.arraycopy(sliceScores, 0, scores, offset, sliceScores.length);
+            offset += sliceScores.length;
+        }
+        return scores;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        stopRequested = true;
+        runner.shutdown();
+        scoringPool.shutdown();
+    }
+}
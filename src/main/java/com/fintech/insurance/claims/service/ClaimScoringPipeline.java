@@ -0,0 +1,126 @@
+package com.fintech.insurance.claims.service;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.ClaimScoreWriter;
+import com.fintech.insurance.claims.repository.FraudScoreUpdate;
+import com.fintech.insurance.claims.stats.ClaimPortfolioStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scores claims filed in {@link ClaimIntakeMode#ASYNC} mode. Unscored
+ * SUBMITTED claims are drained in micro-batches: the batch is scored in
+ * one pass and scores plus UNDER_REVIEW/INVESTIGATING triage are written
+ * back in a single JDBC batch.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "insurance.claims.intake-mode", havingValue = "async")
+public class ClaimScoringPipeline {
+    
+    private final ClaimRepository claimRepository;
+    private final ClaimScoreWriter claimScoreWriter;
+    private final FraudDetectionService fraudDetectionService;
+    private final ClaimCache claimCache;
+    private final ClaimPortfolioStats portfolioStats;
+    private final ClaimMetrics claimMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter scoredClaims;
+    
+    public ClaimScoringPipeline(ClaimRepository claimRepository,
+                                ClaimScoreWriter claimScoreWriter,
+                                FraudDetectionService fraudDetectionService,
+                                ClaimCache claimCache,
+                                ClaimPortfolioStats portfolioStats,
+                                ClaimMetrics claimMetrics,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${insurance.claims.scoring-pipeline.batch-size:200}") int batchSize) {
+        this.claimRepository = claimRepository;
+        this.claimScoreWriter = claimScoreWriter;
+        this.fraudDetectionService = fraudDetectionService;
+        this.claimCache = claimCache;
+        this.portfolioStats = portfolioStats;
+        this.claimMetrics = claimMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        Gauge.builder("claims.scoring.queue.depth", queueDepth, AtomicLong::get)
+            .description("Filed claims waiting for fraud scoring")
+            .register(meterRegistry);
+        TimeGauge.builder("claims.scoring.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest claim waiting for fraud scoring")
+            .register(meterRegistry);
+        this.scoredClaims = Counter.builder("claims.scoring.scored")
+            .description("Claims scored by the asynchronous pipeline")
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${insurance.claims.scoring-pipeline.poll-interval:PT0.2S}")
+    public void drain() {
+        long pending = claimRepository.countByStatusAndFraudScoreIsNull(ClaimStatus.SUBMITTED);
+        queueDepth.set(pending);
+        if (pending == 0) {
+            lagMillis.set(0);
+            return;
+        }
+        
+        List<Claim> batch;
+        do {
+            batch = claimRepository.findByStatusAndFraudScoreIsNullOrderByIdAsc(
+                ClaimStatus.SUBMITTED, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+            
+            double[] scores = fraudDetectionService.scoreAll(batch);
+            List<FraudScoreUpdate> updates = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                FraudRiskLevel level = fraudDetectionService.determineFraudRiskLevel(scores[i]);
+                ClaimStatus triaged = fraudDetectionService.requiresInvestigation(level)
+                    ? ClaimStatus.INVESTIGATING
+                    : ClaimStatus.UNDER_REVIEW;
+                updates.add(new FraudScoreUpdate(batch.get(i).getId(), ClaimStatus.SUBMITTED, triaged, scores[i], level));
+            }
+            
+            List<FraudScoreUpdate> applied = transactionTemplate.execute(status -> {
+                List<FraudScoreUpdate> written = claimScoreWriter.applyScores(updates);
+                // Read back while the update still holds the rows, so the write-through is what commits
+                List<Long> writtenIds = written.stream().map(FraudScoreUpdate::getClaimId).toList();
+                List<Claim> rescored = claimRepository.findAllById(writtenIds);
+                claimCache.putAll(rescored.stream().map(ClaimService::mapToDTO).toList());
+                return written;
+            });
+            portfolioStats.recordScores(batch, applied);
+            // Only claims this run triaged; one already scored elsewhere is not counted twice
+            applied.forEach(update -> claimMetrics.countRiskLevel(update.getFraudRiskLevel()));
+            scoredClaims.increment(applied.size());
+            queueDepth.set(Math.max(0, queueDepth.get() - batch.size()));
+            log.debug("Scored {} queued claims up to id {}", applied.size(), batch.get(batch.size() - 1).getId());
+        } while (batch.size() == batchSize);
+        
+        lagMillis.set(0);
+    }
+}
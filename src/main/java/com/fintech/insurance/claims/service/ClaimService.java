@@ -1,17 +1,47 @@
 package com.fintech.insurance.claims.service;
+import com.fintech.insurance.claims.dto.BulkApprovalRequest;
+import com.fintech.insurance.claims.dto.BulkTransitionResponse;
 import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.dto.ClaimPortfolioStatsDTO;
+import com.fintech.insurance.claims.event.ClaimEvent;
 import com.fintech.insurance.claims.exception.ClaimNotFoundException;
 import com.fintech.insurance.claims.exception.InvalidClaimException;
 import com.fintech.insurance.claims.model.*;
+import com.fintech.insurance.claims.repository.ClaimApproval;
 import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.ClaimTransitionView;
+import com.fintech.insurance.claims.repository.ClaimTransitionWriter;
+import com.fintech.insurance.claims.repository.ExpectedClaimStatus;
+import com.fintech.insurance.claims.stats.ClaimPortfolioStats;
+import com.fintech.insurance.common.concurrent.LookupCoalescer;
+import com.fintech.insurance.common.logging.LogSampling;
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import io.micrometer.tracing.annotation.NewSpan;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,12 +50,80 @@ import java.util.stream.Collectors;
 public class ClaimService {
     
     private final ClaimRepository claimRepository;
+    private final ClaimTransitionWriter claimTransitionWriter;
     private final FraudDetectionService fraudDetectionService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NdjsonWriter ndjsonWriter;
+    private final ClaimCache claimCache;
+    private final LookupCoalescer lookupCoalescer;
+    private final ClaimPortfolioStats portfolioStats;
+    private final ClaimMetrics claimMetrics;
+    private final TransactionTemplate transactionTemplate;
     
-    @Transactional
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+    
+    @Value("${insurance.batch.max-size:10000}")
+    private int maxBatchSize;
+    
+    @Value("${insurance.claims.adjudication.max-batch-size:1000}")
+    private int maxAdjudicationBatchSize;
+    
+    @Value("${insurance.claims.intake-mode:sync}")
+    private ClaimIntakeMode intakeMode;
+    
+    @NewSpan("claim file")
     public ClaimDTO fileClaim(ClaimDTO dto) {
+        // Timed around the transaction so the deferred INSERT and the commit are included
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> fileClaimInTransaction(dto));
+        } finally {
+            claimMetrics.recordFileClaim(System.nanoTime() - start);
+        }
+    }
+    
+    private ClaimDTO fileClaimInTransaction(ClaimDTO dto) {
         log.info("Filing claim for policy: {}, customer: {}", dto.getPolicyId(), dto.getCustomerId());
         
+        Claim claim = buildClaim(dto);
+        
+        Claim saved = claimRepository.save(claim);
+        publishClaimEvent("CLAIM_FILED", saved, null);
+        log.info("Claim filed: {}, Fraud Score: {}, Risk Level: {}", 
+            saved.getClaimNumber(), saved.getFraudScore(), saved.getFraudRiskLevel());
+        
+        return mapToDTO(saved);
+    }
+    
+    @Transactional
+    public List<ClaimDTO> fileClaims(List<ClaimDTO> dtos) {
+        if (dtos.size() > maxBatchSize) {
+            throw new InvalidClaimException("Batch size " + dtos.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        log.info("Filing batch of {} claims", dtos.size());
+        
+        List<ClaimDTO> filed = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += jdbcBatchSize) {
+            List<Claim> chunk = dtos.subList(from, Math.min(from + jdbcBatchSize, dtos.size())).stream()
+                .map(this::buildClaim)
+                .collect(Collectors.toList());
+            
+            // Flush and detach each chunk so the persistence context stays small
+            for (Claim saved : claimRepository.saveAll(chunk)) {
+                publishClaimEvent("CLAIM_FILED", saved, null);
+                filed.add(mapToDTO(saved));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        log.info("Filed batch of {} claims", filed.size());
+        return filed;
+    }
+    
+    private Claim buildClaim(ClaimDTO dto) {
         Claim claim = Claim.builder()
             .policyId(dto.getPolicyId())
             .customerId(dto.getCustomerId())
@@ -37,120 +135,363 @@ public class ClaimService {
             .filedDate(LocalDate.now())
             .build();
         
+        // Scored and triaged later by ClaimScoringPipeline
+        if (intakeMode == ClaimIntakeMode.ASYNC) {
+            claim.setStatus(ClaimStatus.SUBMITTED);
+            return claim;
+        }
+        
         // Calculate fraud score
         double fraudScore = fraudDetectionService.calculateFraudScore(claim);
         FraudRiskLevel riskLevel = fraudDetectionService.determineFraudRiskLevel(fraudScore);
+        claimMetrics.countRiskLevel(riskLevel);
         
         claim.setFraudScore(fraudScore);
         claim.setFraudRiskLevel(riskLevel);
         
         // Auto-triage based on fraud risk
-        if (riskLevel == FraudRiskLevel.CRITICAL || riskLevel == FraudRiskLevel.HIGH) {
+        if (fraudDetectionService.requiresInvestigation(riskLevel)) {
             claim.setStatus(ClaimStatus.INVESTIGATING);
             log.warn("High fraud risk detected. Score: {}, Level: {}", fraudScore, riskLevel);
         } else {
             claim.setStatus(ClaimStatus.UNDER_REVIEW);
         }
-        
-        Claim saved = claimRepository.save(claim);
-        log.info("Claim filed: {}, Fraud Score: {}, Risk Level: {}", 
-            saved.getClaimNumber(), fraudScore, riskLevel);
-        
-        return mapToDTO(saved);
+        return claim;
     }
     
     public ClaimDTO getClaim(Long id) {
-        log.info("Fetching claim: {}", id);
-        Claim claim = claimRepository.findById(id)
-            .orElseThrow(() -> new ClaimNotFoundException("Claim not found with id: " + id));
-        return mapToDTO(claim);
+        log.info(LogSampling.SAMPLED, "Fetching claim: {}", id);
+        return claimCache.get(id, () -> {
+            // Concurrent cache misses for the same claim share one query
+            ClaimDTO claim = lookupCoalescer.load("claims", id, this::loadClaims);
+            if (claim == null) {
+                throw new ClaimNotFoundException("Claim not found with id: " + id);
+            }
+            return claim;
+        });
     }
     
     public ClaimDTO getClaimByNumber(String claimNumber) {
-        log.info("Fetching claim by number: {}", claimNumber);
-        Claim claim = claimRepository.findByClaimNumber(claimNumber)
-            .orElseThrow(() -> new ClaimNotFoundException("Claim not found: " + claimNumber));
-        return mapToDTO(claim);
+        log.info(LogSampling.SAMPLED, "Fetching claim by number: {}", claimNumber);
+        return claimCache.getByNumber(claimNumber, () -> {
+            ClaimDTO claim = lookupCoalescer.load("claim-numbers", claimNumber, this::loadClaimsByNumber);
+            if (claim == null) {
+                throw new ClaimNotFoundException("Claim not found: " + claimNumber);
+            }
+            return claim;
+        });
+    }
+    
+    private Map<Long, ClaimDTO> loadClaims(Collection<Long> ids) {
+        return claimRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Claim::getId, ClaimService::mapToDTO));
+    }
+    
+    private Map<String, ClaimDTO> loadClaimsByNumber(Collection<String> claimNumbers) {
+        return claimRepository.findByClaimNumberIn(claimNumbers).stream()
+            .collect(Collectors.toMap(Claim::getClaimNumber, ClaimService::mapToDTO));
     }
     
     public List<ClaimDTO> getCustomerClaims(Long customerId) {
-        log.info("Fetching claims for customer: {}", customerId);
+        log.info(LogSampling.SAMPLED, "Fetching claims for customer: {}", customerId);
         return claimRepository.findByCustomerId(customerId).stream()
-            .map(this::mapToDTO)
+            .map(ClaimService::mapToDTO)
             .collect(Collectors.toList());
     }
     
     public List<ClaimDTO> getClaimsByPolicy(Long policyId) {
-        log.info("Fetching claims for policy: {}", policyId);
+        log.info(LogSampling.SAMPLED, "Fetching claims for policy: {}", policyId);
         return claimRepository.findByPolicyId(policyId).stream()
-            .map(this::mapToDTO)
+            .map(ClaimService::mapToDTO)
+            .collect(Collectors.toList());
+    }
+    
+    // Served from in-memory aggregates, never from the database
+    public ClaimPortfolioStatsDTO getPortfolioStats() {
+        return portfolioStats.snapshot();
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<ClaimDTO> getCustomerClaimsPage(Long customerId, Long after, int size) {
+        List<ClaimDTO> rows = claimRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(
+                customerId, CursorPage.startAfter(after), Limit.of(size + 1)).stream()
+            .map(ClaimService::mapToDTO)
+            .collect(Collectors.toList());
+        return CursorPage.of(rows, size, ClaimDTO::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public long streamCustomerClaims(Long customerId, OutputStream out) {
+        return ndjsonWriter.write(claimRepository.streamByCustomerIdOrderByIdAsc(customerId), ClaimService::mapToDTO, out);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<ClaimDTO> getClaimsByPolicyPage(Long policyId, Long after, int size) {
+        List<ClaimDTO> rows = claimRepository.findByPolicyIdAndIdGreaterThanOrderByIdAsc(
+                policyId, CursorPage.startAfter(after), Limit.of(size + 1)).stream()
+            .map(ClaimService::mapToDTO)
             .collect(Collectors.toList());
+        return CursorPage.of(rows, size, ClaimDTO::getId);
     }
     
+    @Transactional(readOnly = true)
+    public long streamClaimsByPolicy(Long policyId, OutputStream out) {
+        return ndjsonWriter.write(claimRepository.streamByPolicyIdOrderByIdAsc(policyId), ClaimService::mapToDTO, out);
+    }
+    
+    @NewSpan("claim approve")
     @Transactional
     public ClaimDTO approveClaim(Long id, BigDecimal approvedAmount, String notes) {
+        return tryApproveClaim(id, approvedAmount, notes).getClaimOrThrow();
+    }
+    
+    @Transactional
+    public ClaimTransitionResult tryApproveClaim(Long id, BigDecimal approvedAmount, String notes) {
         log.info("Approving claim: {} with amount: {}", id, approvedAmount);
         
-        Claim claim = claimRepository.findById(id)
-            .orElseThrow(() -> new ClaimNotFoundException("Claim not found"));
-        
-        if (claim.getStatus() == ClaimStatus.APPROVED || claim.getStatus() == ClaimStatus.SETTLED) {
-            throw new InvalidClaimException("Claim already approved/settled");
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ClaimTransitionResult result = applyTransition(id, ClaimStatus.APPROVED, approvedAmount, "CLAIM_APPROVED",
+            from -> claimRepository.approveIfStatusIn(id, EnumSet.of(from), approvedAmount, notes, today, now));
+        if (result.isApplied()) {
+            log.info("Claim approved: {}, Amount: {}", result.getClaim().getClaimNumber(), approvedAmount);
         }
-        
-        if (approvedAmount.compareTo(claim.getClaimAmount()) > 0) {
-            throw new InvalidClaimException("Approved amount cannot exceed claimed amount");
-        }
-        
-        claim.setStatus(ClaimStatus.APPROVED);
-        claim.setApprovedAmount(approvedAmount);
-        claim.setAdjusterNotes(notes);
-        claim.setAssessmentDate(LocalDate.now());
-        
-        Claim approved = claimRepository.save(claim);
-        log.info("Claim approved: {}, Amount: {}", approved.getClaimNumber(), approvedAmount);
-        
-        return mapToDTO(approved);
+        return result;
     }
     
+    @NewSpan("claim settle")
     @Transactional
     public ClaimDTO settleClaim(Long id) {
+        return trySettleClaim(id).getClaimOrThrow();
+    }
+    
+    @Transactional
+    public ClaimTransitionResult trySettleClaim(Long id) {
         log.info("Settling claim: {}", id);
         
-        Claim claim = claimRepository.findById(id)
-            .orElseThrow(() -> new ClaimNotFoundException("Claim not found"));
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ClaimTransitionResult result = applyTransition(id, ClaimStatus.SETTLED, null, "CLAIM_SETTLED",
+            from -> claimRepository.settleIfStatusIn(id, EnumSet.of(from), today, now));
+        if (result.isApplied()) {
+            log.info("Claim settled: {}, Amount: {}",
+                result.getClaim().getClaimNumber(), result.getClaim().getApprovedAmount());
+        }
+        return result;
+    }
+    
+    @Transactional
+    public ClaimDTO rejectClaim(Long id, String reason) {
+        return tryRejectClaim(id, reason).getClaimOrThrow();
+    }
+    
+    @Transactional
+    public ClaimTransitionResult tryRejectClaim(Long id, String reason) {
+        log.info("Rejecting claim: {}", id);
         
-        if (claim.getStatus() != ClaimStatus.APPROVED) {
-            throw new InvalidClaimException("Can only settle approved claims. Current status: " + claim.getStatus());
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ClaimTransitionResult result = applyTransition(id, ClaimStatus.REJECTED, null, "CLAIM_REJECTED",
+            from -> claimRepository.rejectIfStatusIn(id, EnumSet.of(from), reason, today, now));
+        if (result.isApplied()) {
+            log.info("Claim rejected: {}, Reason: {}", result.getClaim().getClaimNumber(), reason);
+        }
+        return result;
+    }
+    
+    /**
+     * Moves one claim to {@code target}. The conditional update is guarded on the
+     * status just read, so the event records exactly which status the claim left.
+     * If the claim moved in between, it is re-read under a row lock and tried once more.
+     */
+    private ClaimTransitionResult applyTransition(Long id, ClaimStatus target, BigDecimal approvedAmount,
+                                                  String eventType, ToIntFunction<ClaimStatus> update) {
+        ClaimTransitionView observed = claimRepository.findTransitionViewById(id).orElse(null);
+        if (observed == null) {
+            return ClaimTransitionResult.failed(id, ClaimTransitionResult.Outcome.NOT_FOUND, target, null);
+        }
+        ClaimStatus from = observed.getStatus();
+        ClaimTransitionResult.Outcome blocked = checkTransition(from, observed.getClaimAmount(), target, approvedAmount);
+        if (blocked != null) {
+            return ClaimTransitionResult.failed(id, blocked, target, from);
         }
         
-        claim.setStatus(ClaimStatus.SETTLED);
-        claim.setSettlementDate(LocalDate.now());
+        if (update.applyAsInt(from) == 0) {
+            // A plain re-read could return the transaction's stale snapshot
+            Claim locked = claimRepository.findByIdForUpdate(id).orElse(null);
+            if (locked == null) {
+                return ClaimTransitionResult.failed(id, ClaimTransitionResult.Outcome.NOT_FOUND, target, null);
+            }
+            from = locked.getStatus();
+            blocked = checkTransition(from, locked.getClaimAmount(), target, approvedAmount);
+            if (blocked != null) {
+                return ClaimTransitionResult.failed(id, blocked, target, from);
+            }
+            if (update.applyAsInt(from) == 0) {
+                return ClaimTransitionResult.failed(id, ClaimTransitionResult.Outcome.ILLEGAL_TRANSITION, target, from);
+            }
+        }
         
-        Claim settled = claimRepository.save(claim);
-        log.info("Claim settled: {}, Amount: {}", settled.getClaimNumber(), settled.getApprovedAmount());
+        Claim claim = reload(id);
+        publishClaimEvent(eventType, claim, from);
+        return ClaimTransitionResult.applied(cacheThrough(claim));
+    }
+    
+    private static ClaimTransitionResult.Outcome checkTransition(ClaimStatus from, BigDecimal claimAmount,
+                                                                 ClaimStatus target, BigDecimal approvedAmount) {
+        if (!ClaimTransitions.isAllowed(from, target)) {
+            return ClaimTransitionResult.Outcome.ILLEGAL_TRANSITION;
+        }
+        if (approvedAmount != null && approvedAmount.compareTo(claimAmount) > 0) {
+            return ClaimTransitionResult.Outcome.AMOUNT_EXCEEDS_CLAIM;
+        }
+        return null;
+    }
+    
+    @Transactional
+    public BulkTransitionResponse bulkApproveClaims(List<BulkApprovalRequest.Approval> approvals) {
+        // The first approval wins if a claim is listed twice
+        Map<Long, BulkApprovalRequest.Approval> byId = new LinkedHashMap<>();
+        approvals.forEach(approval -> byId.putIfAbsent(approval.getClaimId(), approval));
         
-        return mapToDTO(settled);
+        return applyBulkTransition(ClaimStatus.APPROVED, byId.keySet(), id -> byId.get(id).getApprovedAmount(),
+            claims -> claimTransitionWriter.approve(claims.stream()
+                .map(claim -> {
+                    BulkApprovalRequest.Approval approval = byId.get(claim.getClaimId());
+                    return new ClaimApproval(claim.getClaimId(), claim.getStatus(),
+                        approval.getApprovedAmount(), approval.getNotes());
+                })
+                .collect(Collectors.toList())),
+            "CLAIM_APPROVED");
     }
     
     @Transactional
-    public ClaimDTO rejectClaim(Long id, String reason) {
-        log.info("Rejecting claim: {}", id);
+    public BulkTransitionResponse bulkSettleClaims(List<Long> claimIds) {
+        return applyBulkTransition(ClaimStatus.SETTLED, new LinkedHashSet<>(claimIds), id -> null,
+            claimTransitionWriter::settle, "CLAIM_SETTLED");
+    }
+    
+    @Transactional
+    public BulkTransitionResponse bulkRejectClaims(List<Long> claimIds, String reason) {
+        return applyBulkTransition(ClaimStatus.REJECTED, new LinkedHashSet<>(claimIds), id -> null,
+            claims -> claimTransitionWriter.reject(claims, reason), "CLAIM_REJECTED");
+    }
+    
+    /**
+     * Validates every claim against the transition table from a single query, writes the
+     * valid ones in JDBC batches and reports an outcome per requested ID, in request order.
+     */
+    private BulkTransitionResponse applyBulkTransition(ClaimStatus target, Set<Long> claimIds,
+                                                       Function<Long, BigDecimal> approvedAmountOf,
+                                                       Function<List<ExpectedClaimStatus>, int[]> writer,
+                                                       String eventType) {
+        if (claimIds.size() > maxAdjudicationBatchSize) {
+            throw new InvalidClaimException(
+                "Batch size " + claimIds.size() + " exceeds maximum of " + maxAdjudicationBatchSize);
+        }
+        log.info("Bulk transition of {} claims to {}", claimIds.size(), target);
         
-        Claim claim = claimRepository.findById(id)
-            .orElseThrow(() -> new ClaimNotFoundException("Claim not found"));
+        Map<Long, ClaimTransitionView> current = claimRepository.findTransitionViewByIdIn(claimIds).stream()
+            .collect(Collectors.toMap(ClaimTransitionView::getId, Function.identity()));
+        
+        Map<Long, ClaimTransitionResult> results = new LinkedHashMap<>();
+        List<ExpectedClaimStatus> candidates = new ArrayList<>();
+        for (Long id : claimIds) {
+            ClaimTransitionView claim = current.get(id);
+            ClaimTransitionResult.Outcome blocked = claim == null
+                ? ClaimTransitionResult.Outcome.NOT_FOUND
+                : checkTransition(claim.getStatus(), claim.getClaimAmount(), target, approvedAmountOf.apply(id));
+            if (blocked != null) {
+                results.put(id, ClaimTransitionResult.failed(id, blocked, target, claim == null ? null : claim.getStatus()));
+            } else {
+                results.put(id, null);
+                candidates.add(new ExpectedClaimStatus(id, claim.getStatus()));
+            }
+        }
         
-        claim.setStatus(ClaimStatus.REJECTED);
-        claim.setRejectionReason(reason);
-        claim.setAssessmentDate(LocalDate.now());
+        if (!candidates.isEmpty()) {
+            // Pending entity changes must reach the database before the JDBC writes bypass them
+            entityManager.flush();
+            int[] counts = writer.apply(candidates);
+            entityManager.clear();
+            
+            List<Long> updated = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                ExpectedClaimStatus claim = candidates.get(i);
+                if (counts[i] == 0) {
+                    // Moved on between validation and the write; report the status it was validated in
+                    results.put(claim.getClaimId(), ClaimTransitionResult.failed(
+                        claim.getClaimId(), ClaimTransitionResult.Outcome.ILLEGAL_TRANSITION, target, claim.getStatus()));
+                } else {
+                    updated.add(claim.getClaimId());
+                }
+            }
+            for (Claim claim : claimRepository.findAllById(updated)) {
+                // Rewritten batches may not report per-row counts, so trust the reloaded status
+                if (claim.getStatus() != target) {
+                    results.put(claim.getId(), ClaimTransitionResult.failed(
+                        claim.getId(), ClaimTransitionResult.Outcome.ILLEGAL_TRANSITION, target, claim.getStatus()));
+                    continue;
+                }
+                publishClaimEvent(eventType, claim, current.get(claim.getId()).getStatus());
+                results.put(claim.getId(), ClaimTransitionResult.applied(cacheThrough(claim)));
+            }
+            // Deleted between the write and the reload
+            results.replaceAll((id, result) -> result != null ? result
+                : ClaimTransitionResult.failed(id, ClaimTransitionResult.Outcome.NOT_FOUND, target, null));
+        }
         
-        Claim rejected = claimRepository.save(claim);
-        log.info("Claim rejected: {}, Reason: {}", rejected.getClaimNumber(), reason);
+        List<BulkTransitionResponse.Item> items = results.values().stream()
+            .map(result -> BulkTransitionResponse.Item.builder()
+                .claimId(result.getClaimId())
+                .outcome(result.getOutcome())
+                .status(result.getCurrentStatus())
+                .build())
+            .collect(Collectors.toList());
+        int applied = (int) items.stream()
+            .filter(item -> item.getOutcome() == ClaimTransitionResult.Outcome.APPLIED)
+            .count();
+        log.info("Bulk transition to {} applied to {} of {} claims", target, applied, claimIds.size());
         
-        return mapToDTO(rejected);
+        return BulkTransitionResponse.builder()
+            .targetStatus(target)
+            .requested(claimIds.size())
+            .applied(applied)
+            .results(items)
+            .build();
+    }
+    
+    private Claim reload(Long id) {
+        return claimRepository.findById(id)
+            .orElseThrow(() -> new ClaimNotFoundException("Claim not found"));
+    }
+    
+    // The cache applies the put once the surrounding transaction commits
+    private ClaimDTO cacheThrough(Claim claim) {
+        ClaimDTO dto = mapToDTO(claim);
+        claimCache.put(dto);
+        return dto;
+    }
+    
+    // Listeners receive the event only after the surrounding transaction commits
+    private void publishClaimEvent(String eventType, Claim claim, ClaimStatus previousStatus) {
+        eventPublisher.publishEvent(ClaimEvent.builder()
+            .eventType(eventType)
+            .claimId(claim.getId())
+            .claimNumber(claim.getClaimNumber())
+            .policyId(claim.getPolicyId())
+            .customerId(claim.getCustomerId())
+            .claimType(claim.getClaimType().name())
+            .claimAmount(claim.getClaimAmount())
+            .approvedAmount(claim.getApprovedAmount())
+            .fraudRiskLevel(claim.getFraudRiskLevel() == null ? null : claim.getFraudRiskLevel().name())
+            .previousStatus(previousStatus == null ? null : previousStatus.name())
+            .status(claim.getStatus().name())
+            .build());
     }
     
-    private ClaimDTO mapToDTO(Claim claim) {
+    // Package-private for the scoring write-through and ClaimMappingBenchmark
+    static ClaimDTO mapToDTO(Claim claim) {
         return ClaimDTO.builder()
             .id(claim.getId())
             .claimNumber(claim.getClaimNumber())
@@ -0,0 +1,56 @@
+package com.fintech.insurance.claims.service;
+
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.exception.ClaimNotFoundException;
+import com.fintech.insurance.claims.exception.IllegalClaimTransitionException;
+import com.fintech.insurance.claims.exception.InvalidClaimException;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Outcome of a conditional claim transition. Only {@link Outcome#APPLIED} carries
+ * the updated claim; the other outcomes carry the status the claim was found in.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClaimTransitionResult {
+    
+    public enum Outcome {
+        APPLIED,
+        NOT_FOUND,
+        ILLEGAL_TRANSITION,
+        AMOUNT_EXCEEDS_CLAIM
+    }
+    
+    Long claimId;
+    Outcome outcome;
+    ClaimStatus targetStatus;
+    ClaimStatus currentStatus;
+    ClaimDTO claim;
+    
+    static ClaimTransitionResult applied(ClaimDTO claim) {
+        return new ClaimTransitionResult(claim.getId(), Outcome.APPLIED, claim.getStatus(), claim.getStatus(), claim);
+    }
+    
+    static ClaimTransitionResult failed(Long claimId, Outcome outcome, ClaimStatus targetStatus, ClaimStatus currentStatus) {
+        return new ClaimTransitionResult(claimId, outcome, targetStatus, currentStatus, null);
+    }
+    
+    public boolean isApplied() {
+        return outcome == Outcome.APPLIED;
+    }
+    
+    /**
+     * Returns the updated claim, or throws the exception the REST API maps for this outcome.
+     */
+    public ClaimDTO getClaimOrThrow() {
+        return switch (outcome) {
+            case APPLIED -> claim;
+            case NOT_FOUND -> throw new ClaimNotFoundException("Claim not found");
+            case ILLEGAL_TRANSITION -> throw new IllegalClaimTransitionException(claimId, currentStatus, targetStatus);
+            case AMOUNT_EXCEEDS_CLAIM -> throw new InvalidClaimException("Approved amount cannot exceed claimed amount");
+        };
+    }
+}
@@ -1,72 +1,77 @@
 package com.fintech.insurance.claims.service;
 
 
+import com.fintech.insurance.claims.counter.SettledClaimCounter;
+import com.fintech.insurance.claims.fraud.CompiledFraudRules;
+import com.fintech.insurance.claims.fraud.FraudRuleEngine;
 import com.fintech.insurance.claims.model.Claim;
 import com.fintech.insurance.claims.model.FraudRiskLevel;
-import com.fintech.insurance.claims.repository.ClaimRepository;
+import io.micrometer.tracing.annotation.NewSpan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FraudDetectionService {
     
-    private final ClaimRepository claimRepository;
+    private final SettledClaimCounter settledClaimCounter;
+    private final FraudRuleEngine fraudRuleEngine;
+    private final ClaimMetrics claimMetrics;
     
+    @NewSpan("fraud score")
     public double calculateFraudScore(Claim claim) {
-        log.info("Calculating fraud score for claim: {}", claim.getClaimNumber());
+        log.debug("Calculating fraud score for claim: {}", claim.getClaimNumber());
         
-        double score = 0.0;
+        long start = System.nanoTime();
+        double finalScore = score(fraudRuleEngine.current(), claim, settledClaimCounter.get(claim.getCustomerId()));
+        claimMetrics.recordFraudScore(System.nanoTime() - start);
+        log.debug("Fraud score calculated: {} for claim: {}", finalScore, claim.getClaimNumber());
         
-        // Factor 1: Claim frequency (30%)
-        Long previousClaims = claimRepository.countSettledClaimsByCustomer(claim.getCustomerId());
-        if (previousClaims > 3) {
-            score += 0.30;
-        } else if (previousClaims > 1) {
-            score += 0.15;
-        }
-        
-        // Factor 2: Late filing (15%)
-        long daysSinceIncident = ChronoUnit.DAYS.between(claim.getIncidentDate(), claim.getFiledDate());
-        if (daysSinceIncident > 180) {
-            score += 0.15;
-        } else if (daysSinceIncident > 90) {
-            score += 0.08;
-        }
-        
-        // Factor 3: High claim amount (20%)
-        if (claim.getClaimAmount().doubleValue() > 100000) {
-            score += 0.20;
-        } else if (claim.getClaimAmount().doubleValue() > 50000) {
-            score += 0.10;
+        return finalScore;
+    }
+    
+    /**
+     * Scores every claim against one snapshot of the rules, so a reload in
+     * the middle of a batch cannot mix rule versions. Customer history for
+     * the whole batch is fetched from the counter store in one lookup.
+     */
+    public double[] scoreAll(List<Claim> claims) {
+        CompiledFraudRules rules = fraudRuleEngine.current();
+        long[] customerIds = new long[claims.size()];
+        for (int i = 0; i < customerIds.length; i++) {
+            customerIds[i] = claims.get(i).getCustomerId();
         }
+        long[] priorSettledClaims = settledClaimCounter.getAll(customerIds);
         
-        // Factor 4: Missing information (15%)
-        if (claim.getIncidentLocation() == null || claim.getIncidentLocation().trim().isEmpty()) {
-            score += 0.05;
-        }
-        if (claim.getIncidentDescription() == null || claim.getIncidentDescription().length() < 20) {
-            score += 0.10;
+        double[] scores = new double[claims.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = score(rules, claims.get(i), priorSettledClaims[i]);
         }
-        
-        double finalScore = Math.min(score, 1.0);
-        log.info("Fraud score calculated: {} for claim: {}", finalScore, claim.getClaimNumber());
-        
-        return finalScore;
+        return scores;
     }
     
+    /**
+     * Maps a score to its level. Callers that triage a new claim count the
+     * level themselves, so re-scoring runs do not inflate claims.fraud.risk.
+     */
     public FraudRiskLevel determineFraudRiskLevel(double fraudScore) {
-        if (fraudScore >= 0.75) {
-            return FraudRiskLevel.CRITICAL;
-        } else if (fraudScore >= 0.50) {
-            return FraudRiskLevel.HIGH;
-        } else if (fraudScore >= 0.25) {
-            return FraudRiskLevel.MEDIUM;
-        }
-        return FraudRiskLevel.LOW;
+        return fraudRuleEngine.current().riskLevel(fraudScore);
+    }
+    
+    public boolean requiresInvestigation(FraudRiskLevel riskLevel) {
+        return riskLevel == FraudRiskLevel.CRITICAL || riskLevel == FraudRiskLevel.HIGH;
+    }
+    
+    private double score(CompiledFraudRules rules, Claim claim, long priorSettledClaims) {
+        return rules.score(
+            priorSettledClaims,
+            claim.getFiledDate().toEpochDay() - claim.getIncidentDate().toEpochDay(),
+            claim.getClaimAmount(),
+            claim.getIncidentLocation(),
+            claim.getIncidentDescription());
     }
 }
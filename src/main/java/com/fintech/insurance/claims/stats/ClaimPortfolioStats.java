@@ -0,0 +1,290 @@
+package com.fintech.insurance.claims.stats;
+
+import com.fintech.insurance.claims.dto.ClaimPortfolioStatsDTO;
+import com.fintech.insurance.claims.event.ClaimEvent;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.repository.ClaimPortfolioRow;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.FraudScoreUpdate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Live claim counts and claimed amounts by status, type and fraud risk level.
+ * Each aggregate is a pair of {@link LongAdder}s, so concurrent transitions
+ * update striped cells instead of contending on one. Seeded from a single
+ * GROUP BY at startup and then moved by committed claim events and scoring
+ * batches; reads never touch the database.
+ * <p>
+ * Amounts are kept in cents. A transition decrements one bucket and increments
+ * another, so a concurrent reader may briefly see the two out of step, and only
+ * transitions made on this node are seen after seeding.
+ * <p>
+ * The app takes traffic before it is ready, so until the seed is done only the
+ * latest state of each claim an update touches is kept. The seed reads those
+ * claims in the same snapshot as the GROUP BY, takes out what the snapshot
+ * counted for them and adds their latest state, so an update is counted once
+ * whether or not the snapshot already saw it.
+ */
+@Component
+@Slf4j
+public class ClaimPortfolioStats {
+    
+    static final String UNSCORED = "UNSCORED";
+    
+    private final ClaimRepository claimRepository;
+    private final Map<ClaimStatus, Aggregate> byStatus = aggregates(ClaimStatus.class);
+    private final Map<ClaimType, Aggregate> byType = aggregates(ClaimType.class);
+    private final Map<FraudRiskLevel, Aggregate> byRiskLevel = aggregates(FraudRiskLevel.class);
+    private final Aggregate unscored = new Aggregate();
+    private final Aggregate total = new Aggregate();
+    private final LongAdder approvedCents = new LongAdder();
+    private volatile LocalDateTime seededAt;
+    // Latest state of each claim updated before the seed, null once seeded; guarded by seedLock
+    private volatile Map<Long, ClaimState> touched = new HashMap<>();
+    private final Object seedLock = new Object();
+    
+    public ClaimPortfolioStats(ClaimRepository claimRepository, MeterRegistry meterRegistry) {
+        this.claimRepository = claimRepository;
+        byStatus.forEach((status, aggregate) -> register(meterRegistry, "status", status.name(), aggregate));
+        byType.forEach((type, aggregate) -> register(meterRegistry, "type", type.name(), aggregate));
+        byRiskLevel.forEach((level, aggregate) -> register(meterRegistry, "risk_level", level.name(), aggregate));
+        register(meterRegistry, "risk_level", UNSCORED, unscored);
+        Gauge.builder("claims.portfolio.claims.total", total.count, LongAdder::sum)
+            .description("Claims on record")
+            .register(meterRegistry);
+        Gauge.builder("claims.portfolio.claimed.total", total.cents, ClaimPortfolioStats::units)
+            .description("Total claimed amount")
+            .register(meterRegistry);
+        Gauge.builder("claims.portfolio.approved.total", approvedCents, ClaimPortfolioStats::units)
+            .description("Total approved amount")
+            .register(meterRegistry);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void seed() {
+        if (touched == null) {
+            log.warn("Claim portfolio stats already seeded, skipping");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int groups = 0;
+        for (ClaimPortfolioRow row : claimRepository.summarizePortfolio()) {
+            add(row, 1);
+            groups++;
+        }
+        int rebased;
+        synchronized (seedLock) {
+            // Same snapshot as the GROUP BY, so this is exactly what it counted for these claims
+            Map<Long, ClaimState> latest = touched;
+            if (!latest.isEmpty()) {
+                claimRepository.summarizeClaims(latest.keySet()).forEach(row -> add(row, -1));
+                latest.values().forEach(this::add);
+            }
+            rebased = latest.size();
+            touched = null;
+        }
+        seededAt = LocalDateTime.now();
+        log.info("Seeded claim portfolio stats from {} groups in {} ms, then rebased {} claims updated meanwhile",
+            groups, System.currentTimeMillis() - start, rebased);
+    }
+    
+    @TransactionalEventListener
+    public void onClaimEvent(ClaimEvent event) {
+        whenSeeded(latest -> latest.put(event.getClaimId(), ClaimState.of(event)), () -> apply(event));
+    }
+    
+    /**
+     * Applies committed fraud scores. {@code scored} holds the claims as they
+     * were read before scoring and {@code applied} the updates that were written.
+     */
+    public void recordScores(Collection<Claim> scored, Collection<FraudScoreUpdate> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        whenSeeded(latest -> {
+            Map<Long, Claim> before = byId(scored);
+            for (FraudScoreUpdate update : applied) {
+                latest.put(update.getClaimId(), ClaimState.of(before.get(update.getClaimId()), update));
+            }
+        }, () -> applyScores(scored, applied));
+    }
+    
+    private void whenSeeded(Consumer<Map<Long, ClaimState>> record, Runnable update) {
+        if (touched != null) {
+            synchronized (seedLock) {
+                if (touched != null) {
+                    record.accept(touched);
+                    return;
+                }
+            }
+        }
+        update.run();
+    }
+    
+    private void add(ClaimPortfolioRow row, int sign) {
+        long count = sign * row.getClaimCount();
+        long cents = sign * cents(row.getClaimedAmount());
+        byStatus.get(row.getStatus()).add(count, cents);
+        byType.get(row.getClaimType()).add(count, cents);
+        riskAggregate(row.getFraudRiskLevel()).add(count, cents);
+        total.add(count, cents);
+        approvedCents.add(sign * cents(row.getApprovedAmount()));
+    }
+    
+    private void add(ClaimState state) {
+        byStatus.get(state.status()).add(1, state.claimedCents());
+        byType.get(state.claimType()).add(1, state.claimedCents());
+        riskAggregate(state.fraudRiskLevel()).add(1, state.claimedCents());
+        total.add(1, state.claimedCents());
+        approvedCents.add(state.approvedCents());
+    }
+    
+    private void apply(ClaimEvent event) {
+        long cents = cents(event.getClaimAmount());
+        Aggregate target = byStatus.get(ClaimStatus.valueOf(event.getStatus()));
+        if (event.getPreviousStatus() == null) {
+            target.add(1, cents);
+            byType.get(ClaimType.valueOf(event.getClaimType())).add(1, cents);
+            riskAggregate(event.getFraudRiskLevel() == null ? null : FraudRiskLevel.valueOf(event.getFraudRiskLevel()))
+                .add(1, cents);
+            total.add(1, cents);
+        } else {
+            byStatus.get(ClaimStatus.valueOf(event.getPreviousStatus())).add(-1, -cents);
+            target.add(1, cents);
+        }
+        if ("CLAIM_APPROVED".equals(event.getEventType())) {
+            approvedCents.add(cents(event.getApprovedAmount()));
+        }
+    }
+    
+    private void applyScores(Collection<Claim> scored, Collection<FraudScoreUpdate> applied) {
+        Map<Long, Claim> before = byId(scored);
+        for (FraudScoreUpdate update : applied) {
+            Claim claim = before.get(update.getClaimId());
+            long cents = cents(claim.getClaimAmount());
+            if (update.getExpectedStatus() != update.getNewStatus()) {
+                byStatus.get(update.getExpectedStatus()).add(-1, -cents);
+                byStatus.get(update.getNewStatus()).add(1, cents);
+            }
+            if (claim.getFraudRiskLevel() != update.getFraudRiskLevel()) {
+                riskAggregate(claim.getFraudRiskLevel()).add(-1, -cents);
+                riskAggregate(update.getFraudRiskLevel()).add(1, cents);
+            }
+        }
+    }
+    
+    public ClaimPortfolioStatsDTO snapshot() {
+        Map<String, ClaimPortfolioStatsDTO.Aggregate> riskLevels = new LinkedHashMap<>();
+        byRiskLevel.forEach((level, aggregate) -> riskLevels.put(level.name(), aggregate.toDTO()));
+        riskLevels.put(UNSCORED, unscored.toDTO());
+        return ClaimPortfolioStatsDTO.builder()
+            .totalClaims(total.count.sum())
+            .totalClaimedAmount(BigDecimal.valueOf(total.cents.sum(), 2))
+            .totalApprovedAmount(BigDecimal.valueOf(approvedCents.sum(), 2))
+            .byStatus(toDTO(byStatus, ClaimStatus.class))
+            .byClaimType(toDTO(byType, ClaimType.class))
+            .byFraudRiskLevel(riskLevels)
+            .seededAt(seededAt)
+            .build();
+    }
+    
+    private Aggregate riskAggregate(FraudRiskLevel level) {
+        return level == null ? unscored : byRiskLevel.get(level);
+    }
+    
+    private static Map<Long, Claim> byId(Collection<Claim> claims) {
+        return claims.stream().collect(Collectors.toMap(Claim::getId, Function.identity()));
+    }
+    
+    private static void register(MeterRegistry meterRegistry, String dimension, String value, Aggregate aggregate) {
+        Gauge.builder("claims.portfolio.claims", aggregate.count, LongAdder::sum)
+            .description("Claims on record by dimension")
+            .tag("dimension", dimension)
+            .tag("value", value)
+            .register(meterRegistry);
+        Gauge.builder("claims.portfolio.claimed", aggregate.cents, ClaimPortfolioStats::units)
+            .description("Claimed amount by dimension")
+            .tag("dimension", dimension)
+            .tag("value", value)
+            .register(meterRegistry);
+    }
+    
+    private static <E extends Enum<E>> Map<E, Aggregate> aggregates(Class<E> type) {
+        Map<E, Aggregate> aggregates = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            aggregates.put(constant, new Aggregate());
+        }
+        return aggregates;
+    }
+    
+    private static <E extends Enum<E>> Map<E, ClaimPortfolioStatsDTO.Aggregate> toDTO(Map<E, Aggregate> aggregates,
+                                                                                     Class<E> type) {
+        Map<E, ClaimPortfolioStatsDTO.Aggregate> result = new EnumMap<>(type);
+        aggregates.forEach((key, aggregate) -> result.put(key, aggregate.toDTO()));
+        return result;
+    }
+    
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0L : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+    
+    private static double units(LongAdder cents) {
+        return cents.sum() / 100.0;
+    }
+    
+    private record ClaimState(ClaimStatus status, ClaimType claimType, FraudRiskLevel fraudRiskLevel,
+                              long claimedCents, long approvedCents) {
+        
+        static ClaimState of(ClaimEvent event) {
+            return new ClaimState(ClaimStatus.valueOf(event.getStatus()), ClaimType.valueOf(event.getClaimType()),
+                event.getFraudRiskLevel() == null ? null : FraudRiskLevel.valueOf(event.getFraudRiskLevel()),
+                ClaimPortfolioStats.cents(event.getClaimAmount()),
+                ClaimPortfolioStats.cents(event.getApprovedAmount()));
+        }
+        
+        static ClaimState of(Claim scored, FraudScoreUpdate update) {
+            return new ClaimState(update.getNewStatus(), scored.getClaimType(), update.getFraudRiskLevel(),
+                ClaimPortfolioStats.cents(scored.getClaimAmount()),
+                ClaimPortfolioStats.cents(scored.getApprovedAmount()));
+        }
+    }
+    
+    private static final class Aggregate {
+        final LongAdder count = new LongAdder();
+        final LongAdder cents = new LongAdder();
+        
+        void add(long claims, long amountCents) {
+            count.add(claims);
+            cents.add(amountCents);
+        }
+        
+        ClaimPortfolioStatsDTO.Aggregate toDTO() {
+            return new ClaimPortfolioStatsDTO.Aggregate(count.sum(), BigDecimal.valueOf(cents.sum(), 2));
+        }
+    }
+}
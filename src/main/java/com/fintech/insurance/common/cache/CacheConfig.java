@@ -0,0 +1,42 @@
+package com.fintech.insurance.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    
+    @Bean
+    public TwoTierCacheManager cacheManager(RemoteCacheStore remoteCacheStore,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${insurance.cache.l1.maximum-size:10000}") long localMaximumSize,
+                                            @Value("${insurance.cache.l1.ttl:PT5M}") Duration localTtl,
+                                            @Value("${insurance.cache.l2.ttl:PT30M}") Duration remoteTtl) {
+        return new TwoTierCacheManager(CacheSettings.bySize(localMaximumSize, localTtl, remoteTtl),
+            remoteCacheStore, valueSerializer(objectMapper), meterRegistry);
+    }
+    
+    /**
+     * JSON with embedded type names, so cached DTOs and lists of DTOs read back
+     * as the types that were written. Only application and JDK types are accepted.
+     */
+    public static RedisSerializer<Object> valueSerializer(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.fintech.insurance.")
+                .allowIfSubType("java.")
+                .build(),
+            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+}
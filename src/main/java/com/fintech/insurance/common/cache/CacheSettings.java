@@ -0,0 +1,24 @@
+package com.fintech.insurance.common.cache;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounds and expiry for one two-tier cache. The local tier is bounded either by
+ * entry count or, when a weigher is given, by the summed weight of its values.
+ */
+public record CacheSettings(long localMaximum, ToIntFunction<Object> weigher, Duration localTtl, Duration remoteTtl) {
+    
+    public static CacheSettings bySize(long maximumSize, Duration localTtl, Duration remoteTtl) {
+        return new CacheSettings(maximumSize, null, localTtl, remoteTtl);
+    }
+    
+    public static CacheSettings byWeight(long maximumWeight, ToIntFunction<Object> weigher,
+                                         Duration localTtl, Duration remoteTtl) {
+        return new CacheSettings(maximumWeight, weigher, localTtl, remoteTtl);
+    }
+    
+    public boolean weighted() {
+        return weigher != null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.fintech.insurance.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for Redis, for single-node runs and tests. Several cache
+ * managers sharing one instance behave like nodes sharing one Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "insurance.cache.l2.store", havingValue = "memory")
+public class InMemoryRemoteCacheStore implements RemoteCacheStore {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public byte[] get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.nanoTime()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+    
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+    
+    @Override
+    public boolean putIfAbsent(String key, byte[] value, Duration ttl) {
+        Entry entry = new Entry(value, System.nanoTime() + ttl.toNanos());
+        Entry stored = entries.compute(key, (k, existing) ->
+            existing != null && existing.expiresAt() > System.nanoTime() ? existing : entry);
+        return stored == entry;
+    }
+    
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+    
+    @Override
+    public void deleteByPrefix(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    
+    @Override
+    public void publish(String message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+    
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+    
+    private record Entry(byte[] value, long expiresAt) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.fintech.insurance.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Broadcasts local-tier invalidations to the other nodes. Messages are
+ * {@code origin|cache} to clear a cache or {@code origin|cache|key} for one entry;
+ * a node ignores its own messages since it has already applied them.
+ */
+@Slf4j
+final class InvalidationBus {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String origin = UUID.randomUUID().toString();
+    private final RemoteCacheStore remote;
+    
+    InvalidationBus(RemoteCacheStore remote, BiConsumer<String, String> onRemoteInvalidation) {
+        this.remote = remote;
+        remote.subscribe(message -> {
+            String[] parts = message.split("\\|", 3);
+            if (parts.length < 2 || origin.equals(parts[0])) {
+                return;
+            }
+            onRemoteInvalidation.accept(parts[1], parts.length == 3 ? parts[2] : null);
+        });
+    }
+    
+    /**
+     * @param key the entry to invalidate, or null to clear the whole cache
+     */
+    void broadcast(String cacheName, String key) {
+        String message = origin + SEPARATOR + cacheName + (key == null ? "" : SEPARATOR + key);
+        try {
+            remote.publish(message);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast invalidation of {} in cache {}", key, cacheName, e);
+        }
+    }
+}
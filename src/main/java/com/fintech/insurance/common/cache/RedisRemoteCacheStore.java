@@ -0,0 +1,114 @@
+package com.fintech.insurance.common.cache;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "insurance.cache.l2.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRemoteCacheStore implements RemoteCacheStore, DisposableBean {
+    
+    private static final int SCAN_BATCH_SIZE = 1000;
+    
+    private final RedisTemplate<String, byte[]> valueTemplate;
+    private final StringRedisTemplate messageTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic channel;
+    
+    public RedisRemoteCacheStore(RedisConnectionFactory connectionFactory,
+                                 StringRedisTemplate messageTemplate,
+                                 Environment environment,
+                                 @Value("${insurance.cache.invalidation-channel:insurance:cache:invalidations}") String channel) {
+        this.valueTemplate = new RedisTemplate<>();
+        valueTemplate.setConnectionFactory(connectionFactory);
+        valueTemplate.setKeySerializer(RedisSerializer.string());
+        valueTemplate.setValueSerializer(RedisSerializer.byteArray());
+        valueTemplate.afterPropertiesSet();
+        
+        this.messageTemplate = messageTemplate;
+        this.channel = new ChannelTopic(channel);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("cache-invalidation-");
+            listenerExecutor.setVirtualThreads(true);
+            listenerContainer.setTaskExecutor(listenerExecutor);
+        }
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+    
+    @Override
+    public byte[] get(String key) {
+        return valueTemplate.opsForValue().get(key);
+    }
+    
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        valueTemplate.opsForValue().set(key, value, ttl);
+    }
+    
+    @Override
+    public boolean putIfAbsent(String key, byte[] value, Duration ttl) {
+        // SET NX EX
+        return Boolean.TRUE.equals(valueTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+    
+    @Override
+    public void delete(String key) {
+        valueTemplate.delete(key);
+    }
+    
+    @Override
+    public void deleteByPrefix(String prefix) {
+        // SCAN rather than KEYS so a large keyspace does not block the server
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+        List<String> batch = new ArrayList<>();
+        try (Cursor<String> cursor = valueTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    valueTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            valueTemplate.delete(batch);
+        }
+    }
+    
+    @Override
+    public void publish(String message) {
+        messageTemplate.convertAndSend(channel.getTopic(), message);
+    }
+    
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+            (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)), channel);
+    }
+    
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
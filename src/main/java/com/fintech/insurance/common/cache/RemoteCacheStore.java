@@ -0,0 +1,28 @@
+package com.fintech.insurance.common.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Shared second-tier store plus the broadcast channel every node listens on
+ * for invalidations of its local tier.
+ */
+public interface RemoteCacheStore {
+    
+    byte[] get(String key);
+    
+    void put(String key, byte[] value, Duration ttl);
+    
+    /**
+     * Stores the value only if the key has no live entry; returns whether it did.
+     */
+    boolean putIfAbsent(String key, byte[] value, Duration ttl);
+    
+    void delete(String key);
+    
+    void deleteByPrefix(String prefix);
+    
+    void publish(String message);
+    
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,264 @@
+package com.fintech.insurance.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded local Caffeine tier in front of a shared remote tier. Reads fall through
+ * L1 then L2 then the loader, filling the tiers above on the way back; writes and
+ * evictions go to both tiers and are broadcast so other nodes drop their L1 copy.
+ * <p>
+ * Only {@link #put} overwrites. Fills after a load never replace an entry that
+ * appeared while the loader ran, so a value read before a write-through cannot
+ * clobber it.
+ * A failing remote tier degrades to a miss rather than failing the request.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    
+    static final String KEY_PREFIX = "insurance:cache:";
+    
+    private final String name;
+    private final String remotePrefix;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final RemoteCacheStore remote;
+    private final RedisSerializer<Object> serializer;
+    private final Duration remoteTtl;
+    private final InvalidationBus invalidationBus;
+    
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+    private final Counter l1Evictions;
+    private final Counter l2Evictions;
+    private final Counter invalidationsReceived;
+    
+    TwoTierCache(String name, CacheSettings settings, RemoteCacheStore remote,
+                 RedisSerializer<Object> serializer, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.remotePrefix = KEY_PREFIX + name + ":";
+        this.remote = remote;
+        this.serializer = serializer;
+        this.remoteTtl = settings.remoteTtl();
+        this.invalidationBus = invalidationBus;
+        
+        this.l1Hits = tierCounter(meterRegistry, "cache.tier.gets", "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "cache.tier.gets", "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "cache.tier.gets", "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "cache.tier.gets", "l2", "miss");
+        this.l2Errors = tierCounter(meterRegistry, "cache.tier.gets", "l2", "error");
+        this.l1Evictions = tierCounter(meterRegistry, "cache.tier.evictions", "l1", null);
+        this.l2Evictions = tierCounter(meterRegistry, "cache.tier.evictions", "l2", null);
+        this.invalidationsReceived = Counter.builder("cache.invalidations.received")
+            .tag("cache", name)
+            .register(meterRegistry);
+        
+        // Eviction listener only fires for size and expiry removals, not explicit invalidation
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().expireAfterWrite(settings.localTtl());
+        if (settings.weighted()) {
+            ToIntFunction<Object> weigher = settings.weigher();
+            builder = builder.maximumWeight(settings.localMaximum())
+                .weigher((Object key, Object value) -> weigher.applyAsInt(value));
+        } else {
+            builder = builder.maximumSize(settings.localMaximum());
+        }
+        this.local = builder
+            .evictionListener((key, value, cause) -> l1Evictions.increment())
+            .build();
+        Gauge.builder("cache.tier.size", local, cache -> cache.estimatedSize())
+            .tag("cache", name)
+            .tag("tier", "l1")
+            .register(meterRegistry);
+        if (settings.weighted()) {
+            Gauge.builder("cache.tier.weight", local,
+                    cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+    
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+        value = getRemote(localKey);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hits.increment();
+            return (T) fromStoreValue(value);
+        }
+        l1Misses.increment();
+        // Caffeine runs at most one loader per key, so concurrent misses share one load
+        value = local.get(localKey, k -> {
+            Object remoteValue = getRemote(k);
+            if (remoteValue != null) {
+                return remoteValue;
+            }
+            Object loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (loaded != null) {
+                Object current = putRemoteIfAbsent(k, loaded);
+                if (current != null) {
+                    return current;
+                }
+            }
+            return loaded;
+        });
+        return (T) fromStoreValue(value);
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key.toString();
+        Object storeValue = toStoreValue(value);
+        local.put(localKey, storeValue);
+        putRemote(localKey, storeValue);
+        invalidationBus.broadcast(name, localKey);
+    }
+    
+    /**
+     * Fills both tiers unless either already holds the key, in which case the
+     * held value wins and is returned. Nothing is broadcast: no node can hold
+     * a copy that this replaces.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = key.toString();
+        Object existing = local.getIfPresent(localKey);
+        if (existing != null) {
+            return toValueWrapper(existing);
+        }
+        Object storeValue = toStoreValue(value);
+        Object current = putRemoteIfAbsent(localKey, storeValue);
+        if (current != null) {
+            local.put(localKey, current);
+            return toValueWrapper(current);
+        }
+        existing = local.asMap().putIfAbsent(localKey, storeValue);
+        return existing == null ? null : toValueWrapper(existing);
+    }
+    
+    @Override
+    public void evict(Object key) {
+        String localKey = key.toString();
+        local.invalidate(localKey);
+        try {
+            remote.delete(remotePrefix + localKey);
+            l2Evictions.increment();
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} from remote tier of cache {}", localKey, name, e);
+        }
+        invalidationBus.broadcast(name, localKey);
+    }
+    
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            remote.deleteByPrefix(remotePrefix);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear remote tier of cache {}", name, e);
+        }
+        invalidationBus.broadcast(name, null);
+    }
+    
+    // Applies an invalidation broadcast by another node
+    void invalidateLocal(String key) {
+        invalidationsReceived.increment();
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+    
+    private Object getRemote(String key) {
+        try {
+            byte[] bytes = remote.get(remotePrefix + key);
+            if (bytes == null) {
+                l2Misses.increment();
+                return null;
+            }
+            l2Hits.increment();
+            return serializer.deserialize(bytes);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("Remote tier read of {} in cache {} failed; treating as a miss", key, name, e);
+            return null;
+        }
+    }
+    
+    private void putRemote(String key, Object value) {
+        try {
+            remote.put(remotePrefix + key, serializer.serialize(value), remoteTtl);
+        } catch (RuntimeException e) {
+            log.warn("Remote tier write of {} in cache {} failed", key, name, e);
+        }
+    }
+    
+    // Returns the value already in the remote tier, or null when this one was stored
+    private Object putRemoteIfAbsent(String key, Object value) {
+        try {
+            if (remote.putIfAbsent(remotePrefix + key, serializer.serialize(value), remoteTtl)) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Remote tier write of {} in cache {} failed", key, name, e);
+            return null;
+        }
+        return getRemote(key);
+    }
+    
+    private Counter tierCounter(MeterRegistry meterRegistry, String meter, String tier, String result) {
+        Counter.Builder builder = Counter.builder(meter)
+            .tag("cache", name)
+            .tag("tier", tier);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fintech.insurance.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates {@link TwoTierCache}s on first use. Puts and evictions issued inside a
+ * transaction are deferred until it commits, so other nodes never reload a value
+ * that is about to change.
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+    
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheSettings> cacheSettings = new ConcurrentHashMap<>();
+    private final CacheSettings settings;
+    private final RemoteCacheStore remote;
+    private final RedisSerializer<Object> serializer;
+    private final MeterRegistry meterRegistry;
+    private final InvalidationBus invalidationBus;
+    
+    public TwoTierCacheManager(CacheSettings settings, RemoteCacheStore remote,
+                               RedisSerializer<Object> serializer, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.remote = remote;
+        this.serializer = serializer;
+        this.meterRegistry = meterRegistry;
+        this.invalidationBus = new InvalidationBus(remote, this::invalidateLocal);
+        setTransactionAware(true);
+    }
+    
+    /**
+     * Overrides the default settings for one cache; must be called before the
+     * cache is first requested.
+     */
+    public void configureCache(String name, CacheSettings settings) {
+        if (caches.containsKey(name)) {
+            throw new IllegalStateException("Cache " + name + " is already in use");
+        }
+        cacheSettings.put(name, settings);
+    }
+    
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+    
+    @Override
+    protected Cache getMissingCache(String name) {
+        return caches.computeIfAbsent(name,
+            n -> new TwoTierCache(n, cacheSettings.getOrDefault(n, settings), remote, serializer, invalidationBus, meterRegistry));
+    }
+    
+    private void invalidateLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.fintech.insurance.common.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serves controller methods returning a {@link Mono} or {@link Flux} by blocking the
+ * request thread until the publisher completes, instead of through servlet async
+ * processing. Meant for virtual request threads, where blocking is cheap: async
+ * processing hands every streamed element, and the dispatch that completes the
+ * response, to a newly started virtual thread, and with few carriers those hand-offs
+ * queue behind every runnable request.
+ * <p>
+ * A {@code Flux} is written as NDJSON, one element per line as it arrives, when the
+ * matched {@code produces} types include NDJSON, which is when Spring MVC would have
+ * streamed it too; otherwise it is collected into a list. Lists and {@code Mono}
+ * values go through the regular {@code @ResponseBody} processing, so content
+ * negotiation and exception handlers apply as for any blocking endpoint.
+ */
+public class BlockingPublisherReturnValueHandler implements HandlerMethodReturnValueHandler {
+    
+    private final HandlerMethodReturnValueHandler responseBodyHandler;
+    private final ObjectMapper objectMapper;
+    
+    public BlockingPublisherReturnValueHandler(HandlerMethodReturnValueHandler responseBodyHandler,
+                                               ObjectMapper objectMapper) {
+        this.responseBodyHandler = responseBodyHandler;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        Class<?> type = returnType.getParameterType();
+        return Mono.class.isAssignableFrom(type) || Flux.class.isAssignableFrom(type);
+    }
+    
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                                  ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        if (returnValue instanceof Flux<?> flux && streamingRequested(webRequest)) {
+            mavContainer.setRequestHandled(true);
+            writeNdjson(flux, webRequest.getNativeResponse(HttpServletResponse.class));
+            return;
+        }
+        Object value;
+        if (returnValue instanceof Flux<?> flux) {
+            value = flux.collectList().block();
+        } else if (returnValue instanceof Mono<?> mono) {
+            // Unchecked errors are rethrown as they are, so the exception handlers still see them
+            value = mono.block();
+        } else {
+            value = null;
+        }
+        responseBodyHandler.handleReturnValue(value, returnType, mavContainer, webRequest);
+    }
+    
+    // Set by the handler mapping to the produces types that matched the Accept header
+    @SuppressWarnings("unchecked")
+    private static boolean streamingRequested(NativeWebRequest webRequest) {
+        Collection<MediaType> producible = (Collection<MediaType>) webRequest.getAttribute(
+            HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return producible != null && producible.stream().anyMatch(NdjsonWriter.APPLICATION_NDJSON::includes);
+    }
+    
+    private void writeNdjson(Flux<?> flux, HttpServletResponse response) throws IOException {
+        response.setContentType(NdjsonWriter.MEDIA_TYPE);
+        OutputStream out = response.getOutputStream();
+        // Closing the stream cancels the publisher if the client goes away mid-response
+        try (Stream<?> elements = flux.toStream()) {
+            Iterator<?> iterator = elements.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                out.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.fintech.insurance.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Merges concurrent lookups of the same key into one load whose result every
+ * caller shares. Lookups are grouped by name, typically one group per entity.
+ * <p>
+ * With a zero batch window the first caller for a key runs the load itself.
+ * With a positive window, first callers for different keys are collected for
+ * up to that long, or until the batch is full, and then loaded together, so a
+ * burst of misses becomes one {@code findAllById}.
+ * <p>
+ * As with Go's singleflight, every caller supplies the loader but only the one
+ * belonging to the caller that starts the load runs.
+ */
+@Component
+public class LookupCoalescer implements DisposableBean {
+    
+    private final Map<String, Group<?, ?>> groups = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService batcher = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "lookup-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public LookupCoalescer(MeterRegistry meterRegistry,
+                           @Value("${insurance.lookup.batch-window:PT0S}") Duration batchWindow,
+                           @Value("${insurance.lookup.max-batch-size:100}") int maxBatchSize) {
+        this.meterRegistry = meterRegistry;
+        this.batchWindowNanos = batchWindow.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    /**
+     * @param loader loads the given keys; keys missing from the result resolve to null
+     * @return the loaded value, or null if the loader returned none for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> V load(String group, K key, Function<Collection<K>, Map<K, V>> loader) {
+        Group<K, V> target = (Group<K, V>) groups.computeIfAbsent(group, Group::new);
+        return target.load(key, loader);
+    }
+    
+    @Override
+    public void destroy() {
+        batcher.shutdownNow();
+    }
+    
+    private final class Group<K, V> {
+        
+        private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+        private final Counter requests;
+        private final Counter coalesced;
+        private final Counter loads;
+        private final DistributionSummary batchSize;
+        
+        private List<K> pending = new ArrayList<>();
+        private Function<Collection<K>, Map<K, V>> pendingLoader;
+        
+        Group(String name) {
+            this.requests = Counter.builder("lookup.coalescer.requests").tag("group", name).register(meterRegistry);
+            this.coalesced = Counter.builder("lookup.coalescer.coalesced").tag("group", name).register(meterRegistry);
+            this.loads = Counter.builder("lookup.coalescer.loads").tag("group", name).register(meterRegistry);
+            this.batchSize = DistributionSummary.builder("lookup.coalescer.batch.size").tag("group", name)
+                .register(meterRegistry);
+        }
+        
+        V load(K key, Function<Collection<K>, Map<K, V>> loader) {
+            requests.increment();
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                coalesced.increment();
+                return await(existing);
+            }
+            if (batchWindowNanos == 0) {
+                run(List.of(key), loader);
+            } else {
+                enqueue(key, loader);
+            }
+            return await(flight);
+        }
+        
+        private void enqueue(K key, Function<Collection<K>, Map<K, V>> loader) {
+            List<K> full = null;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    pendingLoader = loader;
+                    batcher.schedule(this::flush, batchWindowNanos, TimeUnit.NANOSECONDS);
+                }
+                pending.add(key);
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = new ArrayList<>();
+                }
+            }
+            // A full batch is loaded by the caller that filled it; the scheduled flush finds nothing
+            if (full != null) {
+                run(full, loader);
+            }
+        }
+        
+        private void flush() {
+            List<K> batch;
+            Function<Collection<K>, Map<K, V>> loader;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                loader = pendingLoader;
+                pending = new ArrayList<>();
+            }
+            run(batch, loader);
+        }
+        
+        private void run(List<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+            loads.increment();
+            batchSize.record(keys.size());
+            Map<K, V> loaded;
+            try {
+                loaded = loader.apply(keys);
+            } catch (RuntimeException | Error e) {
+                for (K key : keys) {
+                    inFlight.remove(key).completeExceptionally(e);
+                }
+                return;
+            }
+            // Removing before completing lets the next caller start a fresh load
+            for (K key : keys) {
+                inFlight.remove(key).complete(loaded.get(key));
+            }
+        }
+        
+        private V await(CompletableFuture<V> flight) {
+            try {
+                return flight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.fintech.insurance.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier, typically inside
+ * a {@code synchronized} block in a JDBC driver or pool. Listens for the JDK's
+ * {@code jdk.VirtualThreadPinned} flight recorder event (Java 21+), records each one
+ * in {@code jvm.threads.virtual.pinned} tagged by where it happened, and logs the
+ * stack the first time a call site pins.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDBC_PACKAGES = List.of(
+        "java.sql.", "com.mysql.", "org.h2.", "com.zaxxer.hikari.", "org.hibernate.", "org.springframework.jdbc.");
+    private static final String APPLICATION_PACKAGE = "com.fintech.insurance.";
+    
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+    
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Reporting virtual threads pinned for longer than {}", threshold);
+    }
+    
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+    
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String source = source(frames);
+        Timer.builder("jvm.threads.virtual.pinned")
+            .description("Virtual threads that blocked while pinned to their carrier thread")
+            .tag("source", source)
+            .register(meterRegistry)
+            .record(event.getDuration());
+        
+        String site = callSite(frames);
+        if (reportedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {} ms ({}) at {}:{}",
+                event.getDuration().toMillis(), source, site, stack);
+        }
+    }
+    
+    // JDBC wins over application frames: the fix there is a driver or pool change
+    static String source(List<RecordedFrame> frames) {
+        boolean application = false;
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return "jdbc";
+            }
+            application |= type.startsWith(APPLICATION_PACKAGE);
+        }
+        return application ? "application" : "other";
+    }
+    
+    private static String callSite(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+            .findFirst()
+            .or(() -> frames.stream().findFirst())
+            .map(VirtualThreadPinningMonitor::describe)
+            .orElse("unknown");
+    }
+    
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+    
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+}
@@ -1,5 +1,6 @@
 package com.fintech.insurance.common.event;
 
+import com.fintech.insurance.common.id.BusinessIds;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -58,7 +59,7 @@ public class InsuranceEvent implements Serializable {
     // Generate event ID automatically
     public void generateEventId() {
         if (this.eventId == null) {
-            this.eventId = "EVT-" + System.currentTimeMillis() + "-" + (int)(Math.random() * 1000);
+            this.eventId = BusinessIds.eventId();
         }
     }
     
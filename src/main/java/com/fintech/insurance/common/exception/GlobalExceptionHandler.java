@@ -3,14 +3,17 @@ package com.fintech.insurance.common.exception;
 import com.fintech.insurance.policy.exception.InvalidPolicyException;
 import com.fintech.insurance.policy.exception.PolicyNotFoundException;
 import com.fintech.insurance.claims.exception.ClaimNotFoundException;
+import com.fintech.insurance.claims.exception.IllegalClaimTransitionException;
 import com.fintech.insurance.claims.exception.InvalidClaimException;
 import com.fintech.insurance.underwriting.exception.UnderwritingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -56,6 +59,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
     
+    @ExceptionHandler(IllegalClaimTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalClaimTransition(IllegalClaimTransitionException ex) {
+        log.error("Illegal claim transition: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error("Illegal Claim Transition")
+            .message(ex.getMessage())
+            .build();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+    
     @ExceptionHandler(InvalidClaimException.class)
     public ResponseEntity<ErrorResponse> handleInvalidClaim(InvalidClaimException ex) {
         log.error("Invalid claim: {}", ex.getMessage());
@@ -100,6 +115,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
     
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result -> result.getResolvableErrors().forEach(error -> {
+            String field = error instanceof FieldError fieldError
+                ? fieldError.getField()
+                : result.getMethodParameter().getParameterName();
+            // Batch payloads report which element failed, e.g. "[3].claimAmount"
+            String key = result.getContainerIndex() != null
+                ? "[" + result.getContainerIndex() + "]." + field
+                : field;
+            errors.put(key, error.getDefaultMessage());
+        }));
+        
+        log.error("Validation failed: {}", errors);
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error("Validation Failed")
+            .message("Invalid input data")
+            .validationErrors(errors)
+            .build();
+        
+        return ResponseEntity.badRequest().body(error);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error: ", ex);
@@ -0,0 +1,44 @@
+package com.fintech.insurance.common.id;
+
+/**
+ * Human-readable business numbers for claims, policies, underwriting cases and events.
+ * Entities assign these from {@code @PrePersist}, where no beans are injectable, so
+ * the generator is held statically and replaced at startup by {@link IdGeneratorConfig}
+ * with one carrying this instance's node id.
+ */
+public final class BusinessIds {
+    
+    public static final String CLAIM_PREFIX = "CLM";
+    public static final String POLICY_PREFIX = "POL";
+    public static final String UNDERWRITING_CASE_PREFIX = "UW";
+    public static final String EVENT_PREFIX = "EVT";
+    
+    private static volatile SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+    
+    private BusinessIds() {
+    }
+    
+    static void install(SnowflakeIdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+    
+    public static SnowflakeIdGenerator generator() {
+        return generator;
+    }
+    
+    public static String claimNumber() {
+        return generator.next(CLAIM_PREFIX);
+    }
+    
+    public static String policyNumber() {
+        return generator.next(POLICY_PREFIX);
+    }
+    
+    public static String caseNumber() {
+        return generator.next(UNDERWRITING_CASE_PREFIX);
+    }
+    
+    public static String eventId() {
+        return generator.next(EVENT_PREFIX);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintech.insurance.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+    
+    /**
+     * Every running instance needs its own {@code insurance.id.node-id} (0-1023).
+     * Without one the node id is derived from the host name, which is only
+     * collision-free while host names hash to distinct values.
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${insurance.id.node-id:-1}") int nodeId) {
+        if (nodeId < 0) {
+            nodeId = hostNodeId();
+            log.warn("insurance.id.node-id is not set; derived node id {} from the host name", nodeId);
+        }
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(nodeId);
+        BusinessIds.install(generator);
+        log.info("Business ids issued with node id {}", nodeId);
+        return generator;
+    }
+    
+    private static int hostNodeId() {
+        try {
+            return (InetAddress.getLocalHost().getHostName().hashCode() & 0x7fffffff) % (SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        } catch (UnknownHostException e) {
+            return 0;
+        }
+    }
+}
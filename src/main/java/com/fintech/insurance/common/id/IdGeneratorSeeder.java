@@ -0,0 +1,83 @@
+package com.fintech.insurance.common.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves every pooled table generator segment in {@code id_generators} past the
+ * highest id already in its table before the application saves anything.
+ * Tables that were filled while their ids were still IDENTITY columns would
+ * otherwise hand out ids from 1 again and collide with existing rows.
+ * <p>
+ * Runs once the entity manager factory has created or updated the schema. A
+ * segment is only ever raised, so restarts and several nodes starting together
+ * are safe.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class IdGeneratorSeeder {
+    
+    // Must match allocationSize on the entities' @TableGenerator
+    private static final int ID_ALLOCATION_SIZE = 50;
+    
+    // Generator segment -> table whose ids it issues
+    private static final Map<String, String> SEGMENTS = Map.of(
+        "policies", "policies",
+        "claims", "claims",
+        "underwriting_cases", "underwriting_cases",
+        "outbox_events", "outbox_events");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    public IdGeneratorSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    @PostConstruct
+    public void seed() {
+        SEGMENTS.forEach(this::seed);
+    }
+    
+    /**
+     * Raises the segment so the next block Hibernate takes starts after
+     * {@code MAX(id)}. Hibernate treats a stored value {@code v} as owning the block
+     * {@code (v - allocationSize, v]}, so the row needs at least
+     * {@code MAX(id) + allocationSize}.
+     */
+    void seed(String segment, String table) {
+        try {
+            seedOnce(segment, table);
+        } catch (DuplicateKeyException e) {
+            // Another node inserted the missing row first; raise that one instead
+            seedOnce(segment, table);
+        }
+    }
+    
+    private void seedOnce(String segment, String table) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_val FROM id_generators WHERE entity_name = ? FOR UPDATE", Long.class, segment);
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            long required = (maxId != null ? maxId : 0) + ID_ALLOCATION_SIZE;
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO id_generators (entity_name, next_val) VALUES (?, ?)", segment, required);
+                log.info("Seeded id generator segment {} at {} from {}", segment, required, table);
+            } else if (current.get(0) < required) {
+                jdbcTemplate.update("UPDATE id_generators SET next_val = ? WHERE entity_name = ?", required, segment);
+                log.warn("Raised id generator segment {} from {} to {}, past the existing ids in {}",
+                    segment, current.get(0), required, table);
+            }
+        });
+    }
+}
@@ -0,0 +1,131 @@
+package com.fintech.insurance.common.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore.
+ * With virtual threads the request thread count no longer bounds database
+ * concurrency, so callers queue here in arrival order, with a deadline and
+ * visible metrics, rather than piling up inside the pool.
+ * <p>
+ * A permit is held from {@link #getConnection()} until the returned
+ * connection is closed.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutNanos;
+    private final Timer acquireTimer;
+    
+    public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrency, Duration acquireTimeout,
+                                        MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.acquireTimer = Timer.builder("db.concurrency.acquire")
+            .description("Time spent waiting for a database concurrency permit")
+            .register(meterRegistry);
+        Gauge.builder("db.concurrency.active", permits, p -> maxConcurrency - p.availablePermits())
+            .description("Connections currently checked out through the concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("db.concurrency.waiting", permits, Semaphore::getQueueLength)
+            .description("Threads waiting for a database concurrency permit")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> obtainTargetDataSource().getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+    
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out after "
+                    + Duration.ofNanos(acquireTimeoutNanos) + " waiting for one of " + maxConcurrency
+                    + " database permits (" + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a database permit", e);
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+    
+    private final class PermitReleasingHandler implements InvocationHandler {
+        
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Permit-holding proxy for [" + target + "]";
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
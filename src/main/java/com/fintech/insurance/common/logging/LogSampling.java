@@ -0,0 +1,19 @@
+package com.fintech.insurance.common.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers for log statements that may be sampled under load. In the
+ * {@code json-logs} profile {@link SamplingTurboFilter} keeps one in
+ * {@code insurance.logging.sampling.rate} of the INFO and DEBUG events carrying
+ * {@link #SAMPLED}, counted per logger; without the filter they log as usual.
+ */
+public final class LogSampling {
+    
+    /** High-volume read paths, e.g. {@code log.info(SAMPLED, "Fetching claim: {}", id)}. */
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+    
+    private LogSampling() {
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.insurance.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps one in {@code rate} events below WARN for
+ * statements marked {@link LogSampling#SAMPLED} and for every event of the
+ * configured {@code loggers} (and their children), e.g. {@code org.hibernate.SQL}.
+ * Counts are kept per logger, so a quiet read path is not starved by a busy one.
+ * <p>
+ * Runs before the level check, so events the logger would not print anyway are
+ * left alone and not counted, and {@code isDebugEnabled()} style checks always pass.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private long rate = 1;
+    private List<String> loggers = List.of();
+    
+    public void setRate(long rate) {
+        this.rate = rate;
+    }
+    
+    /** Comma separated logger names sampled regardless of marker. */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .toList();
+    }
+    
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (rate <= 1 || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!isMarked(marker) && !isSampledLogger(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long seen = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return seen % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+    
+    private static boolean isMarked(Marker marker) {
+        return marker != null && (marker == LogSampling.SAMPLED || marker.contains(LogSampling.SAMPLED));
+    }
+    
+    private boolean isSampledLogger(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)
+                    && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fintech.insurance.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every Spring Data repository method as
+ * {@code spring.data.repository.invocations{repository, method, state}}.
+ * <p>
+ * Replaces Spring Boot's listener, which builds a fresh tag set on every call.
+ * Here the success and error timers for a method are registered on its first
+ * invocation and cached per repository interface, so the per-call cost is two
+ * lookups and a histogram update.
+ */
+public class RepositoryQueryMetrics implements RepositoryMethodInvocationListener {
+    
+    public static final String METRIC_NAME = "spring.data.repository.invocations";
+    
+    private final Supplier<MeterRegistry> meterRegistry;
+    // CrudRepository methods are shared by every repository, so key by interface first
+    private final ClassValue<Map<Method, MethodTimers>> timers = new ClassValue<>() {
+        @Override
+        protected Map<Method, MethodTimers> computeValue(Class<?> repositoryInterface) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
+    public RepositoryQueryMetrics(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        Class<?> repositoryInterface = invocation.getRepositoryInterface();
+        Map<Method, MethodTimers> byMethod = timers.get(repositoryInterface);
+        MethodTimers methodTimers = byMethod.get(invocation.getMethod());
+        if (methodTimers == null) {
+            methodTimers = byMethod.computeIfAbsent(invocation.getMethod(),
+                method -> new MethodTimers(meterRegistry.get(), repositoryInterface, method));
+        }
+        Timer timer = invocation.getResult() != null
+            && invocation.getResult().getState() == RepositoryMethodInvocationResult.State.SUCCESS
+            ? methodTimers.success
+            : methodTimers.error;
+        timer.record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+    
+    private static final class MethodTimers {
+        final Timer success;
+        final Timer error;
+        
+        MethodTimers(MeterRegistry registry, Class<?> repositoryInterface, Method method) {
+            success = timer(registry, repositoryInterface, method, "SUCCESS");
+            error = timer(registry, repositoryInterface, method, "ERROR");
+        }
+        
+        private static Timer timer(MeterRegistry registry, Class<?> repositoryInterface, Method method, String state) {
+            return Timer.builder(METRIC_NAME)
+                .description("Duration of repository invocations")
+                .tag("repository", repositoryInterface.getSimpleName())
+                .tag("method", method.getName())
+                .tag("state", state)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+        }
+    }
+}
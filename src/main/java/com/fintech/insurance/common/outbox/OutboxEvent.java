@@ -0,0 +1,63 @@
+package com.fintech.insurance.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event written in the same transaction as the business change and
+ * published to Kafka afterwards by {@link OutboxRelay}.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_published_id", columnList = "published_at, id"),
+    @Index(name = "idx_outbox_events_key_id", columnList = "message_key, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_event_id")
+    @TableGenerator(name = "outbox_event_id", table = "id_generators", pkColumnName = "entity_name",
+        valueColumnName = "next_val", pkColumnValue = "outbox_events", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String topic;
+    
+    @Column(length = 100)
+    private String messageKey;
+    
+    @Column(nullable = false, length = 50)
+    private String eventType;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    // W3C trace context of the request that wrote the event
+    @Column(length = 55)
+    private String traceparent;
+    
+    private int attempts;
+    
+    @Column(length = 1000)
+    private String lastError;
+    
+    // Earliest time a relay may claim the row; pushed out while a relay holds it and after a failed attempt
+    private LocalDateTime availableAt;
+    
+    // Set when the row runs out of attempts; it is kept for inspection but no longer published
+    private LocalDateTime deadLetteredAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime publishedAt;
+}
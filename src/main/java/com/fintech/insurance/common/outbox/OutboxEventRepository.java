@@ -0,0 +1,56 @@
+package com.fintech.insurance.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // SELECT ... FOR UPDATE SKIP LOCKED, so relays on several nodes take disjoint batches.
+    // Rows written before available_at existed have it null and are claimable.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.deadLetteredAt IS NULL"
+        + " AND (e.availableAt IS NULL OR e.availableAt <= :now) ORDER BY e.id")
+    List<OutboxEvent> findClaimable(LocalDateTime now, Limit limit);
+    
+    @Query("SELECT e.id AS id, e.messageKey AS messageKey, e.attempts AS attempts,"
+        + " e.availableAt AS availableAt FROM OutboxEvent e"
+        + " WHERE e.messageKey IN :keys AND e.id <= :maxId"
+        + " AND e.publishedAt IS NULL AND e.deadLetteredAt IS NULL ORDER BY e.id")
+    List<PendingOutboxEvent> findPendingByMessageKeys(Collection<String> keys, Long maxId);
+    
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc();
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :availableAt WHERE e.id IN :ids")
+    int updateAvailableAt(Collection<Long> ids, LocalDateTime availableAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.availableAt = :retryAt"
+        + " WHERE e.id IN :ids")
+    int markFailed(Collection<Long> ids, String error, LocalDateTime retryAt);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,"
+        + " e.deadLetteredAt = :deadLetteredAt WHERE e.id IN :ids")
+    int markDeadLettered(Collection<Long> ids, String error, LocalDateTime deadLetteredAt);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(LocalDateTime cutoff);
+}
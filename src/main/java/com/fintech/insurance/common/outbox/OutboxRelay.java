@@ -0,0 +1,327 @@
+package com.fintech.insurance.common.outbox;
+
+import com.fintech.insurance.common.tracing.EventTracing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox in batches. Each batch is claimed in a short transaction
+ * that leases the rows to this relay, sent with no transaction or row lock
+ * held, then marked in a second short transaction. Sends go out without
+ * waiting, so the producer's linger/compression settings group them into few
+ * requests. Each record continues the trace of the request that wrote it
+ * (see EventTracing).
+ * <p>
+ * Events with the same message key are published in outbox order. A key's
+ * event is only claimed once every earlier event for that key is published or
+ * dead-lettered, and when a send fails the key's later events in the batch are
+ * held back and sent again after it. A failed row is retried after a backoff
+ * and dead-lettered once it has used max-attempts.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventTracing eventTracing;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration claimTimeout;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private final Timer batchTimer;
+    private final Timer sendSucceeded;
+    private final Timer sendFailed;
+    
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       TransactionTemplate transactionTemplate,
+                       EventTracing eventTracing,
+                       MeterRegistry meterRegistry,
+                       @Value("${insurance.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${insurance.outbox.relay.send-timeout:PT10S}") Duration sendTimeout,
+                       @Value("${insurance.outbox.relay.claim-timeout:PT1M}") Duration claimTimeout,
+                       @Value("${insurance.outbox.relay.retry-backoff:PT30S}") Duration retryBackoff,
+                       @Value("${insurance.outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${insurance.outbox.retention:P7D}") Duration retention) {
+        if (claimTimeout.compareTo(sendTimeout) <= 0) {
+            // A lease that ran out mid-send would let another relay publish the same rows
+            throw new IllegalArgumentException("insurance.outbox.relay.claim-timeout (" + claimTimeout
+                + ") must be longer than send-timeout (" + sendTimeout + ")");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventTracing = eventTracing;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.claimTimeout = claimTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest unpublished outbox event")
+            .register(meterRegistry);
+        this.published = Counter.builder("outbox.relay.published")
+            .description("Outbox events published to Kafka")
+            .register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.failed")
+            .description("Outbox events whose publish attempt failed")
+            .register(meterRegistry);
+        this.deadLettered = Counter.builder("outbox.relay.dead_lettered")
+            .description("Outbox events given up on after max-attempts failed publishes")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("Time to claim, publish and mark one outbox batch")
+            .register(meterRegistry);
+        this.sendSucceeded = sendTimer(meterRegistry, "success");
+        this.sendFailed = sendTimer(meterRegistry, "failure");
+    }
+    
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("kafka.send")
+            .description("Time from handing a record to the producer until the broker acknowledges it")
+            .tag("producer", "outbox")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${insurance.outbox.relay.poll-interval:PT0.5S}")
+    public void relay() {
+        int drained;
+        do {
+            drained = batchTimer.record(this::drainBatch);
+        } while (drained == batchSize);
+        updateLag();
+    }
+    
+    /**
+     * Claims, publishes and marks one batch and returns the number of rows
+     * published, or 0 when the relay should wait for the next poll.
+     */
+    int drainBatch() {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> claimBatch(LocalDateTime.now()));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(claimed.size());
+        for (OutboxEvent event : claimed) {
+            sends.add(send(event));
+        }
+        kafkaTemplate.flush();
+        
+        List<Long> publishedIds = new ArrayList<>(claimed.size());
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> deadIds = new ArrayList<>();
+        List<Long> heldBackIds = new ArrayList<>();
+        Set<String> failedKeys = new HashSet<>();
+        String lastError = null;
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < claimed.size(); i++) {
+            OutboxEvent event = claimed.get(i);
+            String error = awaitSend(sends.get(i), deadline);
+            if (event.getMessageKey() != null && failedKeys.contains(event.getMessageKey())) {
+                // Sent after an earlier event for its key failed, so send it again after that one
+                heldBackIds.add(event.getId());
+            } else if (error == null) {
+                publishedIds.add(event.getId());
+            } else {
+                lastError = error;
+                if (event.getMessageKey() != null) {
+                    failedKeys.add(event.getMessageKey());
+                }
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    deadIds.add(event.getId());
+                    log.error("Dead-lettering outbox event {} ({} for key {}) after {} attempts: {}",
+                        event.getId(), event.getEventType(), event.getMessageKey(), event.getAttempts() + 1, error);
+                } else {
+                    failedIds.add(event.getId());
+                }
+            }
+        }
+        
+        String error = truncate(lastError);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime retryAt = now.plus(retryBackoff);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxEventRepository.markPublished(publishedIds, now);
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventRepository.markFailed(failedIds, error, retryAt);
+            }
+            if (!deadIds.isEmpty()) {
+                outboxEventRepository.markDeadLettered(deadIds, error, now);
+            }
+            if (!heldBackIds.isEmpty()) {
+                outboxEventRepository.updateAvailableAt(heldBackIds, retryAt);
+            }
+        });
+        published.increment(publishedIds.size());
+        if (failedKeys.isEmpty() && failedIds.isEmpty() && deadIds.isEmpty()) {
+            return publishedIds.size();
+        }
+        failed.increment(failedIds.size() + deadIds.size());
+        deadLettered.increment(deadIds.size());
+        log.warn("Failed to publish {} outbox events, holding back {} behind them: {}",
+            failedIds.size() + deadIds.size(), heldBackIds.size(), lastError);
+        // Leave the rest of the outbox for the next poll rather than spinning on a broken broker
+        return 0;
+    }
+    
+    /**
+     * Takes the next batch of rows this relay may publish and leases them for
+     * claim-timeout. Rows whose key still has an earlier unpublished event
+     * outside the batch are left for later; behind a failed event they are not
+     * re-read until it can be retried.
+     */
+    List<OutboxEvent> claimBatch(LocalDateTime now) {
+        List<OutboxEvent> batch = outboxEventRepository.findClaimable(now, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        
+        Set<String> keys = new HashSet<>();
+        batch.forEach(event -> {
+            if (event.getMessageKey() != null) {
+                keys.add(event.getMessageKey());
+            }
+        });
+        Map<String, Deque<PendingOutboxEvent>> pendingByKey = new HashMap<>();
+        if (!keys.isEmpty()) {
+            Long maxId = batch.get(batch.size() - 1).getId();
+            for (PendingOutboxEvent pending : outboxEventRepository.findPendingByMessageKeys(keys, maxId)) {
+                pendingByKey.computeIfAbsent(pending.getMessageKey(), key -> new ArrayDeque<>()).add(pending);
+            }
+        }
+        
+        List<OutboxEvent> claimed = new ArrayList<>(batch.size());
+        Map<String, LocalDateTime> blockedUntil = new HashMap<>();
+        Map<LocalDateTime, List<Long>> deferred = new HashMap<>();
+        for (OutboxEvent event : batch) {
+            String key = event.getMessageKey();
+            if (key == null) {
+                claimed.add(event);
+                continue;
+            }
+            LocalDateTime blocked = blockedUntil.get(key);
+            if (blocked == null) {
+                Deque<PendingOutboxEvent> pending = pendingByKey.get(key);
+                PendingOutboxEvent earliest = pending == null ? null : pending.peekFirst();
+                if (earliest == null || earliest.getId().equals(event.getId())) {
+                    if (earliest != null) {
+                        pending.pollFirst();
+                    }
+                    claimed.add(event);
+                    continue;
+                }
+                // An earlier event for this key is held by another relay, which is about to
+                // publish it, or is waiting to be retried, which will take a while
+                blocked = earliest.getAttempts() > 0 && earliest.getAvailableAt() != null
+                    ? earliest.getAvailableAt()
+                    : now;
+                blockedUntil.put(key, blocked);
+            }
+            if (blocked.isAfter(now)) {
+                deferred.computeIfAbsent(blocked, until -> new ArrayList<>()).add(event.getId());
+            }
+        }
+        
+        deferred.forEach((until, ids) -> outboxEventRepository.updateAvailableAt(ids, until));
+        if (!claimed.isEmpty()) {
+            outboxEventRepository.updateAvailableAt(claimed.stream().map(OutboxEvent::getId).toList(),
+                now.plus(claimTimeout));
+        }
+        return claimed;
+    }
+    
+    private CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        ProducerRecord<String, String> record =
+            new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        Span span = eventTracing.startPublishSpan(event.getTraceparent(), record);
+        long sentAt = System.nanoTime();
+        CompletableFuture<SendResult<String, String>> send = kafkaTemplate.send(record);
+        send.whenComplete((result, ex) -> {
+            (ex == null ? sendSucceeded : sendFailed).record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+            if (span != null) {
+                if (ex != null) {
+                    span.error(ex);
+                }
+                span.end();
+            }
+        });
+        return send;
+    }
+    
+    // Returns null once the broker has acknowledged the record, otherwise the reason it was not
+    private static String awaitSend(CompletableFuture<SendResult<String, String>> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return e.getCause() != null ? e.getCause().getMessage() : e.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        }
+    }
+    
+    @Scheduled(cron = "${insurance.outbox.cleanup-cron:0 0 3 * * *}")
+    public void purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        log.info("Purged {} published outbox events older than {}", deleted, cutoff);
+    }
+    
+    private void updateLag() {
+        lagMillis.set(outboxEventRepository.findFirstByPublishedAtIsNullAndDeadLetteredAtIsNullOrderByIdAsc()
+            .map(oldest -> Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis())
+            .orElse(0L));
+    }
+    
+    private static String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+}
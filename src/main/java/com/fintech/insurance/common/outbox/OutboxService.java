@@ -0,0 +1,46 @@
+package com.fintech.insurance.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.tracing.EventTracing;
+import io.micrometer.tracing.annotation.NewSpan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final EventTracing eventTracing;
+    
+    /**
+     * Records an event in the caller's transaction; it is only published if
+     * that transaction commits.
+     */
+    @NewSpan("outbox enqueue")
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, String eventType, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + eventType + " event", e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+            .topic(topic)
+            .messageKey(key)
+            .eventType(eventType)
+            .payload(payload)
+            .traceparent(eventTracing.currentTraceparent())
+            .createdAt(now)
+            .availableAt(now)
+            .build());
+    }
+}
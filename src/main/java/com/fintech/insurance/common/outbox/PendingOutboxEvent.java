@@ -0,0 +1,13 @@
+package com.fintech.insurance.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * An unpublished outbox row, read to keep each message key's events in order.
+ */
+public interface PendingOutboxEvent {
+    Long getId();
+    String getMessageKey();
+    int getAttempts();
+    LocalDateTime getAvailableAt();
+}
@@ -0,0 +1,42 @@
+package com.fintech.insurance.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a keyset-paginated listing ordered by ascending ID.
+ * Pass {@code nextCursor} back as {@code after} to fetch the following page;
+ * it is null once the last page has been returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    public static final String DEFAULT_SIZE = "100";
+    public static final int MAX_SIZE = 1000;
+    
+    private List<T> items;
+    private Long nextCursor;
+    private int size;
+    
+    /**
+     * Builds a page from a query that fetched {@code size + 1} rows; the extra
+     * row only signals that another page exists and is not returned.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, ToLongFunction<T> idOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        Long nextCursor = hasMore ? idOf.applyAsLong(items.get(size - 1)) : null;
+        return new CursorPage<>(items, nextCursor, items.size());
+    }
+    
+    // IDs start at 1, so a missing cursor means the first page
+    public static long startAfter(Long after) {
+        return after == null ? 0L : after;
+    }
+}
@@ -0,0 +1,72 @@
+package com.fintech.insurance.common.pagination;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes entities as newline-delimited JSON while they are read from the database.
+ * Each entity is detached once written so the persistence context stays bounded,
+ * and output is flushed once per fetch-size batch rather than per row.
+ */
+@Component
+public class NdjsonWriter {
+    
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(MEDIA_TYPE);
+    
+    // JDBC fetch size for streaming repository queries; annotation values must be constants
+    public static final String FETCH_SIZE = "500";
+    private static final int FLUSH_EVERY = Integer.parseInt(FETCH_SIZE);
+    
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final EntityManager entityManager;
+    
+    public NdjsonWriter(ObjectMapper objectMapper, EntityManager entityManager) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.entityManager = entityManager;
+    }
+    
+    /**
+     * Must be called inside a read-only transaction that owns {@code rows}.
+     *
+     * @return the number of rows written
+     */
+    public <E> long write(Stream<E> rows, Function<E, ?> toDto, OutputStream out) {
+        long written = 0;
+        try (rows; JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // Rows are separated by the newline written after each one
+            generator.setRootValueSeparator(null);
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                rowWriter.writeValue(generator, toDto.apply(entity));
+                generator.writeRaw('\n');
+                entityManager.detach(entity);
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintech.insurance.common.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Carries the trace of the request that produced an event across the outbox
+ * and the claim event queue. The W3C {@code traceparent} is stored with the
+ * outbox row or queued event when the event is enqueued, and the sender
+ * continues that trace with a producer span whose context travels to
+ * consumers in the Kafka record headers.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventTracing {
+    
+    public static final String TRACEPARENT = "traceparent";
+    
+    private final Tracer tracer;
+    private final Propagator propagator;
+    
+    /** W3C traceparent of the current span, or null outside a trace. */
+    public String currentTraceparent() {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>(4);
+        propagator.inject(context, carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+    
+    /**
+     * Starts a producer span continuing {@code traceparent} and writes its
+     * context into the record headers. Returns null, leaving the record
+     * untouched, for events enqueued outside a trace.
+     */
+    public Span startPublishSpan(String traceparent, ProducerRecord<String, String> record) {
+        return startPublishSpan("outbox publish", traceparent, record);
+    }
+    
+    public Span startPublishSpan(String name, String traceparent, ProducerRecord<String, String> record) {
+        if (traceparent == null) {
+            return null;
+        }
+        Span span = propagator.extract(Map.of(TRACEPARENT, traceparent), Map::get)
+            .name(name)
+            .kind(Span.Kind.PRODUCER)
+            .tag("messaging.system", "kafka")
+            .tag("messaging.destination.name", record.topic())
+            .start();
+        propagator.inject(span.context(), record, (target, key, value) ->
+            target.headers().add(key, value.getBytes(StandardCharsets.UTF_8)));
+        return span;
+    }
+}
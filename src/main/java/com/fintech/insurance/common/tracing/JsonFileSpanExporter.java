@@ -0,0 +1,116 @@
+package com.fintech.insurance.common.tracing;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Appends finished spans to a local file, one JSON object per line, as a
+ * stand-in for an OTLP collector in development and load tests. Field names
+ * follow the OTLP span model so the file can be replayed into a collector.
+ */
+@Slf4j
+public class JsonFileSpanExporter implements SpanExporter {
+    
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+    
+    private final Path path;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final OutputStream out;
+    private boolean shutdown;
+    
+    public JsonFileSpanExporter(Path path) throws IOException {
+        this.path = path;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.out = new BufferedOutputStream(Files.newOutputStream(path,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+    }
+    
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            for (SpanData span : spans) {
+                write(span);
+                out.write('\n');
+            }
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to write {} spans to {}: {}", spans.size(), path, e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+    
+    private void write(SpanData span) throws IOException {
+        JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.writeStartObject();
+        json.writeStringField("traceId", span.getTraceId());
+        json.writeStringField("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        json.writeStringField("name", span.getName());
+        json.writeStringField("kind", span.getKind().name());
+        json.writeNumberField("startTimeUnixNano", span.getStartEpochNanos());
+        json.writeNumberField("endTimeUnixNano", span.getEndEpochNanos());
+        json.writeBooleanField("sampled", span.getSpanContext().isSampled());
+        json.writeObjectFieldStart("status");
+        json.writeStringField("code", span.getStatus().getStatusCode().name());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            json.writeStringField("message", span.getStatus().getDescription());
+        }
+        json.writeEndObject();
+        json.writeObjectFieldStart("attributes");
+        for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+            json.writeStringField(attribute.getKey().getKey(), String.valueOf(attribute.getValue()));
+        }
+        json.writeEndObject();
+        json.writeStringField("service", span.getResource().getAttribute(SERVICE_NAME));
+        json.writeEndObject();
+        json.close();
+    }
+    
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+    
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        if (shutdown) {
+            return CompletableResultCode.ofSuccess();
+        }
+        shutdown = true;
+        try {
+            out.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintech.insurance.common.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Head sampling that never drops. A trace picked by the trace-id ratio (or by
+ * a sampled parent) is recorded and sampled as usual; every other trace is
+ * still recorded, unsampled, so {@link TailSamplingSpanProcessor} can keep it
+ * once it turns out to be slow or failed.
+ */
+public class TailSamplingSampler implements Sampler {
+    
+    private static final SamplingResult RECORD_ONLY = SamplingResult.create(SamplingDecision.RECORD_ONLY);
+    private static final SamplingResult RECORD_AND_SAMPLE = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE);
+    
+    private final Sampler headSampler;
+    
+    public TailSamplingSampler(double probability) {
+        this.headSampler = Sampler.traceIdRatioBased(probability);
+    }
+    
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            return parent.isSampled() ? RECORD_AND_SAMPLE : RECORD_ONLY;
+        }
+        SamplingDecision head = headSampler
+            .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks)
+            .getDecision();
+        return head == SamplingDecision.RECORD_AND_SAMPLE ? RECORD_AND_SAMPLE : RECORD_ONLY;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "TailSamplingSampler{head=" + headSampler.getDescription() + "}";
+    }
+}
@@ -0,0 +1,168 @@
+package com.fintech.insurance.common.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Tail sampling for traces the head sampler did not pick. Their spans are
+ * buffered per trace until the local root span (the first span of the trace
+ * in this process) ends; the whole trace is then exported if the root took at
+ * least the latency threshold or ended in error, and discarded otherwise.
+ * Sampled spans are left to the regular export processor.
+ * <p>
+ * Memory is bounded: traces beyond {@code maxPendingTraces} and spans beyond
+ * {@code maxSpansPerTrace} are not buffered, and spans that end after their
+ * root (late async work) are swept once older than {@code maxPendingAge}.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+    
+    private static final int SWEEP_EVERY = 1024;
+    
+    private final SpanProcessor exportProcessor;
+    private final long latencyThresholdNanos;
+    private final int maxPendingTraces;
+    private final int maxSpansPerTrace;
+    private final long maxPendingAgeNanos;
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+    private final AtomicLong rootsEnded = new AtomicLong();
+    private final AtomicLong kept = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    
+    public TailSamplingSpanProcessor(SpanExporter exporter, Duration latencyThreshold, int maxPendingTraces,
+                                     int maxSpansPerTrace, Duration maxPendingAge) {
+        this(BatchSpanProcessor.builder(exporter).setExportUnsampledSpans(true).build(),
+            latencyThreshold, maxPendingTraces, maxSpansPerTrace, maxPendingAge);
+    }
+    
+    TailSamplingSpanProcessor(SpanProcessor exportProcessor, Duration latencyThreshold, int maxPendingTraces,
+                              int maxSpansPerTrace, Duration maxPendingAge) {
+        this.exportProcessor = exportProcessor;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxPendingTraces = maxPendingTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.maxPendingAgeNanos = maxPendingAge.toNanos();
+    }
+    
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+    
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+    
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext context = span.getSpanContext();
+        if (context.isSampled()) {
+            return;
+        }
+        SpanContext parent = span.getParentSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            buffer(context.getTraceId(), span);
+            return;
+        }
+        
+        PendingTrace trace = pending.remove(context.getTraceId());
+        if (span.getLatencyNanos() >= latencyThresholdNanos
+                || span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) {
+            kept.incrementAndGet();
+            if (trace != null) {
+                trace.forEach(exportProcessor::onEnd);
+            }
+            exportProcessor.onEnd(span);
+        } else {
+            discarded.incrementAndGet();
+        }
+        if (rootsEnded.incrementAndGet() % SWEEP_EVERY == 0) {
+            sweep();
+        }
+    }
+    
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+    
+    /** Traces exported because they were slow or failed. */
+    public long keptTraces() {
+        return kept.get();
+    }
+    
+    /** Unsampled traces that completed fast and clean. */
+    public long discardedTraces() {
+        return discarded.get();
+    }
+    
+    /** Traces whose spans are buffered waiting for their root. */
+    public int pendingTraces() {
+        return pending.size();
+    }
+    
+    @Override
+    public CompletableResultCode shutdown() {
+        pending.clear();
+        return exportProcessor.shutdown();
+    }
+    
+    @Override
+    public CompletableResultCode forceFlush() {
+        return exportProcessor.forceFlush();
+    }
+    
+    private void buffer(String traceId, ReadableSpan span) {
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (pending.size() >= maxPendingTraces) {
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+        }
+        trace.add(span, maxSpansPerTrace);
+    }
+    
+    private void sweep() {
+        long cutoff = System.nanoTime() - maxPendingAgeNanos;
+        for (Iterator<PendingTrace> it = pending.values().iterator(); it.hasNext(); ) {
+            if (it.next().createdNanos - cutoff < 0) {
+                it.remove();
+            }
+        }
+    }
+    
+    private static final class PendingTrace {
+        final long createdNanos;
+        private final List<ReadableSpan> spans = new ArrayList<>(8);
+        
+        PendingTrace(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+        
+        synchronized void add(ReadableSpan span, int maxSpans) {
+            if (spans.size() < maxSpans) {
+                spans.add(span);
+            }
+        }
+        
+        synchronized void forEach(Consumer<ReadableSpan> action) {
+            spans.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fintech.insurance.config;
+
+import com.fintech.insurance.common.metrics.RepositoryQueryMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Repository timings through {@link RepositoryQueryMetrics}, in place of Spring
+ * Boot's RepositoryMetricsAutoConfiguration (excluded on the application class).
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    public static BeanPostProcessor repositoryQueryMetricsRegistrar(ObjectProvider<MeterRegistry> meterRegistry) {
+        RepositoryQueryMetrics listener = new RepositoryQueryMetrics(meterRegistry::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.fintech.insurance.config;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+
+/**
+ * Discards Kafka sends under the "perf" profile so load tests measure the
+ * service alone. Sends complete immediately; the outbox relay and claim event
+ * sender still run their full paths up to the producer.
+ */
+@Configuration
+@Profile("perf")
+public class PerfKafkaConfig {
+    
+    @Bean
+    public KafkaTemplate<String, String> kafkaTemplate() {
+        // KafkaTemplate closes non-transactional producers after each use, so hand out a fresh one
+        return new KafkaTemplate<>(new MockProducerFactory<>(
+            () -> new MockProducer<>(true, new StringSerializer(), new StringSerializer())));
+    }
+}
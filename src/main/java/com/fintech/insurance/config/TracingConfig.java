@@ -0,0 +1,70 @@
+package com.fintech.insurance.config;
+
+import com.fintech.insurance.common.tracing.JsonFileSpanExporter;
+import com.fintech.insurance.common.tracing.TailSamplingSampler;
+import com.fintech.insurance.common.tracing.TailSamplingSpanProcessor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Head plus tail sampling on top of Spring Boot's OpenTelemetry setup.
+ * {@code management.tracing.sampling.probability} still picks traces up front;
+ * the rest are recorded and exported only when slow or failed. Exporters are
+ * Boot's OTLP exporter ({@code management.otlp.tracing.endpoint}) and/or a
+ * local JSON file ({@code insurance.tracing.file.path}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "management.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "insurance.tracing.tail.enabled", havingValue = "true", matchIfMissing = true)
+    public Sampler otelSampler(@Value("${management.tracing.sampling.probability:0.1}") double probability) {
+        return new TailSamplingSampler(probability);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "insurance.tracing.tail.enabled", havingValue = "true", matchIfMissing = true)
+    public TailSamplingSpanProcessor tailSamplingSpanProcessor(
+            ObjectProvider<SpanExporter> spanExporters,
+            MeterRegistry meterRegistry,
+            @Value("${insurance.tracing.tail.latency-threshold:PT0.5S}") Duration latencyThreshold,
+            @Value("${insurance.tracing.tail.max-pending-traces:10000}") int maxPendingTraces,
+            @Value("${insurance.tracing.tail.max-spans-per-trace:256}") int maxSpansPerTrace,
+            @Value("${insurance.tracing.tail.max-pending-age:PT1M}") Duration maxPendingAge) {
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+            SpanExporter.composite(spanExporters.orderedStream().toList()),
+            latencyThreshold, maxPendingTraces, maxSpansPerTrace, maxPendingAge);
+        FunctionCounter.builder("tracing.tail.traces", processor, TailSamplingSpanProcessor::keptTraces)
+            .description("Unsampled traces by tail-sampling outcome")
+            .tag("outcome", "kept")
+            .register(meterRegistry);
+        FunctionCounter.builder("tracing.tail.traces", processor, TailSamplingSpanProcessor::discardedTraces)
+            .description("Unsampled traces by tail-sampling outcome")
+            .tag("outcome", "discarded")
+            .register(meterRegistry);
+        Gauge.builder("tracing.tail.pending", processor, TailSamplingSpanProcessor::pendingTraces)
+            .description("Traces buffered until their root span ends")
+            .register(meterRegistry);
+        return processor;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "insurance.tracing.file.path")
+    public JsonFileSpanExporter jsonFileSpanExporter(@Value("${insurance.tracing.file.path}") Path path)
+            throws IOException {
+        return new JsonFileSpanExporter(path);
+    }
+}
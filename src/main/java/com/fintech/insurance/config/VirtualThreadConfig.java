@@ -0,0 +1,91 @@
+package com.fintech.insurance.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.concurrent.BlockingPublisherReturnValueHandler;
+import com.fintech.insurance.common.concurrent.VirtualThreadPinningMonitor;
+import com.fintech.insurance.common.jdbc.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Support for running on virtual threads ({@code spring.threads.virtual.enabled=true}
+ * on Java 21+, see the "virtual" profile). Tomcat, {@code @Async} and {@code @Scheduled}
+ * work move to virtual threads through Spring Boot itself; this adds the database
+ * concurrency cap that the request thread pool used to provide and pinning reports, and
+ * serves reactive return values on the request thread.
+ */
+@Configuration
+public class VirtualThreadConfig {
+    
+    @Bean
+    @ConditionalOnExpression("${insurance.db.max-concurrency:0} > 0")
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${insurance.db.max-concurrency}") int maxConcurrency,
+            @Value("${insurance.db.acquire-timeout:PT30S}") Duration acquireTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout,
+                        meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @ConditionalOnProperty(name = "insurance.threads.pinning.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${insurance.threads.pinning.threshold:PT0.02S}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+    
+    /**
+     * Spring MVC serves a returned {@code Mono} or {@code Flux} through servlet async
+     * processing: each streamed element is written by a task on its async executor, which
+     * Spring Boot makes a new virtual thread per task, and completing the response is
+     * another dispatch. Every such hand-off waited behind all runnable requests, which put
+     * the reactive claim list far over its p99 under load. Blocking the request thread
+     * instead keeps the response where it started, like a blocking endpoint.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public static BeanPostProcessor blockingPublisherReturnValues(ObjectProvider<ObjectMapper> objectMapper) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter adapter) {
+                    List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>(adapter.getReturnValueHandlers());
+                    HandlerMethodReturnValueHandler responseBody = handlers.stream()
+                        .filter(RequestResponseBodyMethodProcessor.class::isInstance)
+                        .findFirst()
+                        .orElseThrow();
+                    // Ahead of Spring MVC's own handler for reactive types
+                    handlers.add(0, new BlockingPublisherReturnValueHandler(responseBody, objectMapper.getObject()));
+                    adapter.setReturnValueHandlers(handlers);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,360 @@
+package com.fintech.insurance.datagen;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimDocument;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.DocumentType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import com.fintech.insurance.underwriting.model.UnderwritingCase;
+import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic policies with their claims, claim documents and underwriting
+ * cases. Each policy draws from its own random stream derived from the seed and its
+ * index, so output is independent of chunking and of the order chunks are generated in.
+ * <p>
+ * Entities come back without ids or business numbers; {@link BookOfBusinessLoader}
+ * assigns those when it writes them.
+ */
+public final class BookOfBusinessGenerator {
+    
+    private static final ProductType[] PRODUCTS = {
+        ProductType.AUTO_INSURANCE, ProductType.HEALTH_INSURANCE, ProductType.HOME_INSURANCE,
+        ProductType.LIFE_INSURANCE, ProductType.TRAVEL_INSURANCE};
+    private static final double[] PRODUCT_WEIGHTS = {0.35, 0.25, 0.20, 0.15, 0.05};
+    
+    private static final PaymentFrequency[] FREQUENCIES = PaymentFrequency.values();
+    private static final double[] FREQUENCY_WEIGHTS = {0.55, 0.15, 0.10, 0.20};
+    
+    private static final ClaimStatus[] CLAIM_STATUSES = {
+        ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING,
+        ClaimStatus.APPROVED, ClaimStatus.REJECTED, ClaimStatus.SETTLED};
+    private static final double[] RECENT_CLAIM_WEIGHTS = {0.10, 0.45, 0.10, 0.20, 0.10, 0.05};
+    private static final double[] AGED_CLAIM_WEIGHTS = {0.00, 0.05, 0.05, 0.05, 0.15, 0.70};
+    private static final int RECENT_CLAIM_DAYS = 60;
+    
+    private static final RiskLevel[] RISK_LEVELS = RiskLevel.values();
+    private static final double[] RISK_LEVEL_WEIGHTS = {0.50, 0.30, 0.15, 0.05};
+    
+    // Score bands follow the default levels in fraud-rules.properties and UnderwritingService
+    private static final double[] SCORE_BANDS = {0.0, 0.25, 0.50, 0.75, 1.0};
+    
+    private static final String[] LOCATIONS = {
+        "Downtown", "Harbor District", "Airport Road", "Riverside", "Old Town", "Industrial Park",
+        "University Quarter", "Highway 9", "Lakeside", "North Hills"};
+    
+    private final BookOfBusinessSpec spec;
+    private final double zipfExponent;
+    private final double zipfSpan;
+    
+    public BookOfBusinessGenerator(BookOfBusinessSpec spec) {
+        if (spec.getCustomerSkew() == 1.0) {
+            throw new IllegalArgumentException("Customer skew must not be exactly 1.0");
+        }
+        this.spec = spec;
+        this.zipfExponent = 1.0 - spec.getCustomerSkew();
+        this.zipfSpan = Math.pow(spec.getCustomers() + 1.0, zipfExponent) - 1.0;
+    }
+    
+    public BookOfBusinessSpec getSpec() {
+        return spec;
+    }
+    
+    public GeneratedPolicy generate(long index) {
+        SplittableRandom random = new SplittableRandom(mix(spec.getSeed() ^ mix(index + 1)));
+        Policy policy = policy(random);
+        
+        UnderwritingCase underwritingCase = random.nextDouble() < spec.getUnderwritingRatio()
+            ? underwritingCase(random, policy)
+            : null;
+        
+        List<GeneratedClaim> claims = new ArrayList<>();
+        if (policy.getStatus() != PolicyStatus.DRAFT && policy.getStatus() != PolicyStatus.PENDING_APPROVAL) {
+            int count = geometric(random, spec.getClaimsPerPolicy());
+            for (int i = 0; i < count; i++) {
+                claims.add(claim(random, policy));
+            }
+        }
+        return new GeneratedPolicy(policy, underwritingCase, claims);
+    }
+    
+    private Policy policy(SplittableRandom random) {
+        ProductType product = PRODUCTS[pick(random, PRODUCT_WEIGHTS)];
+        LocalDate asOf = spec.getAsOf();
+        LocalDate startDate = asOf.minusDays(random.nextInt(spec.getHistoryYears() * 365 + 30) - 30);
+        LocalDate endDate = switch (product) {
+            case LIFE_INSURANCE -> startDate.plusYears(20);
+            case TRAVEL_INSURANCE -> startDate.plusDays(7 + random.nextInt(60));
+            default -> startDate.plusYears(1);
+        };
+        
+        BigDecimal coverage = switch (product) {
+            case AUTO_INSURANCE -> amount(random, 15_000, 120_000);
+            case HEALTH_INSURANCE -> amount(random, 50_000, 500_000);
+            case HOME_INSURANCE -> amount(random, 150_000, 1_500_000);
+            case LIFE_INSURANCE -> amount(random, 100_000, 2_000_000);
+            case TRAVEL_INSURANCE -> amount(random, 5_000, 100_000);
+        };
+        double premiumRate = switch (product) {
+            case AUTO_INSURANCE -> 0.03;
+            case HEALTH_INSURANCE -> 0.012;
+            case HOME_INSURANCE -> 0.002;
+            case LIFE_INSURANCE -> 0.004;
+            case TRAVEL_INSURANCE -> 0.006;
+        };
+        BigDecimal premium = coverage.multiply(BigDecimal.valueOf(premiumRate * (0.8 + 0.4 * random.nextDouble())))
+            .setScale(2, RoundingMode.HALF_UP);
+        
+        return Policy.builder()
+            .customerId(customerId(random))
+            .productType(product)
+            .premium(premium)
+            .coverageAmount(coverage)
+            .startDate(startDate)
+            .endDate(endDate)
+            .status(policyStatus(random, startDate, endDate))
+            .paymentFrequency(FREQUENCIES[pick(random, FREQUENCY_WEIGHTS)])
+            .createdAt(startDate.minusDays(random.nextInt(30)).atTime(9, 0).plusSeconds(random.nextInt(32_400)))
+            .build();
+    }
+    
+    private PolicyStatus policyStatus(SplittableRandom random, LocalDate startDate, LocalDate endDate) {
+        double roll = random.nextDouble();
+        if (startDate.isAfter(spec.getAsOf())) {
+            return roll < 0.7 ? PolicyStatus.PENDING_APPROVAL : PolicyStatus.DRAFT;
+        }
+        if (endDate.isBefore(spec.getAsOf())) {
+            return roll < 0.85 ? PolicyStatus.EXPIRED : roll < 0.95 ? PolicyStatus.LAPSED : PolicyStatus.CANCELLED;
+        }
+        return roll < 0.95 ? PolicyStatus.ACTIVE : PolicyStatus.CANCELLED;
+    }
+    
+    private UnderwritingCase underwritingCase(SplittableRandom random, Policy policy) {
+        int level = pick(random, RISK_LEVEL_WEIGHTS);
+        RiskLevel riskLevel = RISK_LEVELS[level];
+        UnderwritingDecision decision = switch (riskLevel) {
+            case LOW, MEDIUM -> random.nextDouble() < 0.95 ? UnderwritingDecision.APPROVED : UnderwritingDecision.REFERRED;
+            case HIGH -> random.nextDouble() < 0.6 ? UnderwritingDecision.REFERRED : UnderwritingDecision.APPROVED;
+            case VERY_HIGH -> random.nextDouble() < 0.5 ? UnderwritingDecision.REJECTED : UnderwritingDecision.REFERRED;
+        };
+        double loading = 1.0 + 0.15 * level + 0.05 * random.nextDouble();
+        LocalDateTime createdAt = policy.getCreatedAt().plusHours(1 + random.nextInt(48));
+        return UnderwritingCase.builder()
+            .customerId(policy.getCustomerId())
+            .riskScore(scoreIn(random, level))
+            .riskLevel(riskLevel)
+            .decision(decision)
+            .recommendedPremium(policy.getPremium().multiply(BigDecimal.valueOf(loading)).setScale(2, RoundingMode.HALF_UP))
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build();
+    }
+    
+    private GeneratedClaim claim(SplittableRandom random, Policy policy) {
+        ClaimType type = claimType(random, policy.getProductType());
+        BigDecimal coverage = policy.getCoverageAmount();
+        LocalDate latest = min(policy.getEndDate(), spec.getAsOf().minusDays(1));
+        long coveredDays = Math.max(1, latest.toEpochDay() - policy.getStartDate().toEpochDay());
+        boolean outlier = random.nextDouble() < spec.getFraudOutlierRate();
+        
+        Claim.ClaimBuilder claim = Claim.builder()
+            .customerId(policy.getCustomerId())
+            .claimType(type);
+        LocalDate incidentDate;
+        LocalDate filedDate;
+        BigDecimal claimAmount;
+        double fraudScore;
+        ClaimStatus status;
+        if (outlier) {
+            // Large claim shortly after inception, reported late and thinly described
+            incidentDate = policy.getStartDate().plusDays(random.nextInt((int) Math.min(15, coveredDays)));
+            filedDate = min(incidentDate.plusDays(100 + random.nextInt(120)), spec.getAsOf());
+            claimAmount = coverage.multiply(BigDecimal.valueOf(0.8 + 0.2 * random.nextDouble()))
+                .setScale(2, RoundingMode.HALF_UP);
+            fraudScore = scoreIn(random, 3);
+            status = random.nextDouble() < 0.6 ? ClaimStatus.INVESTIGATING : ClaimStatus.REJECTED;
+            claim.incidentDescription("Total loss");
+        } else {
+            incidentDate = policy.getStartDate().plusDays(random.nextLong(coveredDays));
+            filedDate = min(incidentDate.plusDays(geometric(random, 6)), spec.getAsOf());
+            // Log-normal severity, mostly a few percent of cover with a long tail
+            double fraction = Math.min(0.95, 0.03 * Math.exp(0.9 * random.nextGaussian()));
+            claimAmount = coverage.multiply(BigDecimal.valueOf(Math.max(fraction, 0.001)))
+                .setScale(2, RoundingMode.HALF_UP);
+            fraudScore = scoreIn(random, random.nextDouble() < 0.85 ? 0 : 1);
+            boolean recent = spec.getAsOf().toEpochDay() - filedDate.toEpochDay() < RECENT_CLAIM_DAYS;
+            status = CLAIM_STATUSES[pick(random, recent ? RECENT_CLAIM_WEIGHTS : AGED_CLAIM_WEIGHTS)];
+            claim.incidentDescription(description(type))
+                .incidentLocation(LOCATIONS[random.nextInt(LOCATIONS.length)]);
+        }
+        
+        LocalDate assessmentDate = min(filedDate.plusDays(3 + random.nextInt(20)), spec.getAsOf());
+        switch (status) {
+            case APPROVED, SETTLED -> claim
+                .approvedAmount(claimAmount.multiply(BigDecimal.valueOf(0.7 + 0.3 * random.nextDouble()))
+                    .setScale(2, RoundingMode.HALF_UP))
+                .assessmentDate(assessmentDate)
+                .settlementDate(status == ClaimStatus.SETTLED
+                    ? min(assessmentDate.plusDays(2 + random.nextInt(14)), spec.getAsOf())
+                    : null);
+            case REJECTED -> claim
+                .assessmentDate(assessmentDate)
+                .rejectionReason(outlier ? "Suspected fraud" : "Not covered under policy terms");
+            default -> { }
+        }
+        
+        LocalDateTime createdAt = filedDate.atTime(8, 0).plusSeconds(random.nextInt(36_000));
+        Claim built = claim
+            .claimAmount(claimAmount)
+            .incidentDate(incidentDate)
+            .filedDate(filedDate)
+            .fraudScore(fraudScore)
+            .fraudRiskLevel(fraudRiskLevel(fraudScore))
+            .status(status)
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build();
+        return new GeneratedClaim(built, documents(random, type, createdAt));
+    }
+    
+    private List<ClaimDocument> documents(SplittableRandom random, ClaimType type, LocalDateTime uploadedAt) {
+        int count = 1 + geometric(random, Math.max(0.0, spec.getDocumentsPerClaim() - 1.0));
+        List<ClaimDocument> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DocumentType documentType = i == 0 ? DocumentType.CLAIM_FORM : supportingDocument(random, type);
+            boolean photo = documentType == DocumentType.PHOTOGRAPHS;
+            documents.add(ClaimDocument.builder()
+                .documentType(documentType)
+                .fileName(documentType.name().toLowerCase() + "_" + (i + 1) + (photo ? ".jpg" : ".pdf"))
+                .fileSize(20_000L + random.nextLong(photo ? 8_000_000L : 2_000_000L))
+                .mimeType(photo ? "image/jpeg" : "application/pdf")
+                .uploadedAt(uploadedAt.plusMinutes(random.nextInt(7 * 24 * 60)))
+                .build());
+        }
+        return documents;
+    }
+    
+    private static DocumentType supportingDocument(SplittableRandom random, ClaimType type) {
+        DocumentType[] candidates = switch (type) {
+            case VEHICLE_DAMAGE -> new DocumentType[] {
+                DocumentType.PHOTOGRAPHS, DocumentType.REPAIR_ESTIMATE, DocumentType.VEHICLE_REGISTRATION,
+                DocumentType.POLICE_REPORT};
+            case ACCIDENT -> new DocumentType[] {
+                DocumentType.POLICE_REPORT, DocumentType.MEDICAL_REPORT, DocumentType.PHOTOGRAPHS};
+            case HOSPITALIZATION -> new DocumentType[] {
+                DocumentType.HOSPITAL_BILL, DocumentType.MEDICAL_REPORT, DocumentType.PRESCRIPTION};
+            case MEDICAL_EXPENSE -> new DocumentType[] {
+                DocumentType.MEDICAL_REPORT, DocumentType.PRESCRIPTION, DocumentType.HOSPITAL_BILL};
+            case PROPERTY_DAMAGE -> new DocumentType[] {
+                DocumentType.PHOTOGRAPHS, DocumentType.REPAIR_ESTIMATE, DocumentType.OTHER};
+            case DEATH_BENEFIT -> new DocumentType[] {
+                DocumentType.DEATH_CERTIFICATE, DocumentType.MEDICAL_REPORT};
+        };
+        return candidates[random.nextInt(candidates.length)];
+    }
+    
+    private static ClaimType claimType(SplittableRandom random, ProductType product) {
+        double roll = random.nextDouble();
+        return switch (product) {
+            case AUTO_INSURANCE -> roll < 0.75 ? ClaimType.VEHICLE_DAMAGE : ClaimType.ACCIDENT;
+            case HEALTH_INSURANCE -> roll < 0.4 ? ClaimType.HOSPITALIZATION : ClaimType.MEDICAL_EXPENSE;
+            case HOME_INSURANCE -> ClaimType.PROPERTY_DAMAGE;
+            case LIFE_INSURANCE -> roll < 0.3 ? ClaimType.DEATH_BENEFIT : ClaimType.ACCIDENT;
+            case TRAVEL_INSURANCE -> roll < 0.6 ? ClaimType.MEDICAL_EXPENSE : ClaimType.ACCIDENT;
+        };
+    }
+    
+    private static String description(ClaimType type) {
+        return switch (type) {
+            case VEHICLE_DAMAGE -> "Collision damage to front bumper and headlights while parking";
+            case ACCIDENT -> "Injury sustained in a fall requiring outpatient treatment";
+            case HOSPITALIZATION -> "Emergency admission and three nights of inpatient care";
+            case MEDICAL_EXPENSE -> "Specialist consultation, diagnostics and prescribed medication";
+            case PROPERTY_DAMAGE -> "Water damage to kitchen and flooring from a burst pipe";
+            case DEATH_BENEFIT -> "Death benefit claim filed by the named beneficiary";
+        };
+    }
+    
+    private long customerId(SplittableRandom random) {
+        // Inverse CDF of a continuous power law on [1, customers + 1), floored to a rank
+        double rank = Math.pow(1.0 + zipfSpan * random.nextDouble(), 1.0 / zipfExponent);
+        long customer = Math.min((long) rank, spec.getCustomers());
+        return spec.getFirstCustomerId() + customer - 1;
+    }
+    
+    private static FraudRiskLevel fraudRiskLevel(double score) {
+        if (score >= SCORE_BANDS[3]) return FraudRiskLevel.CRITICAL;
+        if (score >= SCORE_BANDS[2]) return FraudRiskLevel.HIGH;
+        if (score >= SCORE_BANDS[1]) return FraudRiskLevel.MEDIUM;
+        return FraudRiskLevel.LOW;
+    }
+    
+    private static double scoreIn(SplittableRandom random, int band) {
+        double score = SCORE_BANDS[band] + (SCORE_BANDS[band + 1] - SCORE_BANDS[band]) * random.nextDouble();
+        return Math.round(score * 10_000) / 10_000.0;
+    }
+    
+    private static BigDecimal amount(SplittableRandom random, int min, int max) {
+        // Round to the nearest thousand like real sums insured
+        long thousands = (min + random.nextLong(max - min + 1L)) / 1_000;
+        return BigDecimal.valueOf(thousands * 1_000L).setScale(2);
+    }
+    
+    private static int geometric(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double p = 1.0 / (1.0 + mean);
+        return (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+    }
+    
+    private static int pick(SplittableRandom random, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+    
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+    
+    // Stafford variant 13 finalizer, as used by SplittableRandom
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    @Value
+    public static class GeneratedPolicy {
+        Policy policy;
+        UnderwritingCase underwritingCase;
+        List<GeneratedClaim> claims;
+    }
+    
+    @Value
+    public static class GeneratedClaim {
+        Claim claim;
+        List<ClaimDocument> documents;
+    }
+}
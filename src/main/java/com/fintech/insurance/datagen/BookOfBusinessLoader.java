@@ -0,0 +1,334 @@
+package com.fintech.insurance.datagen;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimDocument;
+import com.fintech.insurance.common.id.BusinessIds;
+import com.fintech.insurance.datagen.BookOfBusinessGenerator.GeneratedClaim;
+import com.fintech.insurance.datagen.BookOfBusinessGenerator.GeneratedPolicy;
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.underwriting.model.UnderwritingCase;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes a generated book of business with multi-row inserts instead of per-entity
+ * JPA saves. Chunks of policies are generated and inserted in parallel, each in its
+ * own transaction.
+ * <p>
+ * Ids for policies, claims and underwriting cases are reserved from the same
+ * {@code id_generators} rows Hibernate's pooled table generators use, so entities
+ * saved through JPA afterwards continue past the loaded range.
+ */
+@Component
+@Slf4j
+public class BookOfBusinessLoader {
+    
+    // Must match allocationSize on the entities' @TableGenerator
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final int ROWS_PER_STATEMENT = 500;
+    
+    private static final String POLICY_SEGMENT = "policies";
+    private static final String CLAIM_SEGMENT = "claims";
+    private static final String UNDERWRITING_CASE_SEGMENT = "underwriting_cases";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MultiRowInsert<Policy> policyInsert;
+    private final MultiRowInsert<UnderwritingCase> caseInsert;
+    private final MultiRowInsert<Claim> claimInsert;
+    private final MultiRowInsert<ClaimDocument> documentInsert;
+    
+    public BookOfBusinessLoader(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.policyInsert = new MultiRowInsert<>(jdbcTemplate, "policies", List.of(
+            "id", "policy_number", "customer_id", "product_type", "premium", "coverage_amount",
+            "start_date", "end_date", "status", "payment_frequency", "created_at", "updated_at"),
+            ROWS_PER_STATEMENT, BookOfBusinessLoader::bindPolicy);
+        this.caseInsert = new MultiRowInsert<>(jdbcTemplate, "underwriting_cases", List.of(
+            "id", "case_number", "policy_id", "customer_id", "risk_score", "risk_level", "decision",
+            "recommended_premium", "created_at", "updated_at"),
+            ROWS_PER_STATEMENT, BookOfBusinessLoader::bindCase);
+        this.claimInsert = new MultiRowInsert<>(jdbcTemplate, "claims", List.of(
+            "id", "claim_number", "policy_id", "customer_id", "claim_type", "claim_amount", "approved_amount",
+            "status", "incident_date", "incident_description", "incident_location", "fraud_score",
+            "fraud_risk_level", "rejection_reason", "filed_date", "assessment_date", "settlement_date",
+            "created_at", "updated_at"),
+            ROWS_PER_STATEMENT, BookOfBusinessLoader::bindClaim);
+        this.documentInsert = new MultiRowInsert<>(jdbcTemplate, "claim_documents", List.of(
+            "claim_id", "document_type", "file_name", "file_size", "mime_type", "uploaded_at"),
+            ROWS_PER_STATEMENT, BookOfBusinessLoader::bindDocument);
+    }
+    
+    public LoadReport load(BookOfBusinessSpec spec) {
+        BookOfBusinessGenerator generator = new BookOfBusinessGenerator(spec);
+        log.info("Loading synthetic book of business: {} policies, seed {}, {} threads",
+            spec.getPolicies(), spec.getSeed(), spec.getParallelism());
+        
+        // Create missing generator rows up front so parallel chunks only ever update them
+        reserveIds(POLICY_SEGMENT, 0);
+        reserveIds(CLAIM_SEGMENT, 0);
+        reserveIds(UNDERWRITING_CASE_SEGMENT, 0);
+        
+        long startNanos = System.nanoTime();
+        LoadReport.Counter counter = new LoadReport.Counter();
+        long chunks = (spec.getPolicies() + spec.getChunkSize() - 1) / spec.getChunkSize();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(spec.getParallelism(), r -> {
+            Thread thread = new Thread(r, "book-loader-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> pending = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long first = chunk * spec.getChunkSize();
+                int size = (int) Math.min(spec.getChunkSize(), spec.getPolicies() - first);
+                pending.add(pool.submit(() -> loadChunk(generator, first, size, counter, startNanos)));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading book of business", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Loading book of business failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        
+        LoadReport report = counter.toReport(Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Loaded {} rows in {} ({} rows/s): {} policies, {} underwriting cases, {} claims, {} documents",
+            report.getTotalRows(), report.getElapsed(), Math.round(report.rowsPerSecond()),
+            report.getPolicies(), report.getUnderwritingCases(), report.getClaims(), report.getDocuments());
+        return report;
+    }
+    
+    private void loadChunk(BookOfBusinessGenerator generator, long firstIndex, int size,
+                           LoadReport.Counter counter, long startNanos) {
+        List<GeneratedPolicy> generated = new ArrayList<>(size);
+        int caseCount = 0;
+        int claimCount = 0;
+        for (int i = 0; i < size; i++) {
+            GeneratedPolicy next = generator.generate(firstIndex + i);
+            generated.add(next);
+            caseCount += next.getUnderwritingCase() != null ? 1 : 0;
+            claimCount += next.getClaims().size();
+        }
+        
+        long policyId = reserveIds(POLICY_SEGMENT, size);
+        long caseId = reserveIds(UNDERWRITING_CASE_SEGMENT, caseCount);
+        long claimId = reserveIds(CLAIM_SEGMENT, claimCount);
+        
+        List<Policy> policies = new ArrayList<>(size);
+        List<UnderwritingCase> cases = new ArrayList<>(caseCount);
+        List<Claim> claims = new ArrayList<>(claimCount);
+        List<ClaimDocument> documents = new ArrayList<>();
+        for (GeneratedPolicy next : generated) {
+            Policy policy = next.getPolicy();
+            policy.setId(policyId++);
+            policy.setPolicyNumber(BusinessIds.policyNumber());
+            policies.add(policy);
+            
+            UnderwritingCase uwCase = next.getUnderwritingCase();
+            if (uwCase != null) {
+                uwCase.setId(caseId++);
+                uwCase.setCaseNumber(BusinessIds.caseNumber());
+                uwCase.setPolicyId(policy.getId());
+                cases.add(uwCase);
+            }
+            
+            for (GeneratedClaim generatedClaim : next.getClaims()) {
+                Claim claim = generatedClaim.getClaim();
+                claim.setId(claimId++);
+                claim.setClaimNumber(BusinessIds.claimNumber());
+                claim.setPolicyId(policy.getId());
+                claims.add(claim);
+                for (ClaimDocument document : generatedClaim.getDocuments()) {
+                    document.setClaimId(claim.getId());
+                    documents.add(document);
+                }
+            }
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            policyInsert.insert(policies);
+            caseInsert.insert(cases);
+            claimInsert.insert(claims);
+            documentInsert.insert(documents);
+        });
+        
+        long loaded = counter.add(policies.size(), cases.size(), claims.size(), documents.size());
+        if (counter.chunkDone() % 50 == 0) {
+            double seconds = (System.nanoTime() - startNanos) / 1e9;
+            log.info("Loaded {} rows ({} rows/s)", loaded, Math.round(loaded / seconds));
+        }
+    }
+    
+    /**
+     * Reserves {@code count} consecutive ids from a pooled table generator segment and
+     * returns the first. Hibernate treats a stored value {@code v} as owning the block
+     * {@code (v - allocationSize, v]}, so the row is advanced to {@code allocationSize}
+     * past the last reserved id.
+     */
+    long reserveIds(String segment, int count) {
+        return transactionTemplate.execute(status -> {
+            List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_val FROM id_generators WHERE entity_name = ? FOR UPDATE", Long.class, segment);
+            long first = current.isEmpty() ? 1 : Math.max(1, current.get(0) - ID_ALLOCATION_SIZE + 1);
+            long nextVal = first + count - 1 + ID_ALLOCATION_SIZE;
+            if (current.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO id_generators (entity_name, next_val) VALUES (?, ?)", segment, nextVal);
+            } else if (count > 0) {
+                jdbcTemplate.update("UPDATE id_generators SET next_val = ? WHERE entity_name = ?", nextVal, segment);
+            }
+            return first;
+        });
+    }
+    
+    private static void bindPolicy(PreparedStatement ps, int offset, Policy policy) throws SQLException {
+        ps.setLong(offset + 1, policy.getId());
+        ps.setString(offset + 2, policy.getPolicyNumber());
+        ps.setLong(offset + 3, policy.getCustomerId());
+        ps.setString(offset + 4, policy.getProductType().name());
+        ps.setBigDecimal(offset + 5, policy.getPremium());
+        ps.setBigDecimal(offset + 6, policy.getCoverageAmount());
+        ps.setDate(offset + 7, Date.valueOf(policy.getStartDate()));
+        ps.setDate(offset + 8, Date.valueOf(policy.getEndDate()));
+        ps.setString(offset + 9, policy.getStatus().name());
+        ps.setString(offset + 10, policy.getPaymentFrequency().name());
+        ps.setTimestamp(offset + 11, Timestamp.valueOf(policy.getCreatedAt()));
+        ps.setTimestamp(offset + 12, Timestamp.valueOf(policy.getCreatedAt()));
+    }
+    
+    private static void bindCase(PreparedStatement ps, int offset, UnderwritingCase uwCase) throws SQLException {
+        ps.setLong(offset + 1, uwCase.getId());
+        ps.setString(offset + 2, uwCase.getCaseNumber());
+        ps.setLong(offset + 3, uwCase.getPolicyId());
+        ps.setLong(offset + 4, uwCase.getCustomerId());
+        ps.setDouble(offset + 5, uwCase.getRiskScore());
+        ps.setString(offset + 6, uwCase.getRiskLevel().name());
+        ps.setString(offset + 7, uwCase.getDecision().name());
+        ps.setBigDecimal(offset + 8, uwCase.getRecommendedPremium());
+        ps.setTimestamp(offset + 9, Timestamp.valueOf(uwCase.getCreatedAt()));
+        ps.setTimestamp(offset + 10, Timestamp.valueOf(uwCase.getUpdatedAt()));
+    }
+    
+    private static void bindClaim(PreparedStatement ps, int offset, Claim claim) throws SQLException {
+        ps.setLong(offset + 1, claim.getId());
+        ps.setString(offset + 2, claim.getClaimNumber());
+        ps.setLong(offset + 3, claim.getPolicyId());
+        ps.setLong(offset + 4, claim.getCustomerId());
+        ps.setString(offset + 5, claim.getClaimType().name());
+        ps.setBigDecimal(offset + 6, claim.getClaimAmount());
+        setAmount(ps, offset + 7, claim.getApprovedAmount());
+        ps.setString(offset + 8, claim.getStatus().name());
+        ps.setDate(offset + 9, Date.valueOf(claim.getIncidentDate()));
+        setString(ps, offset + 10, claim.getIncidentDescription());
+        setString(ps, offset + 11, claim.getIncidentLocation());
+        ps.setDouble(offset + 12, claim.getFraudScore());
+        ps.setString(offset + 13, claim.getFraudRiskLevel().name());
+        setString(ps, offset + 14, claim.getRejectionReason());
+        ps.setDate(offset + 15, Date.valueOf(claim.getFiledDate()));
+        setDate(ps, offset + 16, claim.getAssessmentDate());
+        setDate(ps, offset + 17, claim.getSettlementDate());
+        ps.setTimestamp(offset + 18, Timestamp.valueOf(claim.getCreatedAt()));
+        ps.setTimestamp(offset + 19, Timestamp.valueOf(claim.getUpdatedAt()));
+    }
+    
+    private static void bindDocument(PreparedStatement ps, int offset, ClaimDocument document) throws SQLException {
+        ps.setLong(offset + 1, document.getClaimId());
+        ps.setString(offset + 2, document.getDocumentType().name());
+        ps.setString(offset + 3, document.getFileName());
+        ps.setLong(offset + 4, document.getFileSize());
+        ps.setString(offset + 5, document.getMimeType());
+        ps.setTimestamp(offset + 6, Timestamp.valueOf(document.getUploadedAt()));
+    }
+    
+    private static void setString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+    
+    private static void setAmount(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(index, value);
+        }
+    }
+    
+    private static void setDate(PreparedStatement ps, int index, LocalDate value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DATE);
+        } else {
+            ps.setDate(index, Date.valueOf(value));
+        }
+    }
+    
+    @Value
+    public static class LoadReport {
+        long policies;
+        long underwritingCases;
+        long claims;
+        long documents;
+        Duration elapsed;
+        
+        public long getTotalRows() {
+            return policies + underwritingCases + claims + documents;
+        }
+        
+        public double rowsPerSecond() {
+            return getTotalRows() / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        }
+        
+        static final class Counter {
+            private final AtomicLong policies = new AtomicLong();
+            private final AtomicLong cases = new AtomicLong();
+            private final AtomicLong claims = new AtomicLong();
+            private final AtomicLong documents = new AtomicLong();
+            private final AtomicLong rows = new AtomicLong();
+            private final AtomicLong chunks = new AtomicLong();
+            
+            long add(int policyRows, int caseRows, int claimRows, int documentRows) {
+                policies.addAndGet(policyRows);
+                cases.addAndGet(caseRows);
+                claims.addAndGet(claimRows);
+                documents.addAndGet(documentRows);
+                return rows.addAndGet(policyRows + caseRows + claimRows + documentRows);
+            }
+            
+            long chunkDone() {
+                return chunks.incrementAndGet();
+            }
+            
+            LoadReport toReport(Duration elapsed) {
+                return new LoadReport(policies.get(), cases.get(), claims.get(), documents.get(), elapsed);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fintech.insurance.datagen;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Loads a synthetic book of business at startup when {@code insurance.datagen.enabled=true}.
+ * Runs before {@code ApplicationReadyEvent}, so the portfolio stats and settled-claim
+ * counters seed from the loaded data.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "insurance.datagen.enabled", havingValue = "true")
+public class BookOfBusinessRunner implements ApplicationRunner {
+    
+    private final BookOfBusinessLoader loader;
+    
+    @Value("${insurance.datagen.seed:42}")
+    private long seed;
+    
+    @Value("${insurance.datagen.policies:100000}")
+    private long policies;
+    
+    @Value("${insurance.datagen.customers:1000000}")
+    private long customers;
+    
+    @Value("${insurance.datagen.claims-per-policy:0.8}")
+    private double claimsPerPolicy;
+    
+    @Value("${insurance.datagen.fraud-outlier-rate:0.02}")
+    private double fraudOutlierRate;
+    
+    @Value("${insurance.datagen.as-of:2026-01-01}")
+    private LocalDate asOf;
+    
+    @Value("${insurance.datagen.parallelism:4}")
+    private int parallelism;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        loader.load(BookOfBusinessSpec.builder()
+            .seed(seed)
+            .policies(policies)
+            .customers(customers)
+            .claimsPerPolicy(claimsPerPolicy)
+            .fraudOutlierRate(fraudOutlierRate)
+            .asOf(asOf)
+            .parallelism(parallelism)
+            .build());
+    }
+}
@@ -0,0 +1,60 @@
+package com.fintech.insurance.datagen;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Shape of a synthetic book of business. The same spec, seed included, always
+ * generates the same policies, claims, documents and underwriting cases.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BookOfBusinessSpec {
+    
+    @Builder.Default
+    long seed = 42L;
+    
+    long policies;
+    
+    /** Number of distinct customers; policies are spread over them with a Zipf skew. */
+    @Builder.Default
+    long customers = 1_000_000L;
+    
+    /** Zipf exponent of the customer distribution; larger means a heavier head. */
+    @Builder.Default
+    double customerSkew = 1.1;
+    
+    /** Customer ids are offset so generated customers don't overlap ones created through the API. */
+    @Builder.Default
+    long firstCustomerId = 10_000_000L;
+    
+    @Builder.Default
+    double claimsPerPolicy = 0.8;
+    
+    @Builder.Default
+    double documentsPerClaim = 2.5;
+    
+    /** Fraction of policies that went through underwriting. */
+    @Builder.Default
+    double underwritingRatio = 0.6;
+    
+    /** Fraction of claims shaped like fraud: near-limit amounts, early incidents, late filing. */
+    @Builder.Default
+    double fraudOutlierRate = 0.02;
+    
+    @Builder.Default
+    int historyYears = 5;
+    
+    /** Reference date the book is generated as of; fixed so reruns on later days match. */
+    @Builder.Default
+    LocalDate asOf = LocalDate.of(2026, 1, 1);
+    
+    /** Policies generated and inserted per loader task; ids are reserved per chunk. */
+    @Builder.Default
+    int chunkSize = 2_000;
+    
+    @Builder.Default
+    int parallelism = 4;
+}
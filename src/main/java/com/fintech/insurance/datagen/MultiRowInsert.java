@@ -0,0 +1,68 @@
+package com.fintech.insurance.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@code INSERT INTO t (...) VALUES (...), (...), ...} with many rows per statement,
+ * which every supported database accepts and which saves a round trip and a statement
+ * parse per row compared to per-entity saves.
+ */
+final class MultiRowInsert<T> {
+    
+    @FunctionalInterface
+    interface RowBinder<T> {
+        /** Binds one row starting at parameter {@code offset + 1}. */
+        void bind(PreparedStatement ps, int offset, T row) throws SQLException;
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final String prefix;
+    private final String rowPlaceholders;
+    private final int columns;
+    private final int rowsPerStatement;
+    private final RowBinder<T> binder;
+    private final String fullStatement;
+    
+    MultiRowInsert(JdbcTemplate jdbcTemplate, String table, List<String> columns, int rowsPerStatement,
+                   RowBinder<T> binder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholders = "(" + "?, ".repeat(columns.size() - 1) + "?)";
+        this.columns = columns.size();
+        this.rowsPerStatement = rowsPerStatement;
+        this.binder = binder;
+        this.fullStatement = sql(rowsPerStatement);
+    }
+    
+    /** Returns the number of rows inserted. */
+    int insert(List<T> rows) {
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<T> statementRows = rows.subList(from, Math.min(from + rowsPerStatement, rows.size()));
+            String sql = statementRows.size() == rowsPerStatement ? fullStatement : sql(statementRows.size());
+            inserted += jdbcTemplate.update(sql, ps -> {
+                int offset = 0;
+                for (T row : statementRows) {
+                    binder.bind(ps, offset, row);
+                    offset += columns;
+                }
+            });
+        }
+        return inserted;
+    }
+    
+    private String sql(int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (rowPlaceholders.length() + 2)).append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+}
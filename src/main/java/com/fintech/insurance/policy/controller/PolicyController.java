@@ -1,13 +1,18 @@
 package com.fintech.insurance.policy.controller;
 
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
 import com.fintech.insurance.policy.dto.PolicyDTO;
 import com.fintech.insurance.policy.service.PolicyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 @RestController
@@ -25,6 +30,13 @@ public class PolicyController {
             .body(policyService.createPolicy(dto));
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Create a batch of policies")
+    public ResponseEntity<List<PolicyDTO>> createPolicies(@Valid @RequestBody List<PolicyDTO> dtos) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(policyService.createPolicies(dtos));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get policy by ID")
     public ResponseEntity<PolicyDTO> getPolicy(@PathVariable Long id) {
@@ -37,6 +49,22 @@ public class PolicyController {
         return ResponseEntity.ok(policyService.getCustomerPolicies(customerId));
     }
     
+    @GetMapping("/customer/{customerId}/page")
+    @Operation(summary = "Page through customer policies by ID cursor")
+    public ResponseEntity<CursorPage<PolicyDTO>> getCustomerPoliciesPage(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(policyService.getCustomerPoliciesPage(customerId, after, size));
+    }
+    
+    @GetMapping(value = "/customer/{customerId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    @Operation(summary = "Stream customer policies as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamCustomerPolicies(@PathVariable Long customerId) {
+        StreamingResponseBody body = out -> policyService.streamCustomerPolicies(customerId, out);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(body);
+    }
+    
     @PostMapping("/{id}/activate")
     @Operation(summary = "Activate policy")
     public ResponseEntity<PolicyDTO> activatePolicy(@PathVariable Long id) {
@@ -0,0 +1,53 @@
+package com.fintech.insurance.policy.controller;
+
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.exception.PolicyNotFoundException;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.repository.ReactivePolicyReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only policy endpoints backed by R2DBC. Collections are streamed as NDJSON
+ * or collected into a JSON array when the client asks for {@code application/json}.
+ */
+@RestController
+@RequestMapping("/api/reactive/policies")
+@RequiredArgsConstructor
+@Tag(name = "Policy Management")
+public class ReactivePolicyController {
+    
+    private final ReactivePolicyReader policyReader;
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get policy by ID (reactive)")
+    public Mono<PolicyDTO> getPolicy(@PathVariable Long id) {
+        return policyReader.findById(id)
+            .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException("Policy not found")));
+    }
+    
+    @GetMapping("/number/{policyNumber}")
+    @Operation(summary = "Get policy by number (reactive)")
+    public Mono<PolicyDTO> getPolicyByNumber(@PathVariable String policyNumber) {
+        return policyReader.findByPolicyNumber(policyNumber)
+            .switchIfEmpty(Mono.error(() -> new PolicyNotFoundException("Policy not found")));
+    }
+    
+    @GetMapping(value = "/customer/{customerId}", produces = {NdjsonWriter.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream policies for customer (reactive)")
+    public Flux<PolicyDTO> getCustomerPolicies(@PathVariable Long customerId) {
+        return policyReader.streamByCustomerId(customerId);
+    }
+    
+    @GetMapping(value = "/status/{status}", produces = {NdjsonWriter.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Stream policies in a status (reactive)")
+    public Flux<PolicyDTO> getPoliciesByStatus(@PathVariable PolicyStatus status) {
+        return policyReader.streamByStatus(status);
+    }
+}
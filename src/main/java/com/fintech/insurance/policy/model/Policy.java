@@ -1,5 +1,6 @@
 package com.fintech.insurance.policy.model;
 
+import com.fintech.insurance.common.id.BusinessIds;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -10,7 +11,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "policies")
+@Table(name = "policies", indexes = {
+    @Index(name = "idx_policies_customer_id", columnList = "customer_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,7 +21,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Policy {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "policy_id")
+    @TableGenerator(name = "policy_id", table = "id_generators", pkColumnName = "entity_name",
+        valueColumnName = "next_val", pkColumnValue = "policies", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
@@ -45,6 +50,7 @@ public class Policy {
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
+    @Builder.Default
     private PolicyStatus status = PolicyStatus.DRAFT;
     
     @Column(length = 1000)
@@ -65,7 +71,7 @@ public class Policy {
     @PrePersist
     public void prePersist() {
         if (policyNumber == null) {
-            policyNumber = "POL" + System.currentTimeMillis();
+            policyNumber = BusinessIds.policyNumber();
         }
     }
 }
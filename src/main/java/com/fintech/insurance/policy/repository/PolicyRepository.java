@@ -1,12 +1,26 @@
 package com.fintech.insurance.policy.repository;
 
+import com.fintech.insurance.common.pagination.NdjsonWriter;
 import com.fintech.insurance.policy.model.*;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PolicyRepository extends JpaRepository<Policy, Long> {
     Optional<Policy> findByPolicyNumber(String policyNumber);
     List<Policy> findByCustomerId(Long customerId);
+    List<Policy> findByCustomerIdIn(Collection<Long> customerIds);
     List<Policy> findByStatus(PolicyStatus status);
+    
+    List<Policy> findByCustomerIdAndIdGreaterThanOrderByIdAsc(Long customerId, Long afterId, Limit limit);
+    
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    Stream<Policy> streamByCustomerIdOrderByIdAsc(Long customerId);
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.fintech.insurance.policy.repository;
+
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.model.ProductType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking policy reads over R2DBC, mapped straight to {@link PolicyDTO} the same
+ * way {@code PolicyService} maps entities. Multi-row queries stream with a bounded
+ * fetch size.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactivePolicyReader {
+    
+    static final int FETCH_SIZE = 500;
+    
+    private static final String SELECT = "SELECT id, policy_number, customer_id, product_type, premium, " +
+        "coverage_amount, start_date, end_date, status, description, beneficiary, payment_frequency " +
+        "FROM policies ";
+    
+    private final DatabaseClient databaseClient;
+    
+    public Mono<PolicyDTO> findById(Long id) {
+        return databaseClient.sql(SELECT + "WHERE id = :id")
+            .bind("id", id)
+            .map(ReactivePolicyReader::toDTO)
+            .one();
+    }
+    
+    public Mono<PolicyDTO> findByPolicyNumber(String policyNumber) {
+        return databaseClient.sql(SELECT + "WHERE policy_number = :policyNumber")
+            .bind("policyNumber", policyNumber)
+            .map(ReactivePolicyReader::toDTO)
+            .one();
+    }
+    
+    public Flux<PolicyDTO> streamByCustomerId(Long customerId) {
+        return stream(SELECT + "WHERE customer_id = :value ORDER BY id", customerId);
+    }
+    
+    public Flux<PolicyDTO> streamByStatus(PolicyStatus status) {
+        // Inlined rather than bound: some drivers bind strings as CLOBs, which won't compare with
+        // enum columns, and an enum constant name is safe to embed
+        return stream(databaseClient.sql(SELECT + "WHERE status = '" + status.name() + "' ORDER BY id"));
+    }
+    
+    private Flux<PolicyDTO> stream(String sql, Object value) {
+        return stream(databaseClient.sql(sql).bind("value", value));
+    }
+    
+    private Flux<PolicyDTO> stream(DatabaseClient.GenericExecuteSpec query) {
+        return query
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .map(ReactivePolicyReader::toDTO)
+            .all();
+    }
+    
+    static PolicyDTO toDTO(Readable row) {
+        String paymentFrequency = row.get("payment_frequency", String.class);
+        return PolicyDTO.builder()
+            .id(row.get("id", Long.class))
+            .policyNumber(row.get("policy_number", String.class))
+            .customerId(row.get("customer_id", Long.class))
+            .productType(ProductType.valueOf(row.get("product_type", String.class)))
+            .premium(row.get("premium", BigDecimal.class))
+            .coverageAmount(row.get("coverage_amount", BigDecimal.class))
+            .startDate(row.get("start_date", LocalDate.class))
+            .endDate(row.get("end_date", LocalDate.class))
+            .status(PolicyStatus.valueOf(row.get("status", String.class)))
+            .description(row.get("description", String.class))
+            .beneficiary(row.get("beneficiary", String.class))
+            .paymentFrequency(paymentFrequency == null ? null : PaymentFrequency.valueOf(paymentFrequency))
+            .build();
+    }
+}
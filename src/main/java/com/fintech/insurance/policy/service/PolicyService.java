@@ -2,18 +2,35 @@ package com.fintech.insurance.policy.service;
 
 
 import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.exception.InvalidPolicyException;
+import com.fintech.insurance.policy.exception.PolicyNotFoundException;
 import com.fintech.insurance.policy.model.*;
 import com.fintech.insurance.policy.repository.PolicyRepository;
 import com.fintech.insurance.common.event.InsuranceEvent;
+import com.fintech.insurance.common.concurrent.LookupCoalescer;
+import com.fintech.insurance.common.outbox.OutboxService;
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
 
+import io.micrometer.tracing.annotation.NewSpan;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,14 +38,66 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PolicyService {
     
+    private static final String INSURANCE_EVENTS_TOPIC = "insurance-events";
+    static final String POLICY_CACHE = "policies";
+    static final String CUSTOMER_POLICIES_CACHE = "customer-policies";
+    
     private final PolicyRepository policyRepository;
-    private final KafkaTemplate<String, InsuranceEvent> kafkaTemplate;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
+    private final NdjsonWriter ndjsonWriter;
+    private final CacheManager cacheManager;
+    private final LookupCoalescer lookupCoalescer;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+    
+    @Value("${insurance.batch.max-size:10000}")
+    private int maxBatchSize;
     
     @Transactional
+    @CachePut(value = POLICY_CACHE, key = "#result.id")
+    @NewSpan("policy create")
     public PolicyDTO createPolicy(PolicyDTO dto) {
         log.info("Creating policy for customer: {}", dto.getCustomerId());
         
-        Policy policy = Policy.builder()
+        Policy saved = policyRepository.save(buildPolicy(dto));
+        publishEvent("POLICY_CREATED", saved);
+        putCustomerPolicies(List.of(saved.getCustomerId()));
+        return mapToDTO(saved);
+    }
+    
+    @Transactional
+    public List<PolicyDTO> createPolicies(List<PolicyDTO> dtos) {
+        if (dtos.size() > maxBatchSize) {
+            throw new InvalidPolicyException("Batch size " + dtos.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        log.info("Creating batch of {} policies", dtos.size());
+        
+        List<PolicyDTO> created = new ArrayList<>(dtos.size());
+        Set<Long> customerIds = new LinkedHashSet<>();
+        for (int from = 0; from < dtos.size(); from += jdbcBatchSize) {
+            List<Policy> chunk = dtos.subList(from, Math.min(from + jdbcBatchSize, dtos.size())).stream()
+                .map(this::buildPolicy)
+                .collect(Collectors.toList());
+            
+            // Flush and detach each chunk so the persistence context stays small
+            for (Policy saved : policyRepository.saveAll(chunk)) {
+                publishEvent("POLICY_CREATED", saved);
+                created.add(mapToDTO(saved));
+                customerIds.add(saved.getCustomerId());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        putCustomerPolicies(customerIds);
+        log.info("Created batch of {} policies", created.size());
+        return created;
+    }
+    
+    private Policy buildPolicy(PolicyDTO dto) {
+        return Policy.builder()
             .customerId(dto.getCustomerId())
             .productType(dto.getProductType())
             .premium(dto.getPremium())
@@ -39,78 +108,132 @@ public class PolicyService {
             .beneficiary(dto.getBeneficiary())
             .paymentFrequency(dto.getPaymentFrequency())
             .build();
-        
-        Policy saved = policyRepository.save(policy);
-        publishEvent("POLICY_CREATED", saved);
-        return mapToDTO(saved);
     }
     
-    @Cacheable(value = "policies", key = "#id")
+    // sync fills through putIfAbsent, so a miss never replaces a write-through from a concurrent change
+    @Cacheable(value = POLICY_CACHE, key = "#id", sync = true)
     public PolicyDTO getPolicy(Long id) {
-        return policyRepository.findById(id)
-            .map(this::mapToDTO)
-            .orElseThrow(() -> new RuntimeException("Policy not found"));
+        // Concurrent cache misses for the same policy share one query
+        PolicyDTO policy = lookupCoalescer.load(POLICY_CACHE, id, this::loadPolicies);
+        if (policy == null) {
+            throw new PolicyNotFoundException("Policy not found with id: " + id);
+        }
+        return policy;
+    }
+    
+    private Map<Long, PolicyDTO> loadPolicies(Collection<Long> ids) {
+        return policyRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Policy::getId, this::mapToDTO));
     }
     
+    @Cacheable(value = CUSTOMER_POLICIES_CACHE, key = "#customerId", sync = true)
     public List<PolicyDTO> getCustomerPolicies(Long customerId) {
         return policyRepository.findByCustomerId(customerId).stream()
             .map(this::mapToDTO)
             .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<PolicyDTO> getCustomerPoliciesPage(Long customerId, Long after, int size) {
+        List<PolicyDTO> rows = policyRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(
+                customerId, CursorPage.startAfter(after), Limit.of(size + 1)).stream()
+            .map(this::mapToDTO)
+            .collect(Collectors.toList());
+        return CursorPage.of(rows, size, PolicyDTO::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public long streamCustomerPolicies(Long customerId, OutputStream out) {
+        return ndjsonWriter.write(policyRepository.streamByCustomerIdOrderByIdAsc(customerId), this::mapToDTO, out);
+    }
+    
+    @NewSpan("policy activate")
     @Transactional
-    @CacheEvict(value = "policies", key = "#id")
+    @CachePut(value = POLICY_CACHE, key = "#id")
     public PolicyDTO activatePolicy(Long id) {
         log.info("Activating policy: {}", id);
         Policy policy = policyRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Policy not found"));
+            .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + id));
         
         policy.setStatus(PolicyStatus.ACTIVE);
         Policy activated = policyRepository.save(policy);
         publishEvent("POLICY_ACTIVATED", activated);
+        putCustomerPolicies(List.of(activated.getCustomerId()));
         
         return mapToDTO(activated);
     }
     
     @Transactional
-    @CacheEvict(value = "policies", key = "#id")
+    @CachePut(value = POLICY_CACHE, key = "#id")
     public PolicyDTO renewPolicy(Long id) {
         log.info("Renewing policy: {}", id);
         Policy policy = policyRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Policy not found"));
+            .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + id));
         
         // Extend end date by 1 year
         policy.setEndDate(policy.getEndDate().plusYears(1));
         Policy renewed = policyRepository.save(policy);
         publishEvent("POLICY_RENEWED", renewed);
+        putCustomerPolicies(List.of(renewed.getCustomerId()));
         
         return mapToDTO(renewed);
     }
     
     @Transactional
-    @CacheEvict(value = "policies", key = "#id")
     public void cancelPolicy(Long id, String reason) {
         log.info("Cancelling policy: {}", id);
         Policy policy = policyRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Policy not found"));
+            .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + id));
         
         policy.setStatus(PolicyStatus.CANCELLED);
-        policyRepository.save(policy);
-        publishEvent("POLICY_CANCELLED", policy);
+        Policy cancelled = policyRepository.save(policy);
+        publishEvent("POLICY_CANCELLED", cancelled);
+        Cache cache = cacheManager.getCache(POLICY_CACHE);
+        if (cache != null) {
+            cache.put(id, mapToDTO(cancelled));
+        }
+        putCustomerPolicies(List.of(cancelled.getCustomerId()));
     }
     
+    /**
+     * Writes the customers' policy lists through as they stand in this transaction.
+     * Evicting instead would let a reader that loaded the old list before the
+     * commit fill it back in. The cache manager defers the puts to after commit,
+     * like the annotated ones.
+     */
+    private void putCustomerPolicies(Collection<Long> customerIds) {
+        Cache cache = cacheManager.getCache(CUSTOMER_POLICIES_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Map<Long, List<PolicyDTO>> byCustomer = policyRepository.findByCustomerIdIn(customerIds).stream()
+            .collect(Collectors.groupingBy(Policy::getCustomerId,
+                Collectors.mapping(this::mapToDTO, Collectors.toList())));
+        for (Long customerId : customerIds) {
+            cache.put(customerId, byCustomer.getOrDefault(customerId, new ArrayList<>()));
+        }
+    }
+    
+    // Written to the outbox in the caller's transaction; OutboxRelay publishes it after commit
     private void publishEvent(String eventType, Policy policy) {
         InsuranceEvent event = InsuranceEvent.builder()
             .eventType(eventType)
+            .source("insurance-service")
             .policyId(policy.getId())
             .policyNumber(policy.getPolicyNumber())
             .customerId(policy.getCustomerId())
             .premium(policy.getPremium())
+            .coverageAmount(policy.getCoverageAmount())
+            .policyStatus(policy.getStatus().name())
+            .productType(policy.getProductType().name())
             .build();
-        kafkaTemplate.send("insurance-events", event);
+        event.generateEventId();
+        event.setTimestampNow();
+        outboxService.enqueue(INSURANCE_EVENTS_TOPIC, String.valueOf(policy.getId()), eventType, event);
     }
     
-    private PolicyDTO mapToDTO(Policy policy) {
+    // Package-private for PolicyMappingBenchmark
+    PolicyDTO mapToDTO(Policy policy) {
         return PolicyDTO.builder()
             .id(policy.getId())
             .policyNumber(policy.getPolicyNumber())
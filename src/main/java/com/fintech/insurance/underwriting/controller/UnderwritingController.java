@@ -1,14 +1,22 @@
 package com.fintech.insurance.underwriting.controller;
 
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import com.fintech.insurance.underwriting.dto.QuoteDTO;
+import com.fintech.insurance.underwriting.dto.QuoteRequestDTO;
 import com.fintech.insurance.underwriting.dto.UnderwritingCaseDTO;
 import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import com.fintech.insurance.underwriting.service.QuoteService;
 import com.fintech.insurance.underwriting.service.UnderwritingService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +26,7 @@ import java.util.List;
 public class UnderwritingController {
     
     private final UnderwritingService underwritingService;
+    private final QuoteService quoteService;
     
     @PostMapping("/cases")
     @Operation(summary = "Create underwriting case")
@@ -26,6 +35,25 @@ public class UnderwritingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    @PostMapping("/cases/batch")
+    @Operation(summary = "Create a batch of underwriting cases")
+    public ResponseEntity<List<UnderwritingCaseDTO>> createCases(@Valid @RequestBody List<UnderwritingCaseDTO> dtos) {
+        List<UnderwritingCaseDTO> created = underwritingService.createCases(dtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+    
+    @PostMapping("/cases/assess")
+    @Operation(summary = "Score a batch of cases without saving them")
+    public ResponseEntity<List<UnderwritingCaseDTO>> assessCases(@Valid @RequestBody List<UnderwritingCaseDTO> dtos) {
+        return ResponseEntity.ok(underwritingService.assessCases(dtos));
+    }
+    
+    @PostMapping("/quotes")
+    @Operation(summary = "Price a batch of quotes without saving anything")
+    public ResponseEntity<List<QuoteDTO>> quote(@Valid @RequestBody List<QuoteRequestDTO> requests) {
+        return ResponseEntity.ok(quoteService.quote(requests));
+    }
+    
     @GetMapping("/cases/{id}")
     @Operation(summary = "Get case by ID")
     public ResponseEntity<UnderwritingCaseDTO> getCase(@PathVariable Long id) {
@@ -40,6 +68,22 @@ public class UnderwritingController {
         return ResponseEntity.ok(cases);
     }
     
+    @GetMapping("/cases/policy/{policyId}/page")
+    @Operation(summary = "Page through cases by policy by ID cursor")
+    public ResponseEntity<CursorPage<UnderwritingCaseDTO>> getCasesByPolicyPage(
+            @PathVariable Long policyId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_SIZE) @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        return ResponseEntity.ok(underwritingService.getCasesByPolicyPage(policyId, after, size));
+    }
+    
+    @GetMapping(value = "/cases/policy/{policyId}/stream", produces = NdjsonWriter.MEDIA_TYPE)
+    @Operation(summary = "Stream cases by policy as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamCasesByPolicy(@PathVariable Long policyId) {
+        StreamingResponseBody body = out -> underwritingService.streamCasesByPolicy(policyId, out);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(body);
+    }
+    
     @PostMapping("/cases/{id}/review")
     @Operation(summary = "Manual underwriting review")
     public ResponseEntity<UnderwritingCaseDTO> manualReview(
@@ -0,0 +1,24 @@
+package com.fintech.insurance.underwriting.dto;
+
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteDTO {
+    
+    private String reference;
+    private double riskScore;
+    private RiskLevel riskLevel;
+    private UnderwritingDecision decision;
+    private BigDecimal loadingFactor;
+    private BigDecimal quotedPremium;
+}
@@ -0,0 +1,40 @@
+package com.fintech.insurance.underwriting.dto;
+
+import com.fintech.insurance.policy.model.ProductType;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequestDTO {
+    
+    // Echoed back so callers can match quotes to their own records
+    private String reference;
+    
+    @NotNull(message = "Product type is required")
+    private ProductType productType;
+    
+    @NotNull(message = "Premium is required")
+    @DecimalMin(value = "0.01", message = "Premium must be greater than 0")
+    private BigDecimal premium;
+    
+    @NotNull(message = "Coverage amount is required")
+    @DecimalMin(value = "0.01", message = "Coverage amount must be greater than 0")
+    private BigDecimal coverageAmount;
+    
+    @NotNull(message = "Term in months is required")
+    @Min(value = 1, message = "Term must be at least 1 month")
+    private Integer termMonths;
+    
+    @Min(value = 0, message = "Prior settled claims cannot be negative")
+    private Integer priorSettledClaims;
+}
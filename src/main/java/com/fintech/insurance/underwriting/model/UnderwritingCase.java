@@ -1,5 +1,6 @@
 package com.fintech.insurance.underwriting.model;
 
+import com.fintech.insurance.common.id.BusinessIds;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "underwriting_cases")
+@Table(name = "underwriting_cases", indexes = {
+    @Index(name = "idx_underwriting_cases_policy_id", columnList = "policy_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -22,7 +25,9 @@ import java.time.LocalDateTime;
 public class UnderwritingCase {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "underwriting_case_id")
+    @TableGenerator(name = "underwriting_case_id", table = "id_generators", pkColumnName = "entity_name",
+        valueColumnName = "next_val", pkColumnValue = "underwriting_cases", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 50)
@@ -44,6 +49,7 @@ public class UnderwritingCase {
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
+    @Builder.Default
     private UnderwritingDecision decision = UnderwritingDecision.PENDING;
     
     @Column(length = 1000)
@@ -64,7 +70,7 @@ public class UnderwritingCase {
     @PrePersist
     public void prePersist() {
         if (caseNumber == null) {
-            caseNumber = "UW" + System.currentTimeMillis();
+            caseNumber = BusinessIds.caseNumber();
         }
     }
 }
\ No newline at end of file
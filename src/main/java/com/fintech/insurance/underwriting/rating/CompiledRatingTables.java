@@ -0,0 +1,240 @@
+package com.fintech.insurance.underwriting.rating;
+
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable underwriting rating tables. Tiered factors are expanded at load
+ * time into dense arrays indexed by the factor value, so scoring a case is a
+ * handful of array reads and does not allocate. Values past the last table
+ * entry use the top tier.
+ * <p>
+ * Premium loading factors are held as fixed-point longs in units of
+ * 1/{@value #LOADING_UNIT}, so loading a premium is integer arithmetic on cents.
+ */
+public final class CompiledRatingTables {
+    
+    // Bounds the size of an expanded table; a tier above this is a typo
+    static final int MAX_THRESHOLD = 100_000;
+    
+    static final long LOADING_UNIT = 10_000;
+    private static final int LOADING_SCALE = 4;
+    
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+    private static final RiskLevel[] LEVELS = {
+        RiskLevel.VERY_HIGH, RiskLevel.HIGH, RiskLevel.MEDIUM
+    };
+    
+    private final String source;
+    private final Instant loadedAt;
+    
+    private final double[] productWeights;
+    private final double[] coverageRatioWeights;
+    private final double[] priorClaimWeights;
+    private final double[] termMonthWeights;
+    private final double[] levelThresholds;
+    private final long[] loadings;
+    private final BigDecimal[] loadingFactors;
+    
+    private CompiledRatingTables(String source, Properties tables) {
+        this.source = source;
+        this.loadedAt = Instant.now();
+        
+        productWeights = new double[PRODUCT_TYPES.length];
+        for (ProductType productType : PRODUCT_TYPES) {
+            String key = "product." + productType.name();
+            productWeights[productType.ordinal()] = weight(required(tables, key), key);
+        }
+        coverageRatioWeights = expand(tables, "factor.coverage-ratio");
+        priorClaimWeights = expand(tables, "factor.prior-settled-claims");
+        termMonthWeights = expand(tables, "factor.term-months");
+        
+        levelThresholds = new double[] {
+            weight(required(tables, "level.very-high"), "level.very-high"),
+            weight(required(tables, "level.high"), "level.high"),
+            weight(required(tables, "level.medium"), "level.medium")
+        };
+        if (levelThresholds[0] < levelThresholds[1] || levelThresholds[1] < levelThresholds[2]) {
+            throw new IllegalArgumentException("Risk level thresholds must satisfy very-high >= high >= medium");
+        }
+        
+        RiskLevel[] riskLevels = RiskLevel.values();
+        loadings = new long[riskLevels.length];
+        loadingFactors = new BigDecimal[riskLevels.length];
+        for (RiskLevel riskLevel : riskLevels) {
+            String key = "loading." + riskLevel.name();
+            BigDecimal factor = new BigDecimal(required(tables, key));
+            if (factor.signum() <= 0 || factor.scale() > LOADING_SCALE) {
+                throw new IllegalArgumentException(key + " must be positive with at most "
+                    + LOADING_SCALE + " decimal places: " + factor);
+            }
+            loadingFactors[riskLevel.ordinal()] = factor.setScale(LOADING_SCALE);
+            loadings[riskLevel.ordinal()] = factor.movePointRight(LOADING_SCALE).longValueExact();
+        }
+    }
+    
+    public static CompiledRatingTables compile(String source, Properties tables) {
+        return new CompiledRatingTables(source, tables);
+    }
+    
+    public double score(ProductType productType, double coverageRatio, long priorSettledClaims, int termMonths) {
+        return score(productType.ordinal(), coverageRatio, priorSettledClaims, termMonths);
+    }
+    
+    /**
+     * Scores the first {@code factors.size()} cases into {@code scores}.
+     */
+    public void scoreAll(RiskFactors factors, double[] scores) {
+        if (scores.length < factors.size()) {
+            throw new IllegalArgumentException("Need room for " + factors.size() + " scores, got " + scores.length);
+        }
+        for (int i = 0; i < factors.size(); i++) {
+            scores[i] = score(factors.productTypes[i], factors.coverageRatios[i],
+                factors.priorSettledClaims[i], factors.termMonths[i]);
+        }
+    }
+    
+    private double score(int productType, double coverageRatio, long priorSettledClaims, int termMonths) {
+        double score = productWeights[productType];
+        // NaN and negative ratios fall into the lowest bucket, infinity into the top one
+        score += lookup(coverageRatioWeights, coverageRatio > 0.0 ? (long) coverageRatio : 0L);
+        score += lookup(priorClaimWeights, priorSettledClaims);
+        score += lookup(termMonthWeights, termMonths);
+        return Math.min(score, 1.0);
+    }
+    
+    public RiskLevel riskLevel(double riskScore) {
+        for (int i = 0; i < levelThresholds.length; i++) {
+            if (riskScore >= levelThresholds[i]) {
+                return LEVELS[i];
+            }
+        }
+        return RiskLevel.LOW;
+    }
+    
+    public BigDecimal loadingFactor(RiskLevel riskLevel) {
+        return loadingFactors[riskLevel.ordinal()];
+    }
+    
+    /**
+     * Applies the level's loading to a premium in cents, rounding half up.
+     */
+    public long loadPremiumCents(long premiumCents, RiskLevel riskLevel) {
+        long scaled = Math.multiplyExact(premiumCents, loadings[riskLevel.ordinal()]);
+        long half = scaled >= 0 ? LOADING_UNIT / 2 : -LOADING_UNIT / 2;
+        return (scaled + half) / LOADING_UNIT;
+    }
+    
+    public BigDecimal loadPremium(BigDecimal premium, RiskLevel riskLevel) {
+        return BigDecimal.valueOf(loadPremiumCents(toCents(premium), riskLevel), 2);
+    }
+    
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+    
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("source", source);
+        description.put("loadedAt", loadedAt);
+        Map<String, Double> products = new LinkedHashMap<>();
+        for (ProductType productType : PRODUCT_TYPES) {
+            products.put(productType.name(), productWeights[productType.ordinal()]);
+        }
+        description.put("productType", products);
+        description.put("coverageRatio", describeTiers(coverageRatioWeights));
+        description.put("priorSettledClaims", describeTiers(priorClaimWeights));
+        description.put("termMonths", describeTiers(termMonthWeights));
+        description.put("levels", Map.of(
+            "veryHigh", levelThresholds[0], "high", levelThresholds[1], "medium", levelThresholds[2]));
+        Map<String, BigDecimal> loadingsByLevel = new LinkedHashMap<>();
+        for (RiskLevel riskLevel : RiskLevel.values()) {
+            loadingsByLevel.put(riskLevel.name(), loadingFactors[riskLevel.ordinal()]);
+        }
+        description.put("loadings", loadingsByLevel);
+        return description;
+    }
+    
+    private static double lookup(double[] table, long value) {
+        if (value <= 0) {
+            return table[0];
+        }
+        return table[(int) Math.min(value, table.length - 1)];
+    }
+    
+    /**
+     * Expands descending "threshold:weight" tiers into a table where entry i
+     * holds the weight of the first tier with threshold <= i.
+     */
+    private static double[] expand(Properties tables, String key) {
+        String[] entries = required(tables, key).split(",");
+        long[] thresholds = new long[entries.length];
+        double[] weights = new double[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid tier '" + entries[i] + "' in " + key);
+            }
+            thresholds[i] = Long.parseLong(pair[0].trim());
+            weights[i] = weight(pair[1].trim(), key);
+            if (thresholds[i] < 0 || thresholds[i] > MAX_THRESHOLD) {
+                throw new IllegalArgumentException(key + " thresholds must be between 0 and " + MAX_THRESHOLD);
+            }
+            if (i > 0 && thresholds[i] >= thresholds[i - 1]) {
+                throw new IllegalArgumentException(key + " tiers must be in descending order");
+            }
+        }
+        
+        double[] table = new double[(int) thresholds[0] + 1];
+        for (int value = 0; value < table.length; value++) {
+            for (int tier = 0; tier < thresholds.length; tier++) {
+                if (value >= thresholds[tier]) {
+                    table[value] = weights[tier];
+                    break;
+                }
+            }
+        }
+        return table;
+    }
+    
+    private static String required(Properties tables, String key) {
+        String value = tables.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing rating table: " + key);
+        }
+        return value.trim();
+    }
+    
+    private static double weight(String value, String name) {
+        double weight = Double.parseDouble(value);
+        if (weight < 0.0 || weight > 1.0) {
+            throw new IllegalArgumentException(name + " weight must be between 0.0 and 1.0: " + value);
+        }
+        return weight;
+    }
+    
+    private static Map<String, Double> describeTiers(double[] table) {
+        Map<String, Double> tiers = new LinkedHashMap<>();
+        for (int value = 0; value < table.length; value++) {
+            if (value == 0 || table[value] != table[value - 1]) {
+                tiers.put(">=" + value, table[value]);
+            }
+        }
+        return tiers;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintech.insurance.underwriting.rating;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/ratingtables shows the active rating tables, POST reloads them.
+ */
+@Component
+@Endpoint(id = "ratingtables")
+@RequiredArgsConstructor
+public class RatingTablesEndpoint {
+    
+    private final RiskRatingEngine riskRatingEngine;
+    
+    @ReadOperation
+    public Map<String, Object> tables() {
+        return riskRatingEngine.current().describe();
+    }
+    
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return riskRatingEngine.reload().describe();
+    }
+}
@@ -0,0 +1,70 @@
+package com.fintech.insurance.underwriting.rating;
+
+import com.fintech.insurance.policy.model.ProductType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Rating inputs for a batch of cases, one primitive array per factor, for
+ * {@link CompiledRatingTables#scoreAll}. Call {@link #clear()} to reuse it.
+ */
+public final class RiskFactors {
+    
+    final int[] productTypes;
+    final double[] coverageRatios;
+    final long[] priorSettledClaims;
+    final int[] termMonths;
+    private int size;
+    
+    public RiskFactors(int capacity) {
+        productTypes = new int[capacity];
+        coverageRatios = new double[capacity];
+        priorSettledClaims = new long[capacity];
+        termMonths = new int[capacity];
+    }
+    
+    /**
+     * Appends a case and returns its index, which is also its index in the scores.
+     */
+    public int add(ProductType productType, double coverageRatio, long priorSettledClaims, int termMonths) {
+        if (size == productTypes.length) {
+            throw new IllegalStateException("RiskFactors is full at " + size + " cases");
+        }
+        productTypes[size] = productType.ordinal();
+        coverageRatios[size] = coverageRatio;
+        this.priorSettledClaims[size] = priorSettledClaims;
+        this.termMonths[size] = termMonths;
+        return size++;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public void clear() {
+        size = 0;
+    }
+    
+    /**
+     * Coverage bought per unit of premium. A missing or non-positive premium
+     * rates as the highest ratio.
+     */
+    public static double coverageRatio(BigDecimal coverageAmount, BigDecimal premium) {
+        if (coverageAmount == null) {
+            return 0.0;
+        }
+        if (premium == null || premium.signum() <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return coverageAmount.doubleValue() / premium.doubleValue();
+    }
+    
+    public static int termMonths(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            return 0;
+        }
+        return (int) Math.max(0L, ChronoUnit.MONTHS.between(startDate, endDate));
+    }
+}
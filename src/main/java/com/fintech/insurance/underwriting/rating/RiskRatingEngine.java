@@ -0,0 +1,72 @@
+package com.fintech.insurance.underwriting.rating;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active rating tables. Like the fraud rules, a reload compiles a
+ * complete new set and swaps it in atomically; an invalid file leaves the
+ * current tables in place.
+ */
+@Component
+@Slf4j
+public class RiskRatingEngine {
+    
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final AtomicReference<CompiledRatingTables> tables = new AtomicReference<>();
+    private volatile long lastModified;
+    
+    public RiskRatingEngine(ResourceLoader resourceLoader,
+                            @Value("${insurance.underwriting.rating.location:classpath:underwriting-rating.properties}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        tables.set(load());
+    }
+    
+    public CompiledRatingTables current() {
+        return tables.get();
+    }
+    
+    public CompiledRatingTables reload() {
+        CompiledRatingTables reloaded = load();
+        CompiledRatingTables previous = tables.getAndSet(reloaded);
+        log.info("Rating tables reloaded from {} (previous version loaded at {})", location, previous.getLoadedAt());
+        return reloaded;
+    }
+    
+    @Scheduled(fixedDelayString = "${insurance.underwriting.rating.refresh-interval:PT30S}")
+    public void reloadIfModified() {
+        try {
+            Resource resource = resourceLoader.getResource(location);
+            if (resource.isFile() && resource.lastModified() != lastModified) {
+                reload();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Keeping current rating tables, reload from {} failed: {}", location, e.getMessage());
+        }
+    }
+    
+    private CompiledRatingTables load() {
+        Resource resource = resourceLoader.getResource(location);
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+            if (resource.isFile()) {
+                lastModified = resource.lastModified();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read rating tables from " + location, e);
+        }
+        return CompiledRatingTables.compile(location, properties);
+    }
+}
@@ -1,13 +1,19 @@
 package com.fintech.insurance.underwriting.repository;
 
 
+import com.fintech.insurance.common.pagination.NdjsonWriter;
 import com.fintech.insurance.underwriting.model.UnderwritingCase;
 import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UnderwritingCaseRepository extends JpaRepository<UnderwritingCase, Long> {
@@ -21,4 +27,10 @@ public interface UnderwritingCaseRepository extends JpaRepository<UnderwritingCa
     List<UnderwritingCase> findByDecision(UnderwritingDecision decision);
     
     List<UnderwritingCase> findByAssignedUnderwriterId(Long underwriterId);
+    
+    List<UnderwritingCase> findByPolicyIdAndIdGreaterThanOrderByIdAsc(Long policyId, Long afterId, Limit limit);
+    
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.FETCH_SIZE))
+    Stream<UnderwritingCase> streamByPolicyIdOrderByIdAsc(Long policyId);
 }
\ No newline at end of file
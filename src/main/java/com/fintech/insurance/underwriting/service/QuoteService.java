@@ -0,0 +1,119 @@
+package com.fintech.insurance.underwriting.service;
+
+import com.fintech.insurance.common.logging.LogSampling;
+import com.fintech.insurance.underwriting.dto.QuoteDTO;
+import com.fintech.insurance.underwriting.dto.QuoteRequestDTO;
+import com.fintech.insurance.underwriting.exception.UnderwritingException;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import com.fintech.insurance.underwriting.rating.CompiledRatingTables;
+import com.fintech.insurance.underwriting.rating.RiskFactors;
+import com.fintech.insurance.underwriting.rating.RiskRatingEngine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Prices quote requests without persisting anything or touching the
+ * database. A batch is priced against one version of the rating tables;
+ * batches larger than a slice are split across a bounded fork-join pool.
+ * Premiums are loaded in fixed-point cents (see {@link CompiledRatingTables}).
+ */
+@Service
+@Slf4j
+public class QuoteService {
+    
+    private final RiskRatingEngine riskRatingEngine;
+    private final UnderwritingMetrics underwritingMetrics;
+    private final int maxBatchSize;
+    private final int sliceSize;
+    private final ForkJoinPool quotingPool;
+    
+    public QuoteService(RiskRatingEngine riskRatingEngine,
+                        UnderwritingMetrics underwritingMetrics,
+                        @Value("${insurance.batch.max-size:10000}") int maxBatchSize,
+                        @Value("${insurance.underwriting.quotes.slice-size:1000}") int sliceSize,
+                        @Value("${insurance.underwriting.quotes.parallelism:4}") int parallelism) {
+        this.riskRatingEngine = riskRatingEngine;
+        this.underwritingMetrics = underwritingMetrics;
+        this.maxBatchSize = maxBatchSize;
+        this.sliceSize = sliceSize;
+        this.quotingPool = new ForkJoinPool(parallelism);
+    }
+    
+    public List<QuoteDTO> quote(List<QuoteRequestDTO> requests) {
+        if (requests.size() > maxBatchSize) {
+            throw new UnderwritingException("Batch size " + requests.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        long start = System.nanoTime();
+        CompiledRatingTables tables = riskRatingEngine.current();
+        QuoteDTO[] quotes = new QuoteDTO[requests.size()];
+        
+        if (requests.size() <= sliceSize) {
+            quoteSlice(tables, requests, quotes, 0, requests.size());
+        } else {
+            List<ForkJoinTask<?>> slices = new ArrayList<>();
+            for (int from = 0; from < requests.size(); from += sliceSize) {
+                int sliceFrom = from;
+                int sliceTo = Math.min(from + sliceSize, requests.size());
+                slices.add(quotingPool.submit(() -> quoteSlice(tables, requests, quotes, sliceFrom, sliceTo)));
+            }
+            for (ForkJoinTask<?> slice : slices) {
+                slice.join();
+            }
+        }
+        
+        long nanos = System.nanoTime() - start;
+        underwritingMetrics.recordQuoteBatch(quotes.length, nanos);
+        log.info(LogSampling.SAMPLED, "Priced {} quotes in {} us ({} quotes/s)",
+            quotes.length, nanos / 1_000, nanos > 0 ? quotes.length * 1_000_000_000L / nanos : 0);
+        return Arrays.asList(quotes);
+    }
+    
+    // Each slice writes only its own range of quotes
+    private static void quoteSlice(CompiledRatingTables tables, List<QuoteRequestDTO> requests,
+                                   QuoteDTO[] quotes, int from, int to) {
+        RiskFactors factors = new RiskFactors(to - from);
+        for (int i = from; i < to; i++) {
+            QuoteRequestDTO request = requests.get(i);
+            if (request == null || request.getProductType() == null || request.getPremium() == null
+                    || request.getCoverageAmount() == null || request.getTermMonths() == null) {
+                throw new UnderwritingException("Quote request " + i
+                    + " needs productType, premium, coverageAmount and termMonths");
+            }
+            factors.add(request.getProductType(),
+                RiskFactors.coverageRatio(request.getCoverageAmount(), request.getPremium()),
+                request.getPriorSettledClaims() != null ? request.getPriorSettledClaims() : 0,
+                request.getTermMonths());
+        }
+        double[] riskScores = new double[to - from];
+        tables.scoreAll(factors, riskScores);
+        
+        for (int i = from; i < to; i++) {
+            QuoteRequestDTO request = requests.get(i);
+            double riskScore = riskScores[i - from];
+            RiskLevel riskLevel = tables.riskLevel(riskScore);
+            long quotedCents = tables.loadPremiumCents(CompiledRatingTables.toCents(request.getPremium()), riskLevel);
+            quotes[i] = QuoteDTO.builder()
+                .reference(request.getReference())
+                .riskScore(riskScore)
+                .riskLevel(riskLevel)
+                .decision(UnderwritingService.autoDecide(riskLevel))
+                .loadingFactor(tables.loadingFactor(riskLevel))
+                .quotedPremium(BigDecimal.valueOf(quotedCents, 2))
+                .build();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        quotingPool.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fintech.insurance.underwriting.service;
+
+import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Underwriting case and quote meters, with every decision tag registered up
+ * front so the request path only records. The rate of underwriting.quotes
+ * is the quotes/sec figure.
+ */
+@Component
+public class UnderwritingMetrics {
+    
+    private final Timer createCase;
+    private final Counter[] decisions;
+    private final Timer quoteBatch;
+    private final Counter quotes;
+    
+    public UnderwritingMetrics(MeterRegistry meterRegistry) {
+        this.createCase = Timer.builder("underwriting.case.create")
+            .description("Time to assess and commit one underwriting case")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+        UnderwritingDecision[] values = UnderwritingDecision.values();
+        this.decisions = new Counter[values.length];
+        for (UnderwritingDecision decision : values) {
+            decisions[decision.ordinal()] = Counter.builder("underwriting.decisions")
+                .description("Underwriting cases by automatic decision")
+                .tag("decision", decision.name())
+                .register(meterRegistry);
+        }
+        this.quoteBatch = Timer.builder("underwriting.quote.batch")
+            .description("Time to price one batch of quote requests")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+        this.quotes = Counter.builder("underwriting.quotes")
+            .description("Quotes priced")
+            .register(meterRegistry);
+    }
+    
+    void recordCreateCase(long nanos) {
+        createCase.record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void countDecision(UnderwritingDecision decision) {
+        decisions[decision.ordinal()].increment();
+    }
+    
+    void recordQuoteBatch(int count, long nanos) {
+        quoteBatch.record(nanos, TimeUnit.NANOSECONDS);
+        quotes.increment(count);
+    }
+}
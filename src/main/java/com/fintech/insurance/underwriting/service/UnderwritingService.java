@@ -1,16 +1,35 @@
 package com.fintech.insurance.underwriting.service;
 
+import com.fintech.insurance.claims.counter.SettledClaimCounter;
+import com.fintech.insurance.common.concurrent.LookupCoalescer;
+import com.fintech.insurance.common.logging.LogSampling;
+import com.fintech.insurance.common.pagination.CursorPage;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.policy.repository.PolicyRepository;
 import com.fintech.insurance.underwriting.dto.UnderwritingCaseDTO;
 import com.fintech.insurance.underwriting.exception.UnderwritingException;
 import com.fintech.insurance.underwriting.model.*;
+import com.fintech.insurance.underwriting.rating.RiskFactors;
+import com.fintech.insurance.underwriting.rating.RiskRatingEngine;
 import com.fintech.insurance.underwriting.repository.UnderwritingCaseRepository;
+import io.micrometer.tracing.annotation.NewSpan;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,17 +38,128 @@ import java.util.stream.Collectors;
 public class UnderwritingService {
     
     private final UnderwritingCaseRepository underwritingRepository;
+    private final EntityManager entityManager;
+    private final NdjsonWriter ndjsonWriter;
+    private final LookupCoalescer lookupCoalescer;
+    private final UnderwritingMetrics underwritingMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final PolicyRepository policyRepository;
+    private final SettledClaimCounter settledClaimCounter;
+    private final RiskRatingEngine riskRatingEngine;
     
-    @Transactional
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+    
+    @Value("${insurance.batch.max-size:10000}")
+    private int maxBatchSize;
+    
+    @NewSpan("underwriting create case")
     public UnderwritingCaseDTO createCase(UnderwritingCaseDTO dto) {
+        // Timed around the transaction so the deferred INSERT and the commit are included
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> createCaseInTransaction(dto));
+        } finally {
+            underwritingMetrics.recordCreateCase(System.nanoTime() - start);
+        }
+    }
+    
+    private UnderwritingCaseDTO createCaseInTransaction(UnderwritingCaseDTO dto) {
         log.info("Creating underwriting case for policy: {}", dto.getPolicyId());
         
-        double riskScore = calculateRiskScore(dto);
+        Policy policy = policyRepository.findById(dto.getPolicyId())
+            .orElseThrow(() -> new UnderwritingException("Policy not found with id: " + dto.getPolicyId()));
+        double riskScore = calculateRiskScore(policy, settledClaimCounter.get(dto.getCustomerId()));
+        
+        UnderwritingCase saved = underwritingRepository.save(buildAssessedCase(dto, riskScore));
+        underwritingMetrics.countDecision(saved.getDecision());
+        log.info("Underwriting case created: {}, Risk: {}, Decision: {}", 
+            saved.getCaseNumber(), saved.getRiskLevel(), saved.getDecision());
+        
+        return mapToDTO(saved);
+    }
+    
+    @Transactional
+    public List<UnderwritingCaseDTO> createCases(List<UnderwritingCaseDTO> dtos) {
+        if (dtos.size() > maxBatchSize) {
+            throw new UnderwritingException("Batch size " + dtos.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        log.info("Creating batch of {} underwriting cases", dtos.size());
+        
+        List<UnderwritingCaseDTO> created = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += jdbcBatchSize) {
+            List<UnderwritingCaseDTO> requests = dtos.subList(from, Math.min(from + jdbcBatchSize, dtos.size()));
+            double[] riskScores = calculateRiskScores(requests);
+            List<UnderwritingCase> chunk = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                chunk.add(buildAssessedCase(requests.get(i), riskScores[i]));
+            }
+            
+            // Flush and detach each chunk so the persistence context stays small
+            for (UnderwritingCase saved : underwritingRepository.saveAll(chunk)) {
+                underwritingMetrics.countDecision(saved.getDecision());
+                created.add(mapToDTO(saved));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        log.info("Created batch of {} underwriting cases", created.size());
+        return created;
+    }
+    
+    /**
+     * Scores cases against the current rating tables without saving them,
+     * returning each request with its risk score, level, decision and premium.
+     */
+    @Transactional(readOnly = true)
+    public List<UnderwritingCaseDTO> assessCases(List<UnderwritingCaseDTO> dtos) {
+        if (dtos.size() > maxBatchSize) {
+            throw new UnderwritingException("Batch size " + dtos.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        
+        List<UnderwritingCaseDTO> assessed = new ArrayList<>(dtos.size());
+        for (int from = 0; from < dtos.size(); from += jdbcBatchSize) {
+            List<UnderwritingCaseDTO> requests = dtos.subList(from, Math.min(from + jdbcBatchSize, dtos.size()));
+            double[] riskScores = calculateRiskScores(requests);
+            for (int i = 0; i < requests.size(); i++) {
+                assessed.add(mapToDTO(buildAssessedCase(requests.get(i), riskScores[i])));
+            }
+        }
+        return assessed;
+    }
+    
+    /**
+     * Scores a chunk with one policy query, one counter lookup and one pass
+     * over the rating tables. Scores line up with the requests.
+     */
+    private double[] calculateRiskScores(List<UnderwritingCaseDTO> requests) {
+        Map<Long, Policy> policies = policyRepository.findAllById(
+                requests.stream().map(UnderwritingCaseDTO::getPolicyId).distinct().toList()).stream()
+            .collect(Collectors.toMap(Policy::getId, Function.identity()));
+        long[] priorSettledClaims = settledClaimCounter.getAll(
+            requests.stream().mapToLong(UnderwritingCaseDTO::getCustomerId).toArray());
+        
+        RiskFactors factors = new RiskFactors(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Policy policy = policies.get(requests.get(i).getPolicyId());
+            if (policy == null) {
+                throw new UnderwritingException("Policy not found with id: " + requests.get(i).getPolicyId());
+            }
+            addFactors(factors, policy, priorSettledClaims[i]);
+        }
+        double[] riskScores = new double[requests.size()];
+        riskRatingEngine.current().scoreAll(factors, riskScores);
+        return riskScores;
+    }
+    
+    // Assessment helpers below are package-private for UnderwritingBenchmark
+    UnderwritingCase buildAssessedCase(UnderwritingCaseDTO dto, double riskScore) {
         RiskLevel riskLevel = determineRiskLevel(riskScore);
         UnderwritingDecision decision = autoDecide(riskLevel);
         BigDecimal recommendedPremium = calculateRecommendedPremium(dto.getRecommendedPremium(), riskLevel);
         
-        UnderwritingCase uwCase = UnderwritingCase.builder()
+        return UnderwritingCase.builder()
             .policyId(dto.getPolicyId())
             .customerId(dto.getCustomerId())
             .riskScore(riskScore)
@@ -37,28 +167,43 @@ public class UnderwritingService {
             .decision(decision)
             .recommendedPremium(recommendedPremium)
             .build();
-        
-        UnderwritingCase saved = underwritingRepository.save(uwCase);
-        log.info("Underwriting case created: {}, Risk: {}, Decision: {}", 
-            saved.getCaseNumber(), riskLevel, decision);
-        
-        return mapToDTO(saved);
     }
     
     public UnderwritingCaseDTO getCase(Long id) {
-        log.info("Fetching underwriting case: {}", id);
-        UnderwritingCase uwCase = underwritingRepository.findById(id)
-            .orElseThrow(() -> new UnderwritingException("Case not found with id: " + id));
-        return mapToDTO(uwCase);
+        log.info(LogSampling.SAMPLED, "Fetching underwriting case: {}", id);
+        UnderwritingCaseDTO uwCase = lookupCoalescer.load("underwriting-cases", id, this::loadCases);
+        if (uwCase == null) {
+            throw new UnderwritingException("Case not found with id: " + id);
+        }
+        return uwCase;
+    }
+    
+    private Map<Long, UnderwritingCaseDTO> loadCases(Collection<Long> ids) {
+        return underwritingRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(UnderwritingCase::getId, this::mapToDTO));
     }
     
     public List<UnderwritingCaseDTO> getCasesByPolicy(Long policyId) {
-        log.info("Fetching cases for policy: {}", policyId);
+        log.info(LogSampling.SAMPLED, "Fetching cases for policy: {}", policyId);
         return underwritingRepository.findByPolicyId(policyId).stream()
             .map(this::mapToDTO)
             .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<UnderwritingCaseDTO> getCasesByPolicyPage(Long policyId, Long after, int size) {
+        List<UnderwritingCaseDTO> rows = underwritingRepository.findByPolicyIdAndIdGreaterThanOrderByIdAsc(
+                policyId, CursorPage.startAfter(after), Limit.of(size + 1)).stream()
+            .map(this::mapToDTO)
+            .collect(Collectors.toList());
+        return CursorPage.of(rows, size, UnderwritingCaseDTO::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public long streamCasesByPolicy(Long policyId, OutputStream out) {
+        return ndjsonWriter.write(underwritingRepository.streamByPolicyIdOrderByIdAsc(policyId), this::mapToDTO, out);
+    }
+    
     @Transactional
     public UnderwritingCaseDTO manualReview(Long id, UnderwritingDecision decision, String notes) {
         log.info("Manual review for case: {} with decision: {}", id, decision);
@@ -75,38 +220,38 @@ public class UnderwritingService {
         return mapToDTO(reviewed);
     }
     
-    private double calculateRiskScore(UnderwritingCaseDTO dto) {
-        return 0.5;
+    double calculateRiskScore(Policy policy, long priorSettledClaims) {
+        return riskRatingEngine.current().score(policy.getProductType(),
+            RiskFactors.coverageRatio(policy.getCoverageAmount(), policy.getPremium()),
+            priorSettledClaims,
+            RiskFactors.termMonths(policy.getStartDate(), policy.getEndDate()));
     }
     
-    private RiskLevel determineRiskLevel(double score) {
-        if (score >= 0.75) return RiskLevel.VERY_HIGH;
-        if (score >= 0.50) return RiskLevel.HIGH;
-        if (score >= 0.25) return RiskLevel.MEDIUM;
-        return RiskLevel.LOW;
+    static void addFactors(RiskFactors factors, Policy policy, long priorSettledClaims) {
+        factors.add(policy.getProductType(),
+            RiskFactors.coverageRatio(policy.getCoverageAmount(), policy.getPremium()),
+            priorSettledClaims,
+            RiskFactors.termMonths(policy.getStartDate(), policy.getEndDate()));
     }
     
-    private UnderwritingDecision autoDecide(RiskLevel level) {
+    RiskLevel determineRiskLevel(double score) {
+        return riskRatingEngine.current().riskLevel(score);
+    }
+    
+    static UnderwritingDecision autoDecide(RiskLevel level) {
         return switch (level) {
             case LOW, MEDIUM -> UnderwritingDecision.APPROVED;
             case HIGH, VERY_HIGH -> UnderwritingDecision.REFERRED;
         };
     }
     
-    private BigDecimal calculateRecommendedPremium(BigDecimal basePremium, RiskLevel riskLevel) {
+    BigDecimal calculateRecommendedPremium(BigDecimal basePremium, RiskLevel riskLevel) {
         if (basePremium == null) return BigDecimal.ZERO;
         
-        BigDecimal loadingFactor = switch (riskLevel) {
-            case LOW -> BigDecimal.valueOf(1.0);
-            case MEDIUM -> BigDecimal.valueOf(1.15);
-            case HIGH -> BigDecimal.valueOf(1.30);
-            case VERY_HIGH -> BigDecimal.valueOf(1.50);
-        };
-        
-        return basePremium.multiply(loadingFactor);
+        return riskRatingEngine.current().loadPremium(basePremium, riskLevel);
     }
     
-    private UnderwritingCaseDTO mapToDTO(UnderwritingCase uwCase) {
+    UnderwritingCaseDTO mapToDTO(UnderwritingCase uwCase) {
         return UnderwritingCaseDTO.builder()
             .id(uwCase.getId())
             .caseNumber(uwCase.getCaseNumber())
@@ -0,0 +1,57 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySettledClaimCounterTest {
+    
+    private final InMemorySettledClaimCounter counter = new InMemorySettledClaimCounter();
+    
+    @Test
+    void settlementsBeforeTheSeedAreAddedToItsCountsUnlessAlreadyIncluded() {
+        counter.increment(1L, 100L);
+        counter.increment(1L, 101L);
+        counter.increment(3L, 102L);
+        assertThat(counter.get(1L)).isZero();
+        
+        // The seed's snapshot saw claim 100 settle, but not 101 or 102
+        assertThat(counter.seed(List.of(count(1L, 5L), count(2L, 3L)), claimIds -> {
+            assertThat(claimIds).containsExactlyInAnyOrder(100L, 101L, 102L);
+            return List.of(100L);
+        })).isTrue();
+        
+        assertThat(counter.get(1L)).isEqualTo(6L);
+        assertThat(counter.get(2L)).isEqualTo(3L);
+        assertThat(counter.get(3L)).isEqualTo(1L);
+        
+        counter.increment(1L, 103L);
+        assertThat(counter.get(1L)).isEqualTo(7L);
+    }
+    
+    @Test
+    void seedsOnlyOnce() {
+        counter.seed(List.of(count(1L, 5L)), claimIds -> List.of());
+        
+        assertThat(counter.seed(List.of(count(1L, 7L), count(2L, 1L)), claimIds -> List.of())).isFalse();
+        assertThat(counter.get(1L)).isEqualTo(5L);
+        assertThat(counter.get(2L)).isZero();
+    }
+    
+    private static CustomerClaimCount count(long customerId, long claimCount) {
+        return new CustomerClaimCount() {
+            @Override
+            public Long getCustomerId() {
+                return customerId;
+            }
+            
+            @Override
+            public Long getClaimCount() {
+                return claimCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.fintech.insurance.claims.counter;
+
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.CustomerClaimCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SettledClaimCounterMaintenanceTest {
+    
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final AtomicBoolean settleOnNextRead = new AtomicBoolean();
+    private final InMemorySettledClaimCounter counter = new InMemorySettledClaimCounter() {
+        @Override
+        public long get(long customerId) {
+            long count = super.get(customerId);
+            if (settleOnNextRead.getAndSet(false)) {
+                increment(customerId, 200L);
+            }
+            return count;
+        }
+    };
+    private final SettledClaimCounterMaintenance maintenance =
+        new SettledClaimCounterMaintenance(counter, claimRepository, new SimpleMeterRegistry());
+    
+    @Test
+    void reconcileKeepsASettlementCountedWhileItCorrects() {
+        counter.seed(List.of(count(1L, 2L)), claimIds -> List.of());
+        when(claimRepository.countSettledClaimsGroupedByCustomer()).thenReturn(List.of(count(1L, 4L)));
+        when(claimRepository.countSettledClaimsByCustomer(1L)).thenAnswer(invocation -> {
+            // Settles between the re-check and the correction
+            settleOnNextRead.set(true);
+            return 4L;
+        });
+        
+        maintenance.reconcile();
+        
+        assertThat(counter.get(1L)).isEqualTo(5L);
+    }
+    
+    private static CustomerClaimCount count(long customerId, long claimCount) {
+        return new CustomerClaimCount() {
+            @Override
+            public Long getCustomerId() {
+                return customerId;
+            }
+            
+            @Override
+            public Long getClaimCount() {
+                return claimCount;
+            }
+        };
+    }
+}
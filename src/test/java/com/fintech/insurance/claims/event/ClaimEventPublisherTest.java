@@ -0,0 +1,73 @@
+package com.fintech.insurance.claims.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.tracing.EventTracing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ClaimEventPublisherTest {
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void continuesThePublishingTraceInRecordHeaders() {
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+            .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("claim-event-publisher-test");
+        Tracer tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), publishedEvent -> { });
+        EventTracing eventTracing = new EventTracing(tracer,
+            new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer));
+        ClaimEventPublisher publisher = new ClaimEventPublisher(kafkaTemplate, new ObjectMapper(), eventTracing,
+            new SimpleMeterRegistry(), "claim-events", 16, 16, ClaimEventPublisher.OverflowPolicy.DROP_NEWEST);
+        
+        Span request = tracer.nextSpan().name("approve claim").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            publisher.publish(event("CLM1"));
+        } finally {
+            request.end();
+        }
+        publisher.publish(event("CLM2"));
+        publisher.start();
+        publisher.stop();
+        
+        ArgumentCaptor<ProducerRecord<String, String>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        List<ProducerRecord<String, String>> sent = records.getAllValues();
+        Header traced = sent.get(0).headers().lastHeader(EventTracing.TRACEPARENT);
+        // Same trace, with the sender's producer span as the new parent
+        assertThat(new String(traced.value(), StandardCharsets.UTF_8))
+            .startsWith("00-" + request.context().traceId() + "-")
+            .doesNotContain(request.context().spanId());
+        assertThat(sent.get(1).headers().lastHeader(EventTracing.TRACEPARENT)).isNull();
+    }
+    
+    private static ClaimEvent event(String claimNumber) {
+        return ClaimEvent.builder()
+            .eventType("CLAIM_APPROVED")
+            .claimNumber(claimNumber)
+            .status("APPROVED")
+            .build();
+    }
+}
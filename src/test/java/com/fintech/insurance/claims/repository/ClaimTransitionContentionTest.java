@@ -0,0 +1,129 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClaimTransitionContentionTest {
+    
+    private static final int THREADS = 32;
+    private static final Set<ClaimStatus> OPEN = EnumSet.of(
+        ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.INVESTIGATING);
+    
+    @Autowired
+    private ClaimRepository claimRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void exactlyOneConcurrentApprovalWins() throws Exception {
+        Long id = claimRepository.save(claim(ClaimStatus.UNDER_REVIEW)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        
+        List<Integer> counts = race(thread -> tx.execute(status -> claimRepository.approveIfStatusIn(
+            id, OPEN, BigDecimal.valueOf(1_000 + thread), "adjuster " + thread, LocalDate.now(), LocalDateTime.now())));
+        
+        assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        Claim approved = claimRepository.findById(id).orElseThrow();
+        int winner = counts.indexOf(1);
+        assertThat(approved.getStatus()).isEqualTo(ClaimStatus.APPROVED);
+        assertThat(approved.getApprovedAmount()).isEqualByComparingTo(BigDecimal.valueOf(1_000 + winner));
+        assertThat(approved.getAdjusterNotes()).isEqualTo("adjuster " + winner);
+    }
+    
+    @Test
+    void approveAndRejectRacingOnOneClaimNeverBothApply() throws Exception {
+        Long id = claimRepository.save(claim(ClaimStatus.INVESTIGATING)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        
+        List<Integer> counts = race(thread -> tx.execute(status -> thread % 2 == 0
+            ? claimRepository.approveIfStatusIn(id, OPEN, BigDecimal.valueOf(500), null, LocalDate.now(), LocalDateTime.now())
+            : claimRepository.rejectIfStatusIn(id, OPEN, "duplicate", LocalDate.now(), LocalDateTime.now())));
+        
+        assertThat(counts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1);
+        Claim claim = claimRepository.findById(id).orElseThrow();
+        assertThat(claim.getStatus()).isEqualTo(counts.indexOf(1) % 2 == 0 ? ClaimStatus.APPROVED : ClaimStatus.REJECTED);
+    }
+    
+    @Test
+    void guardRejectsIllegalStatesAndExcessiveAmounts() {
+        Long settled = claimRepository.save(claim(ClaimStatus.SETTLED)).getId();
+        Long open = claimRepository.save(claim(ClaimStatus.SUBMITTED)).getId();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        
+        Integer settledAgain = tx.execute(status -> claimRepository.settleIfStatusIn(
+            settled, EnumSet.of(ClaimStatus.APPROVED), LocalDate.now(), LocalDateTime.now()));
+        Integer overApproved = tx.execute(status -> claimRepository.approveIfStatusIn(
+            open, OPEN, BigDecimal.valueOf(20_000), null, LocalDate.now(), LocalDateTime.now()));
+        
+        assertThat(settledAgain).isZero();
+        assertThat(overApproved).isZero();
+        assertThat(claimRepository.findById(open).orElseThrow().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+    }
+    
+    private List<Integer> race(ThreadAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.run(thread);
+                }));
+            }
+            start.countDown();
+            List<Integer> counts = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                counts.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return counts;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static Claim claim(ClaimStatus status) {
+        return Claim.builder()
+            .policyId(1L)
+            .customerId(1L)
+            .claimType(ClaimType.MEDICAL_EXPENSE)
+            .claimAmount(BigDecimal.valueOf(10_000))
+            .incidentDate(LocalDate.now().minusDays(3))
+            .incidentDescription("Emergency room visit")
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+    
+    @FunctionalInterface
+    private interface ThreadAction {
+        Integer run(int thread);
+    }
+}
@@ -0,0 +1,106 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=2"
+})
+@Import(ClaimTransitionWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClaimTransitionWriterTest {
+    
+    @Autowired
+    private ClaimRepository claimRepository;
+    
+    @Autowired
+    private ClaimTransitionWriter writer;
+    
+    @Test
+    void reportsOneCountPerClaimAcrossBatches() {
+        Long submitted = save(ClaimStatus.SUBMITTED);
+        Long settled = save(ClaimStatus.SETTLED);
+        Long investigating = save(ClaimStatus.INVESTIGATING);
+        Long approved = save(ClaimStatus.APPROVED);
+        Long underReview = save(ClaimStatus.UNDER_REVIEW);
+        
+        // The settled claim was validated as APPROVED and has moved on since
+        int[] counts = writer.reject(List.of(
+            new ExpectedClaimStatus(submitted, ClaimStatus.SUBMITTED),
+            new ExpectedClaimStatus(settled, ClaimStatus.APPROVED),
+            new ExpectedClaimStatus(investigating, ClaimStatus.INVESTIGATING),
+            new ExpectedClaimStatus(approved, ClaimStatus.UNDER_REVIEW),
+            new ExpectedClaimStatus(underReview, ClaimStatus.UNDER_REVIEW)), "duplicate");
+        
+        assertThat(counts).containsExactly(1, 0, 1, 0, 1);
+        assertThat(statusOf(settled)).isEqualTo(ClaimStatus.SETTLED);
+        assertThat(statusOf(approved)).isEqualTo(ClaimStatus.APPROVED);
+        assertThat(claimRepository.findById(submitted).orElseThrow().getRejectionReason()).isEqualTo("duplicate");
+    }
+    
+    @Test
+    void approvalIsGuardedByExpectedStatusAndClaimedAmount() {
+        Long open = save(ClaimStatus.UNDER_REVIEW);
+        Long tooMuch = save(ClaimStatus.UNDER_REVIEW);
+        Long settled = save(ClaimStatus.SETTLED);
+        
+        int[] counts = writer.approve(List.of(
+            new ClaimApproval(open, ClaimStatus.UNDER_REVIEW, BigDecimal.valueOf(8_000), "partial"),
+            new ClaimApproval(tooMuch, ClaimStatus.UNDER_REVIEW, BigDecimal.valueOf(20_000), null),
+            new ClaimApproval(settled, ClaimStatus.INVESTIGATING, BigDecimal.valueOf(1_000), null)));
+        
+        assertThat(counts).containsExactly(1, 0, 0);
+        Claim approvedClaim = claimRepository.findById(open).orElseThrow();
+        assertThat(approvedClaim.getStatus()).isEqualTo(ClaimStatus.APPROVED);
+        assertThat(approvedClaim.getApprovedAmount()).isEqualByComparingTo(BigDecimal.valueOf(8_000));
+        assertThat(statusOf(tooMuch)).isEqualTo(ClaimStatus.UNDER_REVIEW);
+    }
+    
+    @Test
+    void transitionViewsLoadInOneQuery() {
+        Long first = save(ClaimStatus.APPROVED);
+        Long second = save(ClaimStatus.REJECTED);
+        
+        Map<Long, ClaimStatus> statuses = claimRepository.findTransitionViewByIdIn(List.of(first, second, -1L)).stream()
+            .collect(Collectors.toMap(ClaimTransitionView::getId, ClaimTransitionView::getStatus));
+        
+        assertThat(statuses).containsOnly(
+            Map.entry(first, ClaimStatus.APPROVED), Map.entry(second, ClaimStatus.REJECTED));
+        assertThat(claimRepository.findTransitionViewById(first).orElseThrow().getStatus()).isEqualTo(ClaimStatus.APPROVED);
+        assertThat(claimRepository.findTransitionViewById(-1L)).isEmpty();
+    }
+    
+    private Long save(ClaimStatus status) {
+        return claimRepository.save(Claim.builder()
+            .policyId(1L)
+            .customerId(1L)
+            .claimType(ClaimType.MEDICAL_EXPENSE)
+            .claimAmount(BigDecimal.valueOf(10_000))
+            .incidentDate(LocalDate.now().minusDays(3))
+            .incidentDescription("Storm damage")
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .build()).getId();
+    }
+    
+    private ClaimStatus statusOf(Long id) {
+        return claimRepository.findById(id).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,100 @@
+package com.fintech.insurance.claims.repository;
+
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// JPA writes through JDBC and the reader queries the same named in-memory database over R2DBC
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactive_reads;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveClaimReaderTest {
+    
+    @Autowired
+    private ClaimRepository claimRepository;
+    
+    private final ReactiveClaimReader reader = new ReactiveClaimReader(DatabaseClient.create(
+        ConnectionFactories.get(ConnectionFactoryOptions.parse("r2dbc:h2:mem:///reactive_reads;MODE=MySQL;DB_CLOSE_DELAY=-1")
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, "sa")
+            .build())));
+    
+    @Test
+    void mapsRowsToTheSameDtoAsTheBlockingApi() {
+        Claim saved = claimRepository.save(claim(7L, ClaimStatus.APPROVED));
+        
+        ClaimDTO dto = reader.findById(saved.getId()).block();
+        
+        assertThat(dto).isNotNull();
+        assertThat(dto.getClaimNumber()).isEqualTo(saved.getClaimNumber());
+        assertThat(dto.getClaimType()).isEqualTo(ClaimType.ACCIDENT);
+        assertThat(dto.getStatus()).isEqualTo(ClaimStatus.APPROVED);
+        assertThat(dto.getClaimAmount()).isEqualByComparingTo("1250.50");
+        assertThat(dto.getApprovedAmount()).isEqualByComparingTo("1000.00");
+        assertThat(dto.getFraudRiskLevel()).isEqualTo(FraudRiskLevel.LOW);
+        assertThat(dto.getIncidentDate()).isEqualTo(saved.getIncidentDate());
+        assertThat(dto.getSettlementDate()).isNull();
+        assertThat(reader.findById(-1L).blockOptional()).isEmpty();
+    }
+    
+    @Test
+    void streamsInIdOrderAsTheSubscriberRequests() {
+        List<Long> ids = IntStream.range(0, 1_200)
+            .mapToObj(i -> claimRepository.save(claim(99L, ClaimStatus.UNDER_REVIEW)).getId())
+            .toList();
+        claimRepository.save(claim(100L, ClaimStatus.UNDER_REVIEW));
+        
+        AtomicInteger requested = new AtomicInteger();
+        List<Long> streamed = reader.streamByCustomerId(99L)
+            .doOnRequest(n -> requested.incrementAndGet())
+            .limitRate(100)
+            .map(ClaimDTO::getId)
+            .collectList()
+            .block();
+        
+        assertThat(streamed).containsExactlyElementsOf(ids);
+        assertThat(requested.get()).isGreaterThan(1);
+        assertThat(Flux.from(reader.streamByStatus(ClaimStatus.SETTLED)).count().block()).isZero();
+    }
+    
+    private static Claim claim(Long customerId, ClaimStatus status) {
+        return Claim.builder()
+            .policyId(1L)
+            .customerId(customerId)
+            .claimType(ClaimType.ACCIDENT)
+            .claimAmount(new BigDecimal("1250.50"))
+            .approvedAmount(status == ClaimStatus.APPROVED ? new BigDecimal("1000.00") : null)
+            .status(status)
+            .fraudScore(0.1)
+            .fraudRiskLevel(FraudRiskLevel.LOW)
+            .incidentDate(LocalDate.now().minusDays(5))
+            .incidentDescription("Slipped on a wet floor")
+            .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.fintech.insurance.claims.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.insurance.claims.dto.ClaimDTO;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.common.cache.CacheConfig;
+import com.fintech.insurance.common.cache.CacheSettings;
+import com.fintech.insurance.common.cache.InMemoryRemoteCacheStore;
+import com.fintech.insurance.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClaimCacheTest {
+    
+    private InMemoryRemoteCacheStore redis;
+    private ClaimCache nodeA;
+    private ClaimCache nodeB;
+    
+    @BeforeEach
+    void setUp() {
+        // Two nodes sharing one in-process stand-in for Redis
+        redis = new InMemoryRemoteCacheStore();
+        nodeA = node(redis);
+        nodeB = node(redis);
+    }
+    
+    @Test
+    void missLoadedBeforeATransitionDoesNotOverwriteItsWriteThrough() {
+        // Node B reads APPROVED; node A's settlement commits and writes through
+        // before node B's miss gets to fill the cache
+        ClaimDTO fromB = nodeB.get(1L, () -> {
+            ClaimDTO stale = claim(1L, ClaimStatus.APPROVED);
+            nodeA.put(claim(1L, ClaimStatus.SETTLED));
+            return stale;
+        });
+        
+        assertThat(fromB.getStatus()).isEqualTo(ClaimStatus.SETTLED);
+        assertThat(nodeB.get(1L, () -> claim(1L, ClaimStatus.APPROVED)).getStatus()).isEqualTo(ClaimStatus.SETTLED);
+        assertThat(node(redis).getByNumber("CLM1", () -> claim(1L, ClaimStatus.APPROVED)).getStatus())
+            .isEqualTo(ClaimStatus.SETTLED);
+    }
+    
+    @Test
+    void writeThroughStillReplacesACachedClaim() {
+        nodeA.get(1L, () -> claim(1L, ClaimStatus.UNDER_REVIEW));
+        
+        nodeA.put(claim(1L, ClaimStatus.APPROVED));
+        
+        assertThat(nodeB.get(1L, () -> claim(1L, ClaimStatus.UNDER_REVIEW)).getStatus())
+            .isEqualTo(ClaimStatus.APPROVED);
+    }
+    
+    @Test
+    void missLoadedBeforeARescoreDoesNotOverwriteItsWriteThrough() {
+        // Node B reads the old score; the rescoring batch commits and writes through
+        // before node B's miss gets to fill the cache
+        ClaimDTO fromB = nodeB.get(1L, () -> {
+            ClaimDTO stale = claim(1L, ClaimStatus.UNDER_REVIEW);
+            nodeA.putAll(List.of(claim(1L, ClaimStatus.INVESTIGATING), claim(2L, ClaimStatus.UNDER_REVIEW)));
+            return stale;
+        });
+        
+        assertThat(fromB.getStatus()).isEqualTo(ClaimStatus.INVESTIGATING);
+        assertThat(node(redis).get(1L, () -> claim(1L, ClaimStatus.UNDER_REVIEW)).getStatus())
+            .isEqualTo(ClaimStatus.INVESTIGATING);
+    }
+    
+    private static ClaimCache node(InMemoryRemoteCacheStore redis) {
+        SimpleMeterRegistry metrics = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+            CacheSettings.bySize(100, Duration.ofMinutes(5), Duration.ofMinutes(30)),
+            redis, CacheConfig.valueSerializer(objectMapper), metrics);
+        manager.afterPropertiesSet();
+        return new ClaimCache(manager, metrics, DataSize.ofMegabytes(1), Duration.ofMinutes(2), Duration.ofMinutes(30));
+    }
+    
+    private static ClaimDTO claim(Long id, ClaimStatus status) {
+        return ClaimDTO.builder()
+            .id(id)
+            .claimNumber("CLM" + id)
+            .policyId(7L)
+            .customerId(42L)
+            .status(status)
+            .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.insurance.claims.stats;
+
+import com.fintech.insurance.claims.dto.ClaimPortfolioStatsDTO;
+import com.fintech.insurance.claims.event.ClaimEvent;
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.model.FraudRiskLevel;
+import com.fintech.insurance.claims.repository.ClaimPortfolioRow;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.claims.repository.FraudScoreUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClaimPortfolioStatsTest {
+    
+    private final ClaimRepository claimRepository = mock(ClaimRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClaimPortfolioStats stats = new ClaimPortfolioStats(claimRepository, meterRegistry);
+    
+    @Test
+    void seedsFromOneGroupedQueryAndFollowsTransitions() {
+        when(claimRepository.summarizePortfolio()).thenReturn(List.of(
+            row(ClaimStatus.UNDER_REVIEW, ClaimType.ACCIDENT, FraudRiskLevel.LOW, 3, "3000.00", null),
+            row(ClaimStatus.SETTLED, ClaimType.HOSPITALIZATION, FraudRiskLevel.MEDIUM, 2, "500.50", "400.00")));
+        stats.seed();
+        
+        stats.onClaimEvent(event("CLAIM_FILED", null, ClaimStatus.SUBMITTED, "250.25", null));
+        stats.onClaimEvent(event("CLAIM_APPROVED", ClaimStatus.UNDER_REVIEW, ClaimStatus.APPROVED, "1000.00", "900.00"));
+        
+        ClaimPortfolioStatsDTO snapshot = stats.snapshot();
+        assertThat(snapshot.getTotalClaims()).isEqualTo(6);
+        assertThat(snapshot.getTotalClaimedAmount()).isEqualByComparingTo("3750.75");
+        assertThat(snapshot.getTotalApprovedAmount()).isEqualByComparingTo("1300.00");
+        assertThat(snapshot.getByStatus().get(ClaimStatus.UNDER_REVIEW).getCount()).isEqualTo(2);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.UNDER_REVIEW).getClaimedAmount()).isEqualByComparingTo("2000.00");
+        assertThat(snapshot.getByStatus().get(ClaimStatus.APPROVED).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.SUBMITTED).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByClaimType().get(ClaimType.ACCIDENT).getCount()).isEqualTo(4);
+        assertThat(snapshot.getByFraudRiskLevel().get(ClaimPortfolioStats.UNSCORED).getCount()).isEqualTo(1);
+        assertThat(snapshot.getSeededAt()).isNotNull();
+        assertThat(meterRegistry.get("claims.portfolio.claims").tag("dimension", "status").tag("value", "APPROVED")
+            .gauge().value()).isEqualTo(1.0);
+        verify(claimRepository).summarizePortfolio();
+    }
+    
+    @Test
+    void updatesBeforeTheSeedAreCountedOnceWhetherOrNotItsSnapshotSawThem() {
+        // Committed before the snapshot, so claim 1 is counted as SUBMITTED by it
+        stats.onClaimEvent(event(1L, "CLAIM_FILED", null, ClaimStatus.SUBMITTED, "100.00"));
+        when(claimRepository.summarizePortfolio()).thenAnswer(invocation -> {
+            // Committed after the snapshot was taken
+            stats.onClaimEvent(event(1L, "CLAIM_REJECTED", ClaimStatus.SUBMITTED, ClaimStatus.REJECTED, "100.00"));
+            // Committed before the snapshot but delivered while the query runs
+            stats.onClaimEvent(event(2L, "CLAIM_FILED", null, ClaimStatus.SUBMITTED, "50.00"));
+            return List.of(
+                row(ClaimStatus.SUBMITTED, ClaimType.ACCIDENT, null, 2, "150.00", null),
+                row(ClaimStatus.UNDER_REVIEW, ClaimType.ACCIDENT, null, 1, "10.00", null));
+        });
+        when(claimRepository.summarizeClaims(Set.of(1L, 2L))).thenReturn(List.of(
+            row(ClaimStatus.SUBMITTED, ClaimType.ACCIDENT, null, 2, "150.00", null)));
+        assertThat(stats.snapshot().getTotalClaims()).isZero();
+        
+        stats.seed();
+        
+        ClaimPortfolioStatsDTO snapshot = stats.snapshot();
+        assertThat(snapshot.getTotalClaims()).isEqualTo(3);
+        assertThat(snapshot.getTotalClaimedAmount()).isEqualByComparingTo("160.00");
+        assertThat(snapshot.getByStatus().get(ClaimStatus.SUBMITTED).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.SUBMITTED).getClaimedAmount()).isEqualByComparingTo("50.00");
+        assertThat(snapshot.getByStatus().get(ClaimStatus.REJECTED).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.UNDER_REVIEW).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByFraudRiskLevel().get(ClaimPortfolioStats.UNSCORED).getCount()).isEqualTo(3);
+        
+        stats.onClaimEvent(event(2L, "CLAIM_REJECTED", ClaimStatus.SUBMITTED, ClaimStatus.REJECTED, "50.00"));
+        assertThat(stats.snapshot().getByStatus().get(ClaimStatus.REJECTED).getCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void scoringMovesStatusAndRiskBuckets() {
+        stats.seed();
+        stats.onClaimEvent(event("CLAIM_FILED", null, ClaimStatus.SUBMITTED, "100.00", null));
+        Claim unscored = Claim.builder()
+            .id(1L)
+            .claimType(ClaimType.ACCIDENT)
+            .claimAmount(new BigDecimal("100.00"))
+            .status(ClaimStatus.SUBMITTED)
+            .build();
+        
+        stats.recordScores(List.of(unscored), List.of(new FraudScoreUpdate(
+            1L, ClaimStatus.SUBMITTED, ClaimStatus.INVESTIGATING, 0.9, FraudRiskLevel.CRITICAL)));
+        
+        ClaimPortfolioStatsDTO snapshot = stats.snapshot();
+        assertThat(snapshot.getByStatus().get(ClaimStatus.SUBMITTED).getCount()).isZero();
+        assertThat(snapshot.getByStatus().get(ClaimStatus.INVESTIGATING).getCount()).isEqualTo(1);
+        assertThat(snapshot.getByFraudRiskLevel().get(ClaimPortfolioStats.UNSCORED).getCount()).isZero();
+        assertThat(snapshot.getByFraudRiskLevel().get("CRITICAL").getClaimedAmount()).isEqualByComparingTo("100.00");
+    }
+    
+    @Test
+    void concurrentUpdatesAreNotLost() throws Exception {
+        stats.seed();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        stats.onClaimEvent(event("CLAIM_FILED", null, ClaimStatus.SUBMITTED, "1.01", null));
+                        stats.onClaimEvent(event("CLAIM_REJECTED", ClaimStatus.SUBMITTED, ClaimStatus.REJECTED, "1.01", null));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        ClaimPortfolioStatsDTO snapshot = stats.snapshot();
+        long filed = (long) threads * perThread;
+        assertThat(snapshot.getTotalClaims()).isEqualTo(filed);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.SUBMITTED).getCount()).isZero();
+        assertThat(snapshot.getByStatus().get(ClaimStatus.REJECTED).getCount()).isEqualTo(filed);
+        assertThat(snapshot.getByStatus().get(ClaimStatus.REJECTED).getClaimedAmount())
+            .isEqualByComparingTo(BigDecimal.valueOf(filed * 101, 2));
+    }
+    
+    private static ClaimEvent event(long claimId, String type, ClaimStatus previous, ClaimStatus status,
+                                    String claimAmount) {
+        ClaimEvent event = event(type, previous, status, claimAmount, null);
+        event.setClaimId(claimId);
+        return event;
+    }
+    
+    private static ClaimEvent event(String type, ClaimStatus previous, ClaimStatus status,
+                                    String claimAmount, String approvedAmount) {
+        return ClaimEvent.builder()
+            .eventType(type)
+            .claimType(ClaimType.ACCIDENT.name())
+            .claimAmount(new BigDecimal(claimAmount))
+            .approvedAmount(approvedAmount == null ? null : new BigDecimal(approvedAmount))
+            .previousStatus(previous == null ? null : previous.name())
+            .status(status.name())
+            .build();
+    }
+    
+    private static ClaimPortfolioRow row(ClaimStatus status, ClaimType type, FraudRiskLevel level,
+                                         long count, String claimed, String approved) {
+        return new ClaimPortfolioRow() {
+            public ClaimStatus getStatus() { return status; }
+            public ClaimType getClaimType() { return type; }
+            public FraudRiskLevel getFraudRiskLevel() { return level; }
+            public Long getClaimCount() { return count; }
+            public BigDecimal getClaimedAmount() { return new BigDecimal(claimed); }
+            public BigDecimal getApprovedAmount() { return approved == null ? null : new BigDecimal(approved); }
+        };
+    }
+}
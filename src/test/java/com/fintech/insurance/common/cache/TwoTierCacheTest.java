@@ -0,0 +1,156 @@
+package com.fintech.insurance.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+    
+    private InMemoryRemoteCacheStore redis;
+    private MeterRegistry nodeAMetrics;
+    private MeterRegistry nodeBMetrics;
+    private Cache nodeA;
+    private Cache nodeB;
+    
+    @BeforeEach
+    void setUp() {
+        // Two nodes sharing one in-process stand-in for Redis
+        redis = new InMemoryRemoteCacheStore();
+        nodeAMetrics = new SimpleMeterRegistry();
+        nodeBMetrics = new SimpleMeterRegistry();
+        nodeA = node(redis, nodeAMetrics, 100).getCache("policies");
+        nodeB = node(redis, nodeBMetrics, 100).getCache("policies");
+    }
+    
+    @Test
+    void secondNodeReadsThroughTheSharedTier() {
+        nodeA.put(1L, policy(1L, PolicyStatus.PENDING_APPROVAL));
+        
+        PolicyDTO fromB = nodeB.get(1L, PolicyDTO.class);
+        PolicyDTO fromBAgain = nodeB.get(1L, PolicyDTO.class);
+        
+        assertThat(fromB).isEqualTo(policy(1L, PolicyStatus.PENDING_APPROVAL));
+        assertThat(fromBAgain).isSameAs(fromB);
+        assertThat(gets(nodeBMetrics, "l1", "miss")).isEqualTo(1);
+        assertThat(gets(nodeBMetrics, "l2", "hit")).isEqualTo(1);
+        assertThat(gets(nodeBMetrics, "l1", "hit")).isEqualTo(1);
+    }
+    
+    @Test
+    void evictionOnOneNodeInvalidatesTheOthersLocalCopy() {
+        nodeA.put(1L, policy(1L, PolicyStatus.PENDING_APPROVAL));
+        assertThat(nodeB.get(1L, PolicyDTO.class)).isNotNull();
+        
+        nodeA.evict(1L);
+        
+        assertThat(nodeB.get(1L)).isNull();
+        // One for the put, one for the eviction
+        assertThat(nodeBMetrics.get("cache.invalidations.received").counter().count()).isEqualTo(2);
+        assertThat(nodeAMetrics.get("cache.tier.evictions").tag("tier", "l2").counter().count()).isEqualTo(1);
+    }
+    
+    @Test
+    void putOnOneNodeReplacesTheOthersStaleCopy() {
+        nodeA.put(1L, policy(1L, PolicyStatus.PENDING_APPROVAL));
+        assertThat(nodeB.get(1L, PolicyDTO.class).getStatus()).isEqualTo(PolicyStatus.PENDING_APPROVAL);
+        
+        nodeA.put(1L, policy(1L, PolicyStatus.ACTIVE));
+        
+        assertThat(nodeB.get(1L, PolicyDTO.class).getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+    }
+    
+    @Test
+    void loaderRunsOnceAcrossNodesAndListsRoundTrip() {
+        AtomicInteger loads = new AtomicInteger();
+        List<PolicyDTO> policies = List.of(policy(1L, PolicyStatus.ACTIVE), policy(2L, PolicyStatus.ACTIVE));
+        
+        List<?> fromA = nodeA.get(7L, () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(policies);
+        });
+        List<?> fromB = nodeB.get(7L, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        
+        assertThat(loads).hasValue(1);
+        assertThat(fromA).isEqualTo(policies);
+        assertThat(fromB).isEqualTo(policies);
+    }
+    
+    @Test
+    void localTierIsBoundedAndCountsEvictions() {
+        MeterRegistry metrics = new SimpleMeterRegistry();
+        TwoTierCacheManager small = node(redis, metrics, 10);
+        Cache cache = small.getCache("policies");
+        
+        for (long id = 1; id <= 100; id++) {
+            cache.put(id, policy(id, PolicyStatus.ACTIVE));
+        }
+        ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+        
+        assertThat(((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).estimatedSize())
+            .isLessThanOrEqualTo(10);
+        assertThat(metrics.get("cache.tier.evictions").tag("tier", "l1").counter().count()).isEqualTo(90);
+        // Entries evicted locally are still served from the shared tier
+        assertThat(cache.get(1L, PolicyDTO.class)).isNotNull();
+    }
+    
+    @Test
+    void weightedLocalTierIsBoundedByTotalWeight() {
+        TwoTierCacheManager manager = node(redis, new SimpleMeterRegistry(), 100);
+        manager.configureCache("weighted", CacheSettings.byWeight(1_000,
+            value -> ((PolicyDTO) value).getDescription().length(), Duration.ofMinutes(5), Duration.ofMinutes(30)));
+        Cache cache = manager.getCache("weighted");
+        
+        for (long id = 1; id <= 20; id++) {
+            PolicyDTO large = policy(id, PolicyStatus.ACTIVE);
+            large.setDescription("x".repeat(200));
+            cache.put(id, large);
+        }
+        com.github.benmanes.caffeine.cache.Cache<?, ?> local =
+            (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        local.cleanUp();
+        
+        assertThat(local.estimatedSize()).isLessThanOrEqualTo(5);
+    }
+    
+    private static TwoTierCacheManager node(RemoteCacheStore store, MeterRegistry metrics, long maximumSize) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+            CacheSettings.bySize(maximumSize, Duration.ofMinutes(5), Duration.ofMinutes(30)),
+            store, CacheConfig.valueSerializer(objectMapper), metrics);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+    
+    private static double gets(MeterRegistry metrics, String tier, String result) {
+        return metrics.get("cache.tier.gets").tag("tier", tier).tag("result", result).counter().count();
+    }
+    
+    private static PolicyDTO policy(Long id, PolicyStatus status) {
+        return PolicyDTO.builder()
+            .id(id)
+            .policyNumber("POL" + id)
+            .customerId(42L)
+            .status(status)
+            .premium(new BigDecimal("120.50"))
+            .startDate(LocalDate.of(2025, 1, 1))
+            .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.fintech.insurance.common.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BlockingPublisherReturnValueHandlerTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingPublisherReturnValueHandler handler = new BlockingPublisherReturnValueHandler(
+        new RequestResponseBodyMethodProcessor(List.of(new MappingJackson2HttpMessageConverter(objectMapper))),
+        objectMapper);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/claims");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+    
+    @Test
+    void streamsAFluxAsNdjsonWhenNdjsonWasNegotiated() throws Exception {
+        request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE,
+            Set.of(NdjsonWriter.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+        
+        handle(Flux.just(new Row("CLM1"), new Row("CLM2")), "flux");
+        
+        assertThat(mavContainer.isRequestHandled()).isTrue();
+        assertThat(response.getContentType()).isEqualTo(NdjsonWriter.MEDIA_TYPE);
+        assertThat(response.getContentAsString())
+            .isEqualTo("{\"claimNumber\":\"CLM1\"}\n{\"claimNumber\":\"CLM2\"}\n");
+    }
+    
+    @Test
+    void collectsAFluxIntoAJsonArrayOtherwise() throws Exception {
+        request.addHeader("Accept", MediaType.APPLICATION_JSON_VALUE);
+        request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, Set.of(MediaType.APPLICATION_JSON));
+        
+        handle(Flux.just(new Row("CLM1"), new Row("CLM2")), "flux");
+        
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString())
+            .isEqualTo("[{\"claimNumber\":\"CLM1\"},{\"claimNumber\":\"CLM2\"}]");
+    }
+    
+    @Test
+    void writesAMonoValueAsTheResponseBody() throws Exception {
+        handle(Mono.just(new Row("CLM1")), "mono");
+        
+        assertThat(response.getContentAsString()).isEqualTo("{\"claimNumber\":\"CLM1\"}");
+    }
+    
+    @Test
+    void rethrowsAMonoErrorForTheExceptionHandlers() {
+        IllegalStateException failure = new IllegalStateException("Claim not found");
+        
+        assertThatThrownBy(() -> handle(Mono.error(failure), "mono")).isSameAs(failure);
+        assertThat(response.isCommitted()).isFalse();
+    }
+    
+    @Test
+    void cancelsTheFluxWhenWritingFails() {
+        request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, Set.of(NdjsonWriter.APPLICATION_NDJSON));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        // An empty bean fails to serialize, like a client that has gone away fails the write
+        Flux<Object> rows = Flux.<Object>just(new Row("CLM1"), new Object())
+            .concatWith(Flux.never())
+            .doOnCancel(() -> cancelled.set(true));
+        
+        assertThatThrownBy(() -> handle(rows, "flux")).isInstanceOf(IOException.class);
+        assertThat(cancelled).isTrue();
+        assertThat(response.getContentAsByteArray()).isNotEmpty();
+    }
+    
+    private void handle(Object returnValue, String method) throws Exception {
+        handler.handleReturnValue(returnValue, returnType(method), mavContainer,
+            new ServletWebRequest(request, response));
+    }
+    
+    private static MethodParameter returnType(String method) throws NoSuchMethodException {
+        return new MethodParameter(Endpoints.class.getDeclaredMethod(method), -1);
+    }
+    
+    record Row(String claimNumber) {
+    }
+    
+    static class Endpoints {
+        
+        Flux<Row> flux() {
+            return Flux.empty();
+        }
+        
+        Mono<Row> mono() {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.fintech.insurance.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LookupCoalescerTest {
+    
+    private static final int CALLERS = 64;
+    
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private LookupCoalescer coalescer;
+    
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        coalescer.destroy();
+    }
+    
+    @Test
+    void concurrentMissesForOneKeyShareASingleLoad() throws Exception {
+        coalescer = new LookupCoalescer(new SimpleMeterRegistry(), Duration.ZERO, 100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Collection<Long>, Map<Long, String>> slowFindAllById = ids -> {
+            loads.incrementAndGet();
+            await(release);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "policy-" + id));
+        };
+        
+        List<Future<String>> results = submitAll(() -> coalescer.load("policies", 1L, slowFindAllById));
+        // Let every caller join the flight before the single load completes
+        Thread.sleep(200);
+        release.countDown();
+        
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("policy-1");
+        }
+        assertThat(loads).hasValue(1);
+    }
+    
+    @Test
+    void batchWindowMergesMissesForDifferentKeys() throws Exception {
+        coalescer = new LookupCoalescer(new SimpleMeterRegistry(), Duration.ofMillis(50), 1000);
+        List<Collection<Long>> batches = new ArrayList<>();
+        Function<Collection<Long>, Map<Long, String>> findAllById = ids -> {
+            synchronized (batches) {
+                batches.add(List.copyOf(ids));
+            }
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "claim-" + id));
+        };
+        
+        AtomicInteger nextId = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            long id = nextId.incrementAndGet() % 16;
+            results.add(callers.submit(() -> coalescer.load("claims", id, findAllById)));
+        }
+        
+        for (int i = 0; i < CALLERS; i++) {
+            assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("claim-" + ((i + 1) % 16));
+        }
+        // 64 lookups over 16 keys; without coalescing this would be 64 queries
+        assertThat(batches.size()).isLessThanOrEqualTo(4);
+    }
+    
+    @Test
+    void fullBatchIsLoadedWithoutWaitingForTheWindow() {
+        coalescer = new LookupCoalescer(new SimpleMeterRegistry(), Duration.ofHours(1), 1);
+        
+        String loaded = coalescer.load("cases", 5L, (Collection<Long> ids) -> Map.of(5L, "case-5"));
+        
+        assertThat(loaded).isEqualTo("case-5");
+    }
+    
+    @Test
+    void missingKeysResolveToNullAndFailuresReachEveryCaller() throws Exception {
+        coalescer = new LookupCoalescer(new SimpleMeterRegistry(), Duration.ZERO, 100);
+        
+        assertThat(coalescer.<Long, String>load("policies", 9L, ids -> Map.of())).isNull();
+        
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Collection<Long>, Map<Long, String>> failing = ids -> {
+            await(release);
+            throw new IllegalStateException("database unavailable");
+        };
+        List<Future<String>> results = submitAll(() -> coalescer.load("policies", 1L, failing));
+        Thread.sleep(200);
+        release.countDown();
+        
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        // The failed flight is gone, so the next lookup loads again
+        assertThat(coalescer.<Long, String>load("policies", 1L, ids -> Map.of(1L, "policy-1"))).isEqualTo("policy-1");
+    }
+    
+    private List<Future<String>> submitAll(Callable<String> lookup) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(lookup));
+        }
+        return results;
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
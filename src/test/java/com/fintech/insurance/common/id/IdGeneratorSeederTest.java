@@ -0,0 +1,59 @@
+package com.fintech.insurance.common.id;
+
+import com.fintech.insurance.common.outbox.OutboxEvent;
+import com.fintech.insurance.common.outbox.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(IdGeneratorSeeder.class)
+@ImportAutoConfiguration(TransactionAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorSeederTest {
+    
+    @Autowired
+    private IdGeneratorSeeder seeder;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void jpaIdsContinuePastRowsWrittenBeforeTheGenerator() {
+        jdbcTemplate.update("INSERT INTO outbox_events (id, topic, event_type, payload, attempts, created_at)"
+            + " VALUES (5000, 'claim-events', 'CLAIM_FILED', '{}', 0, ?)", LocalDateTime.now());
+        
+        seeder.seed();
+        
+        OutboxEvent saved = outboxEventRepository.save(OutboxEvent.builder()
+            .topic("claim-events")
+            .eventType("CLAIM_FILED")
+            .payload("{}")
+            .createdAt(LocalDateTime.now())
+            .build());
+        assertThat(saved.getId()).isGreaterThan(5000L);
+    }
+    
+    @Test
+    void neverLowersASegment() {
+        jdbcTemplate.update("UPDATE id_generators SET next_val = 100000 WHERE entity_name = 'claims'");
+        
+        seeder.seed();
+        
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT next_val FROM id_generators WHERE entity_name = 'claims'", Long.class)).isEqualTo(100_000L);
+    }
+}
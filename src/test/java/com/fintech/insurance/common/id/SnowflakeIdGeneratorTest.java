@@ -0,0 +1,118 @@
+package com.fintech.insurance.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+    
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 50_000;
+    
+    @Test
+    void concurrentCallersNeverReceiveTheSameId() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long previous = -1;
+                    boolean increasing = true;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        long id = generator.nextId();
+                        increasing &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return increasing;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(1, TimeUnit.MINUTES)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+        assertThat(ids).allMatch(id -> SnowflakeIdGenerator.nodeIdOf(id) == 7);
+    }
+    
+    @Test
+    void nodesIssuingInTheSameMillisecondDoNotCollide() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator first = new SnowflakeIdGenerator(1, clock::get);
+        SnowflakeIdGenerator second = new SnowflakeIdGenerator(2, clock::get);
+        
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+        
+        assertThat(ids).hasSize(20_000);
+    }
+    
+    @Test
+    void staysMonotonicWhenTheClockStepsBackwards() {
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+        
+        long beforeStep = generator.nextId();
+        clock.addAndGet(-5_000);
+        long afterStep = generator.nextId();
+        
+        assertThat(afterStep).isGreaterThan(beforeStep);
+    }
+    
+    @Test
+    void sequenceOverflowBorrowsTheNextMillisecond() {
+        long now = System.currentTimeMillis();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> now);
+        
+        long last = 0;
+        for (int i = 0; i <= 1 << SnowflakeIdGenerator.SEQUENCE_BITS; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        
+        assertThat(SnowflakeIdGenerator.timestampOf(last).toEpochMilli()).isEqualTo(now + 1);
+    }
+    
+    @Test
+    void formattedIdsArePrefixedAndSortInIssueOrder() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5);
+        
+        String first = generator.next(BusinessIds.CLAIM_PREFIX);
+        String second = generator.next(BusinessIds.CLAIM_PREFIX);
+        
+        assertThat(first).matches("CLM\\d{19}");
+        assertThat(second).isGreaterThan(first);
+        assertThat(SnowflakeIdGenerator.format("EVT", 42L)).isEqualTo("EVT0000000000000000042");
+    }
+    
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
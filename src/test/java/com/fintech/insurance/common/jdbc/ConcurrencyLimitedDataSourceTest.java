@@ -0,0 +1,64 @@
+package com.fintech.insurance.common.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTest {
+    
+    private final DataSource target = mock(DataSource.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitedDataSource dataSource =
+        new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50), meterRegistry);
+    
+    @Test
+    void holdsOnePermitPerOpenConnection() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(target.getConnection()).thenReturn(pooled);
+        
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(active()).isEqualTo(2.0);
+        assertThatThrownBy(dataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessageContaining("2 database permits");
+        
+        // Closing twice must not hand out an extra permit
+        first.close();
+        first.close();
+        assertThat(active()).isEqualTo(1.0);
+        verify(pooled, times(2)).close();
+        
+        Connection third = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        second.close();
+        third.close();
+        assertThat(active()).isZero();
+    }
+    
+    @Test
+    void releasesPermitWhenTheTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        }
+        assertThat(active()).isZero();
+    }
+    
+    private double active() {
+        return meterRegistry.get("db.concurrency.active").gauge().value();
+    }
+}
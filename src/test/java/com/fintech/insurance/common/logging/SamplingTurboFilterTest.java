@@ -0,0 +1,68 @@
+package com.fintech.insurance.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+    
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    
+    @BeforeEach
+    void setUp() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setRate(10);
+        filter.setLoggers("org.hibernate.SQL");
+        filter.start();
+        context.addTurboFilter(filter);
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+    
+    @Test
+    void keepsOneInRatePerLoggerForMarkedEventsBelowWarn() {
+        Logger claims = context.getLogger("claims");
+        Logger cases = context.getLogger("cases");
+        for (int i = 0; i < 100; i++) {
+            claims.info(LogSampling.SAMPLED, "Fetching claim: {}", i);
+            claims.info("Claim filed: {}", i);
+            claims.warn(LogSampling.SAMPLED, "Slow claim lookup: {}", i);
+        }
+        cases.info(LogSampling.SAMPLED, "Fetching underwriting case: {}", 1);
+        
+        assertThat(count("Fetching claim:")).isEqualTo(10);
+        assertThat(count("Claim filed:")).isEqualTo(100);
+        assertThat(count("Slow claim lookup:")).isEqualTo(100);
+        assertThat(count("Fetching underwriting case:")).isEqualTo(1);
+    }
+    
+    @Test
+    void samplesConfiguredLoggersAndSkipsDisabledLevels() {
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger other = context.getLogger("org.hibernate.SQLException");
+        sql.setLevel(Level.DEBUG);
+        for (int i = 0; i < 50; i++) {
+            assertThat(sql.isDebugEnabled()).isTrue();
+            sql.debug("select c1_0.id from claims c1_0 where c1_0.id=?");
+            sql.trace("never printed");
+            other.debug("not sampled");
+        }
+        
+        assertThat(count("select")).isEqualTo(5);
+        assertThat(count("not sampled")).isEqualTo(50);
+    }
+    
+    private long count(String prefix) {
+        return appender.list.stream().filter(e -> e.getMessage().startsWith(prefix)).count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.fintech.insurance.common.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class OutboxEventRepositoryTest {
+    
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    
+    @Autowired
+    private OutboxEventRepository repository;
+    
+    @Test
+    void claimsOnlyAvailableUnpublishedRowsInOrder() {
+        Long legacy = save("1", null, null, null);
+        Long available = save("2", now.minusSeconds(1), null, null);
+        save("3", now.plusMinutes(1), null, null);
+        save("4", now.minusSeconds(1), now, null);
+        save("5", now.minusSeconds(1), null, now);
+        Long beyondLimit = save("6", now, null, null);
+        
+        assertThat(repository.findClaimable(now, Limit.of(2)))
+            .extracting(OutboxEvent::getId).containsExactly(legacy, available);
+        assertThat(repository.findClaimable(now, Limit.of(10)))
+            .extracting(OutboxEvent::getId).containsExactly(legacy, available, beyondLimit);
+    }
+    
+    @Test
+    void readsPendingRowsOfTheGivenKeysUpToTheBatch() {
+        Long backingOff = save("42", now.plusSeconds(30), null, null);
+        save("42", null, now, null);
+        save("42", null, null, now);
+        save("43", null, null, null);
+        Long inBatch = save("42", now, null, null);
+        save("42", now, null, null);
+        repository.markFailed(List.of(backingOff), "broker unavailable", now.plusSeconds(30));
+        
+        List<PendingOutboxEvent> pending = repository.findPendingByMessageKeys(Set.of("42"), inBatch);
+        
+        assertThat(pending).extracting(PendingOutboxEvent::getId).containsExactly(backingOff, inBatch);
+        assertThat(pending.get(0).getAttempts()).isEqualTo(1);
+        assertThat(pending.get(0).getAvailableAt()).isEqualTo(now.plusSeconds(30));
+    }
+    
+    private Long save(String key, LocalDateTime availableAt, LocalDateTime publishedAt, LocalDateTime deadLetteredAt) {
+        return repository.saveAndFlush(OutboxEvent.builder()
+            .topic("claim-events")
+            .messageKey(key)
+            .eventType("CLAIM_FILED")
+            .payload("{}")
+            .createdAt(now)
+            .availableAt(availableAt)
+            .publishedAt(publishedAt)
+            .deadLetteredAt(deadLetteredAt)
+            .build()).getId();
+    }
+}
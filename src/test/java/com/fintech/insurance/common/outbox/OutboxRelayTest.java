@@ -0,0 +1,211 @@
+package com.fintech.insurance.common.outbox;
+
+import com.fintech.insurance.common.tracing.EventTracing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@EmbeddedKafka(partitions = 1, topics = {OutboxRelayTest.TOPIC, OutboxRelayTest.TRACED_TOPIC})
+class OutboxRelayTest {
+    
+    static final String TOPIC = "insurance-events";
+    static final String TRACED_TOPIC = "insurance-events-traced";
+    static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void publishesBatchAndMarksRowsPublished(EmbeddedKafkaBroker broker) {
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(LocalDateTime.class), any(Limit.class)))
+            .thenReturn(List.of(event(1L, "POLICY_CREATED"), event(2L, "POLICY_ACTIVATED")))
+            .thenReturn(List.of());
+        
+        relay(repository, broker, new EventTracing(Tracer.NOOP, Propagator.NOOP)).relay();
+        
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).markPublished(ids.capture(), any(LocalDateTime.class));
+        assertThat(ids.getValue()).containsExactly(1L, 2L);
+        verify(repository, never()).markFailed(anyCollection(), any(), any());
+        
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-relay-test", "false", broker);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 2);
+            assertThat(records).extracting(record -> record.value())
+                .containsExactly("{\"eventType\":\"POLICY_CREATED\"}", "{\"eventType\":\"POLICY_ACTIVATED\"}");
+        }
+    }
+    
+    @Test
+    void continuesTheEnqueuingTraceInRecordHeaders(EmbeddedKafkaBroker broker) {
+        OutboxEvent event = event(1L, "POLICY_ACTIVATED");
+        event.setTopic(TRACED_TOPIC);
+        event.setTraceparent("00-" + TRACE_ID + "-b7ad6b7169203331-01");
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(LocalDateTime.class), any(Limit.class)))
+            .thenReturn(List.of(event))
+            .thenReturn(List.of());
+        
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("outbox-relay-test");
+        EventTracing eventTracing = new EventTracing(
+            new OtelTracer(otelTracer, new OtelCurrentTraceContext(), publishedEvent -> { }),
+            new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer));
+        
+        relay(repository, broker, eventTracing).relay();
+        
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-relay-trace-test", "false", broker);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TRACED_TOPIC);
+            ConsumerRecord<String, String> record = KafkaTestUtils.getSingleRecord(consumer, TRACED_TOPIC);
+            String traceparent = new String(record.headers().lastHeader(EventTracing.TRACEPARENT).value(),
+                StandardCharsets.UTF_8);
+            // Same trace, with the relay's producer span as the new parent
+            assertThat(traceparent).startsWith("00-" + TRACE_ID + "-").endsWith("-01")
+                .doesNotContain("b7ad6b7169203331");
+        }
+    }
+    
+    @Test
+    void failedSendHoldsBackLaterEventsForTheSameKey() {
+        OutboxEvent first = event(1L, "CLAIM_APPROVED");
+        OutboxEvent second = event(2L, "CLAIM_SETTLED");
+        OutboxEvent otherKey = event(3L, "CLAIM_FILED");
+        otherKey.setMessageKey("43");
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(LocalDateTime.class), any(Limit.class)))
+            .thenReturn(List.of(first, second, otherKey));
+        
+        relay(repository, failingKafkaTemplate("CLAIM_APPROVED")).relay();
+        
+        verify(repository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(repository).markFailed(eq(List.of(1L)), eq("broker unavailable"), any(LocalDateTime.class));
+        verify(repository).updateAvailableAt(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(repository, never()).markDeadLettered(anyCollection(), any(), any());
+    }
+    
+    @Test
+    void deadLettersAnEventOnItsLastAttempt() {
+        OutboxEvent event = event(1L, "CLAIM_APPROVED");
+        event.setAttempts(2);
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(LocalDateTime.class), any(Limit.class))).thenReturn(List.of(event));
+        
+        relay(repository, failingKafkaTemplate("CLAIM_APPROVED")).relay();
+        
+        verify(repository).markDeadLettered(eq(List.of(1L)), eq("broker unavailable"), any(LocalDateTime.class));
+        verify(repository, never()).markFailed(anyCollection(), any(), any());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void waitsForAnEarlierEventOfTheSameKeyToBeRetried() {
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(30);
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        when(repository.findClaimable(any(LocalDateTime.class), any(Limit.class)))
+            .thenReturn(List.of(event(5L, "CLAIM_SETTLED")));
+        when(repository.findPendingByMessageKeys(anyCollection(), eq(5L)))
+            .thenReturn(List.of(pending(3L, 1, retryAt), pending(5L, 0, null)));
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        
+        relay(repository, kafkaTemplate).relay();
+        
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(repository).updateAvailableAt(List.of(5L), retryAt);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static KafkaTemplate<String, String> failingKafkaTemplate(String failingEventType) {
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation -> {
+            ProducerRecord<String, String> record = invocation.getArgument(0);
+            return record.value().contains(failingEventType)
+                ? CompletableFuture.failedFuture(new KafkaException("broker unavailable"))
+                : CompletableFuture.completedFuture(new SendResult<>(record, null));
+        });
+        return kafkaTemplate;
+    }
+    
+    private static OutboxRelay relay(OutboxEventRepository repository, EmbeddedKafkaBroker broker,
+                                     EventTracing eventTracing) {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put("linger.ms", 5);
+        producerProps.put("compression.type", "lz4");
+        return relay(repository, new KafkaTemplate<>(
+            new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), new StringSerializer())),
+            eventTracing);
+    }
+    
+    private static OutboxRelay relay(OutboxEventRepository repository, KafkaTemplate<String, String> kafkaTemplate) {
+        return relay(repository, kafkaTemplate, new EventTracing(Tracer.NOOP, Propagator.NOOP));
+    }
+    
+    private static OutboxRelay relay(OutboxEventRepository repository, KafkaTemplate<String, String> kafkaTemplate,
+                                     EventTracing eventTracing) {
+        return new OutboxRelay(repository, kafkaTemplate,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), eventTracing,
+            new SimpleMeterRegistry(), 10, Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofSeconds(30),
+            3, Duration.ofDays(7));
+    }
+    
+    private static OutboxEvent event(Long id, String eventType) {
+        return OutboxEvent.builder()
+            .id(id)
+            .topic(TOPIC)
+            .messageKey("42")
+            .eventType(eventType)
+            .payload("{\"eventType\":\"" + eventType + "\"}")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+    
+    private static PendingOutboxEvent pending(Long id, int attempts, LocalDateTime availableAt) {
+        return new PendingOutboxEvent() {
+            public Long getId() { return id; }
+            public String getMessageKey() { return "42"; }
+            public int getAttempts() { return attempts; }
+            public LocalDateTime getAvailableAt() { return availableAt; }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.fintech.insurance.common.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailSamplingSpanProcessorTest {
+    
+    private static final long THRESHOLD_MS = 500;
+    
+    private final List<ReadableSpan> exported = new CopyOnWriteArrayList<>();
+    private final TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(new SpanProcessor() {
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+        
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+        
+        @Override
+        public void onEnd(ReadableSpan span) {
+            exported.add(span);
+        }
+        
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+        
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }, Duration.ofMillis(THRESHOLD_MS), 100, 10, Duration.ofMinutes(1));
+    
+    // Head sampling never picks a trace, so everything goes through the tail
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+        .setSampler(new TailSamplingSampler(0.0))
+        .addSpanProcessor(processor)
+        .build();
+    private final Tracer tracer = tracerProvider.get("tail-sampling-test");
+    
+    @AfterEach
+    void tearDown() {
+        tracerProvider.shutdown();
+    }
+    
+    @Test
+    void keepsWholeTraceWhenRootIsSlowOrFailsAndDropsTheRest() {
+        String slow = trace(THRESHOLD_MS + 1, false);
+        String fast = trace(THRESHOLD_MS - 1, false);
+        String failed = trace(1, true);
+        
+        assertThat(exported).extracting(span -> span.getSpanContext().getTraceId())
+            .containsOnly(slow, failed)
+            .hasSize(4);
+        assertThat(exported).extracting(ReadableSpan::getName)
+            .containsExactly("jdbc query", "http post", "jdbc query", "http post");
+        assertThat(exported).noneMatch(span -> span.getSpanContext().getTraceId().equals(fast));
+        assertThat(processor.keptTraces()).isEqualTo(2);
+        assertThat(processor.discardedTraces()).isEqualTo(1);
+        assertThat(processor.pendingTraces()).isZero();
+    }
+    
+    @Test
+    void childrenOfAnUnsampledTraceAreRecorded() {
+        Span root = tracer.spanBuilder("http post").startSpan();
+        Span child = tracer.spanBuilder("jdbc query").setParent(Context.current().with(root)).startSpan();
+        
+        assertThat(root.isRecording()).isTrue();
+        assertThat(root.getSpanContext().isSampled()).isFalse();
+        assertThat(child.isRecording()).isTrue();
+        child.end();
+        root.end();
+    }
+    
+    private String trace(long rootMillis, boolean error) {
+        long start = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        Span root = tracer.spanBuilder("http post").setStartTimestamp(start, TimeUnit.NANOSECONDS).startSpan();
+        tracer.spanBuilder("jdbc query")
+            .setParent(Context.current().with(root))
+            .setStartTimestamp(start, TimeUnit.NANOSECONDS)
+            .startSpan()
+            .end(start + TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+        if (error) {
+            root.setStatus(StatusCode.ERROR);
+        }
+        root.end(start + TimeUnit.MILLISECONDS.toNanos(rootMillis), TimeUnit.NANOSECONDS);
+        return root.getSpanContext().getTraceId();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fintech.insurance.datagen;
+
+import com.fintech.insurance.claims.model.Claim;
+import com.fintech.insurance.claims.model.ClaimStatus;
+import com.fintech.insurance.claims.model.ClaimType;
+import com.fintech.insurance.claims.repository.ClaimRepository;
+import com.fintech.insurance.datagen.BookOfBusinessGenerator.GeneratedPolicy;
+import com.fintech.insurance.datagen.BookOfBusinessLoader.LoadReport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(BookOfBusinessLoader.class)
+@ImportAutoConfiguration(TransactionAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookOfBusinessLoaderTest {
+    
+    private static final BookOfBusinessSpec SPEC = BookOfBusinessSpec.builder()
+        .seed(7)
+        .policies(1_234)
+        .customers(500)
+        .claimsPerPolicy(1.5)
+        .fraudOutlierRate(0.05)
+        .chunkSize(200)
+        .parallelism(3)
+        .build();
+    
+    @Autowired
+    private BookOfBusinessLoader loader;
+    
+    @Autowired
+    private ClaimRepository claimRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void generationDependsOnlyOnSeedAndIndex() {
+        GeneratedPolicy first = new BookOfBusinessGenerator(SPEC).generate(41);
+        GeneratedPolicy again = new BookOfBusinessGenerator(SPEC).generate(41);
+        GeneratedPolicy reseeded = new BookOfBusinessGenerator(SPEC.toBuilder().seed(8).build()).generate(41);
+        
+        assertThat(again.getPolicy()).isEqualTo(first.getPolicy());
+        assertThat(again.getClaims()).isEqualTo(first.getClaims());
+        assertThat(again.getUnderwritingCase()).isEqualTo(first.getUnderwritingCase());
+        assertThat(reseeded.getPolicy()).isNotEqualTo(first.getPolicy());
+    }
+    
+    @Test
+    void loadsEveryGeneratedRowAndLeavesIdsForJpa() {
+        long expectedClaims = 0;
+        long expectedDocuments = 0;
+        BookOfBusinessGenerator generator = new BookOfBusinessGenerator(SPEC);
+        for (long i = 0; i < SPEC.getPolicies(); i++) {
+            GeneratedPolicy generated = generator.generate(i);
+            expectedClaims += generated.getClaims().size();
+            expectedDocuments += generated.getClaims().stream().mapToLong(c -> c.getDocuments().size()).sum();
+        }
+        
+        LoadReport report = loader.load(SPEC);
+        
+        assertThat(report.getPolicies()).isEqualTo(SPEC.getPolicies());
+        assertThat(report.getClaims()).isEqualTo(expectedClaims);
+        assertThat(report.getDocuments()).isEqualTo(expectedDocuments);
+        assertThat(count("policies")).isEqualTo(report.getPolicies());
+        assertThat(count("underwriting_cases")).isEqualTo(report.getUnderwritingCases());
+        assertThat(count("claims")).isEqualTo(report.getClaims());
+        assertThat(count("claim_documents")).isEqualTo(report.getDocuments());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM claims c LEFT JOIN policies p ON p.id = c.policy_id WHERE p.id IS NULL", Long.class))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM claims WHERE fraud_risk_level = 'CRITICAL'", Long.class)).isPositive();
+        
+        long maxLoadedId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM claims", Long.class);
+        Claim saved = claimRepository.save(Claim.builder()
+            .policyId(1L)
+            .customerId(1L)
+            .claimType(ClaimType.ACCIDENT)
+            .claimAmount(BigDecimal.TEN)
+            .status(ClaimStatus.SUBMITTED)
+            .incidentDate(LocalDate.now().minusDays(1))
+            .build());
+        assertThat(saved.getId()).isGreaterThan(maxLoadedId);
+    }
+    
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
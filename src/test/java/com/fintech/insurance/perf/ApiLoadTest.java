@@ -0,0 +1,229 @@
+package com.fintech.insurance.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent end-to-end load against the REST API on the in-memory "perf" profile.
+ * Each iteration creates and activates a policy, opens an underwriting case for it,
+ * files, approves and settles a claim, then streams the policy's claims back through
+ * the reactive read API. Latency percentiles per endpoint are
+ * logged and checked against the perf.slo.* properties.
+ *
+ * Run with: mvn -Pperf test (override e.g. -Dperf.load.threads=32 -Dperf.slo.claim-file.p99-ms=100).
+ * For a virtual vs platform thread comparison, point JAVA_HOME at a JDK 21, run it
+ * with -Pperf,java21 and again with -Pperf,java21 -Dspring.profiles.include=virtual,
+ * and compare the two reports. Under the virtual profile the reactive endpoints block
+ * their request thread rather than going through servlet async processing, see
+ * VirtualThreadConfig.
+ */
+@Slf4j
+@Tag("perf")
+@ActiveProfiles("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+    
+    private static final List<String> ENDPOINTS = List.of(
+        "policy-create", "policy-activate", "underwriting-create",
+        "claim-file", "claim-approve", "claim-settle", "claim-list-reactive");
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Environment environment;
+    
+    @Value("${perf.load.threads}")
+    private int threads;
+    
+    @Value("${perf.load.warmup-iterations}")
+    private int warmupIterations;
+    
+    @Value("${perf.load.iterations}")
+    private int iterations;
+    
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final AtomicLong customerIds = new AtomicLong(1_000_000);
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    
+    @Test
+    void lifecycleEndpointsMeetSlos() throws Exception {
+        ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats(endpoint)));
+        
+        runIterations(warmupIterations);
+        stats.values().forEach(EndpointStats::reset);
+        
+        long start = System.nanoTime();
+        runIterations(iterations);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        
+        StringBuilder report = new StringBuilder()
+            .append(String.format("%n%d client threads x %d iterations in %.2fs, server on %s threads%n",
+                threads, iterations, elapsedSeconds, Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform"))
+            .append(EndpointStats.header()).append('\n');
+        stats.values().forEach(s -> report.append(s.formatRow(elapsedSeconds)).append('\n'));
+        log.info("API load test results:{}", report);
+        
+        List<String> breaches = new ArrayList<>();
+        for (EndpointStats s : stats.values()) {
+            checkSlo(breaches, s, "p50", s.percentileMillis(50));
+            checkSlo(breaches, s, "p99", s.percentileMillis(99));
+            checkSlo(breaches, s, "p999", s.percentileMillis(99.9));
+            double maxErrorRate = slo(s.endpoint(), "max-error-rate");
+            if (s.errorRate() > maxErrorRate) {
+                breaches.add(String.format("%s error rate %.4f > %.4f", s.endpoint(), s.errorRate(), maxErrorRate));
+            }
+        }
+        assertThat(breaches).as("SLO breaches").isEmpty();
+    }
+    
+    private void runIterations(int iterationsPerThread) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < iterationsPerThread; i++) {
+                        runLifecycle();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(10, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    private void runLifecycle() throws IOException, InterruptedException {
+        long customerId = customerIds.incrementAndGet();
+        LocalDate today = LocalDate.now();
+        
+        JsonNode policy = post("policy-create", "/api/policies", Map.of(
+            "customerId", customerId,
+            "productType", "AUTO_INSURANCE",
+            "premium", "1200.00",
+            "coverageAmount", "50000.00",
+            "startDate", today.toString(),
+            "endDate", today.plusYears(1).toString(),
+            "paymentFrequency", "MONTHLY"));
+        if (policy == null) {
+            return;
+        }
+        long policyId = policy.get("id").asLong();
+        
+        if (post("policy-activate", "/api/policies/" + policyId + "/activate", null) == null) {
+            return;
+        }
+        post("underwriting-create", "/api/underwriting/cases", Map.of(
+            "policyId", policyId,
+            "customerId", customerId,
+            "recommendedPremium", "1200.00"));
+        
+        JsonNode claim = post("claim-file", "/api/claims", Map.of(
+            "policyId", policyId,
+            "customerId", customerId,
+            "claimType", "VEHICLE_DAMAGE",
+            "claimAmount", "2500.00",
+            "incidentDate", today.minusDays(3).toString(),
+            "incidentDescription", "Rear-end collision in traffic",
+            "incidentLocation", "Main Street"));
+        if (claim == null) {
+            return;
+        }
+        long claimId = claim.get("id").asLong();
+        
+        if (post("claim-approve", "/api/claims/" + claimId + "/approve?approvedAmount=2000.00", null) == null) {
+            return;
+        }
+        if (post("claim-settle", "/api/claims/" + claimId + "/settle", null) == null) {
+            return;
+        }
+        call("claim-list-reactive", HttpRequest.newBuilder(uri("/api/reactive/claims/policy/" + policyId))
+            .header("Accept", "application/x-ndjson")
+            .GET());
+    }
+    
+    // Returns the response body, or null when the call failed and was counted as an error
+    private JsonNode post(String endpoint, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        byte[] response = call(endpoint, request);
+        return response == null ? null : objectMapper.readTree(response);
+    }
+    
+    private byte[] call(String endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.get(endpoint).record(System.nanoTime() - start, false);
+            log.warn("{} failed: {}", endpoint, e.toString());
+            return null;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        stats.get(endpoint).record(System.nanoTime() - start, success);
+        if (!success) {
+            log.warn("{} returned {}: {}", endpoint, response.statusCode(), new String(response.body()));
+            return null;
+        }
+        return response.body();
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+    
+    private void checkSlo(List<String> breaches, EndpointStats s, String percentile, double observedMillis) {
+        double limitMillis = slo(s.endpoint(), percentile + "-ms");
+        if (observedMillis > limitMillis) {
+            breaches.add(String.format("%s %s %.2fms > %.2fms", s.endpoint(), percentile, observedMillis, limitMillis));
+        }
+    }
+    
+    private double slo(String endpoint, String key) {
+        return environment.getProperty("perf.slo." + endpoint + "." + key, Double.class,
+            environment.getRequiredProperty("perf.slo." + key, Double.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.fintech.insurance.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count for one endpoint, recorded concurrently by the load workers.
+ */
+final class EndpointStats {
+    
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    
+    private final String endpoint;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+    
+    void record(long elapsedNanos, boolean success) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+    
+    void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+    
+    String endpoint() {
+        return endpoint;
+    }
+    
+    long count() {
+        return latencies.getTotalCount();
+    }
+    
+    long errors() {
+        return errors.sum();
+    }
+    
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) errors() / count;
+    }
+    
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+    
+    double maxMillis() {
+        return latencies.getMaxValue() / 1000.0;
+    }
+    
+    String formatRow(double elapsedSeconds) {
+        return String.format("%-20s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+            endpoint, count(), errors(), count() / elapsedSeconds,
+            percentileMillis(50), percentileMillis(99), percentileMillis(99.9), maxMillis());
+    }
+    
+    static String header() {
+        return String.format("%-20s %8s %7s %10s %9s %9s %9s %9s",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+    }
+}
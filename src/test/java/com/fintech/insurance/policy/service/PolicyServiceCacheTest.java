@@ -0,0 +1,181 @@
+package com.fintech.insurance.policy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.insurance.common.cache.CacheConfig;
+import com.fintech.insurance.common.cache.CacheSettings;
+import com.fintech.insurance.common.cache.InMemoryRemoteCacheStore;
+import com.fintech.insurance.common.cache.TwoTierCacheManager;
+import com.fintech.insurance.common.concurrent.LookupCoalescer;
+import com.fintech.insurance.common.outbox.OutboxService;
+import com.fintech.insurance.common.pagination.NdjsonWriter;
+import com.fintech.insurance.policy.dto.PolicyDTO;
+import com.fintech.insurance.policy.exception.PolicyNotFoundException;
+import com.fintech.insurance.policy.model.PaymentFrequency;
+import com.fintech.insurance.policy.model.Policy;
+import com.fintech.insurance.policy.model.PolicyStatus;
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.policy.repository.PolicyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PolicyServiceCacheTest {
+    
+    // Shared by both nodes, like the database and Redis
+    private static PolicyRepository policyRepository;
+    private static InMemoryRemoteCacheStore redis;
+    
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+    
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+    
+    @Test
+    void missLoadedBeforeAnActivationDoesNotOverwriteItsWriteThrough() {
+        init();
+        PolicyService nodeA = node();
+        PolicyService nodeB = node();
+        Policy pending = policy(1L, PolicyStatus.PENDING_APPROVAL);
+        when(policyRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(policyRepository.save(any(Policy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(policyRepository.findByCustomerIdIn(anyCollection())).thenAnswer(invocation -> List.of(pending));
+        // Node B reads the pending policy; node A's activation commits and writes
+        // through before node B's miss gets to fill the cache
+        when(policyRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Policy stale = policy(1L, PolicyStatus.PENDING_APPROVAL);
+            nodeA.activatePolicy(1L);
+            return List.of(stale);
+        });
+        
+        assertThat(nodeB.getPolicy(1L).getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+        assertThat(nodeB.getPolicy(1L).getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+        assertThat(node().getPolicy(1L).getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+        assertThat(node().getCustomerPolicies(42L)).extracting(PolicyDTO::getStatus)
+            .containsExactly(PolicyStatus.ACTIVE);
+    }
+    
+    @Test
+    void missFillDoesNotInvalidateOtherNodes() {
+        init();
+        MeterRegistry nodeAMetrics = new SimpleMeterRegistry();
+        PolicyService nodeA = node(nodeAMetrics);
+        PolicyService nodeB = node();
+        when(policyRepository.findAllById(anyCollection())).thenReturn(List.of(policy(2L, PolicyStatus.ACTIVE)));
+        nodeA.getPolicy(2L);
+        // The shared copy expires while node A still holds its own
+        redis.deleteByPrefix("");
+        
+        nodeB.getPolicy(2L);
+        
+        assertThat(nodeAMetrics.get("cache.invalidations.received").tag("cache", PolicyService.POLICY_CACHE)
+            .counter().count()).isZero();
+    }
+    
+    @Test
+    void missingPolicyIsNotFoundAndNotCached() {
+        init();
+        PolicyService node = node();
+        when(policyRepository.findAllById(anyCollection())).thenReturn(List.of());
+        
+        assertThatThrownBy(() -> node.getPolicy(3L)).isInstanceOf(PolicyNotFoundException.class);
+        assertThatThrownBy(() -> node.activatePolicy(3L)).isInstanceOf(PolicyNotFoundException.class);
+        
+        when(policyRepository.findAllById(anyCollection())).thenReturn(List.of(policy(3L, PolicyStatus.ACTIVE)));
+        assertThat(node.getPolicy(3L).getStatus()).isEqualTo(PolicyStatus.ACTIVE);
+    }
+    
+    private static void init() {
+        policyRepository = mock(PolicyRepository.class);
+        redis = new InMemoryRemoteCacheStore();
+    }
+    
+    private PolicyService node() {
+        return node(new SimpleMeterRegistry());
+    }
+    
+    private PolicyService node(MeterRegistry meterRegistry) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(MeterRegistry.class, () -> meterRegistry);
+        context.register(NodeConfig.class);
+        context.refresh();
+        nodes.add(context);
+        return context.getBean(PolicyService.class);
+    }
+    
+    private static Policy policy(Long id, PolicyStatus status) {
+        return Policy.builder()
+            .id(id)
+            .policyNumber("POL" + id)
+            .customerId(42L)
+            .productType(ProductType.AUTO_INSURANCE)
+            .premium(new BigDecimal("100.00"))
+            .coverageAmount(new BigDecimal("10000.00"))
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2027, 1, 1))
+            .status(status)
+            .paymentFrequency(PaymentFrequency.MONTHLY)
+            .build();
+    }
+    
+    @Configuration
+    @EnableCaching
+    @Import(PolicyService.class)
+    static class NodeConfig {
+        
+        @Bean
+        PolicyRepository policyRepository() {
+            return policyRepository;
+        }
+        
+        @Bean
+        TwoTierCacheManager cacheManager(MeterRegistry meterRegistry) {
+            ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+            return new TwoTierCacheManager(CacheSettings.bySize(100, Duration.ofMinutes(5), Duration.ofMinutes(30)),
+                redis, CacheConfig.valueSerializer(objectMapper), meterRegistry);
+        }
+        
+        @Bean
+        LookupCoalescer lookupCoalescer(MeterRegistry meterRegistry) {
+            return new LookupCoalescer(meterRegistry, Duration.ZERO, 100);
+        }
+        
+        @Bean
+        OutboxService outboxService() {
+            return mock(OutboxService.class);
+        }
+        
+        @Bean
+        EntityManager entityManager() {
+            return mock(EntityManager.class);
+        }
+        
+        @Bean
+        NdjsonWriter ndjsonWriter() {
+            return mock(NdjsonWriter.class);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fintech.insurance.underwriting.rating;
+
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CompiledRatingTablesTest {
+    
+    @Test
+    void addsProductWeightAndFirstReachedTierOfEachFactor() {
+        CompiledRatingTables tables = CompiledRatingTables.compile("test", tables());
+        
+        assertThat(tables.score(ProductType.TRAVEL_INSURANCE, 20.0, 0, 1)).isCloseTo(0.05, within(1e-9));
+        assertThat(tables.score(ProductType.LIFE_INSURANCE, 250.0, 3, 360)).isCloseTo(0.80, within(1e-9));
+        assertThat(tables.score(ProductType.LIFE_INSURANCE, 249.99, 2, 239)).isCloseTo(0.50, within(1e-9));
+        // Past the last table entry, non-finite ratios and the 1.0 cap
+        assertThat(tables.score(ProductType.AUTO_INSURANCE, 1e12, 0, 0)).isCloseTo(0.45, within(1e-9));
+        assertThat(tables.score(ProductType.AUTO_INSURANCE, Double.POSITIVE_INFINITY, 0, 0)).isCloseTo(0.45, within(1e-9));
+        assertThat(tables.score(ProductType.AUTO_INSURANCE, Double.NaN, -1, -5)).isCloseTo(0.15, within(1e-9));
+        assertThat(tables.score(ProductType.HEALTH_INSURANCE, 5000.0, 50, 500)).isEqualTo(1.0);
+    }
+    
+    @Test
+    void batchScoresMatchSingleCaseScores() {
+        CompiledRatingTables tables = CompiledRatingTables.compile("test", tables());
+        ProductType[] productTypes = ProductType.values();
+        RiskFactors factors = new RiskFactors(100);
+        for (int i = 0; i < 100; i++) {
+            factors.add(productTypes[i % productTypes.length], i * 13.7, i % 7, i * 5);
+        }
+        double[] scores = new double[100];
+        tables.scoreAll(factors, scores);
+        
+        for (int i = 0; i < 100; i++) {
+            assertThat(scores[i]).isEqualTo(tables.score(productTypes[i % productTypes.length], i * 13.7, i % 7, i * 5));
+        }
+    }
+    
+    @Test
+    void loadsPremiumsInFixedPointAndRoundsHalfUp() {
+        CompiledRatingTables tables = CompiledRatingTables.compile("test", tables());
+        
+        assertThat(tables.riskLevel(0.74)).isEqualTo(RiskLevel.HIGH);
+        assertThat(tables.riskLevel(0.10)).isEqualTo(RiskLevel.LOW);
+        assertThat(tables.loadPremiumCents(100_00, RiskLevel.MEDIUM)).isEqualTo(115_00);
+        // 0.10 * 1.15 = 0.115 and 12.33 * 1.30 = 16.029
+        assertThat(tables.loadPremiumCents(10, RiskLevel.MEDIUM)).isEqualTo(12);
+        assertThat(tables.loadPremium(new BigDecimal("12.33"), RiskLevel.HIGH)).isEqualByComparingTo("16.03");
+        assertThat(tables.loadPremium(new BigDecimal("999.999"), RiskLevel.LOW)).isEqualByComparingTo("1000.00");
+        assertThat(tables.loadingFactor(RiskLevel.VERY_HIGH)).isEqualByComparingTo("1.5");
+    }
+    
+    @Test
+    void rejectsMissingProductsAndUnorderedTiers() {
+        Properties missing = tables();
+        missing.remove("product.HOME_INSURANCE");
+        assertThatThrownBy(() -> CompiledRatingTables.compile("test", missing))
+            .hasMessageContaining("product.HOME_INSURANCE");
+        
+        Properties unordered = tables();
+        unordered.setProperty("factor.term-months", "24:0.05,60:0.10");
+        assertThatThrownBy(() -> CompiledRatingTables.compile("test", unordered))
+            .hasMessageContaining("descending");
+    }
+    
+    private static Properties tables() {
+        Properties tables = new Properties();
+        tables.setProperty("product.LIFE_INSURANCE", "0.20");
+        tables.setProperty("product.HEALTH_INSURANCE", "0.20");
+        tables.setProperty("product.AUTO_INSURANCE", "0.15");
+        tables.setProperty("product.HOME_INSURANCE", "0.10");
+        tables.setProperty("product.TRAVEL_INSURANCE", "0.05");
+        tables.setProperty("factor.coverage-ratio", "1000:0.30,250:0.20,100:0.10");
+        tables.setProperty("factor.prior-settled-claims", "5:0.40,3:0.25,1:0.10");
+        tables.setProperty("factor.term-months", "240:0.15,60:0.10,24:0.05");
+        tables.setProperty("level.very-high", "0.75");
+        tables.setProperty("level.high", "0.50");
+        tables.setProperty("level.medium", "0.25");
+        tables.setProperty("loading.LOW", "1.00");
+        tables.setProperty("loading.MEDIUM", "1.15");
+        tables.setProperty("loading.HIGH", "1.30");
+        tables.setProperty("loading.VERY_HIGH", "1.50");
+        return tables;
+    }
+}
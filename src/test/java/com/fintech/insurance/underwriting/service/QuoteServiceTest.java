@@ -0,0 +1,95 @@
+package com.fintech.insurance.underwriting.service;
+
+import com.fintech.insurance.policy.model.ProductType;
+import com.fintech.insurance.underwriting.dto.QuoteDTO;
+import com.fintech.insurance.underwriting.dto.QuoteRequestDTO;
+import com.fintech.insurance.underwriting.exception.UnderwritingException;
+import com.fintech.insurance.underwriting.model.RiskLevel;
+import com.fintech.insurance.underwriting.model.UnderwritingDecision;
+import com.fintech.insurance.underwriting.rating.RiskRatingEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteServiceTest {
+    
+    private final RiskRatingEngine riskRatingEngine =
+        new RiskRatingEngine(new DefaultResourceLoader(), "classpath:underwriting-rating.properties");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QuoteService parallel =
+        new QuoteService(riskRatingEngine, new UnderwritingMetrics(meterRegistry), 10_000, 100, 4);
+    private final QuoteService inline =
+        new QuoteService(riskRatingEngine, new UnderwritingMetrics(new SimpleMeterRegistry()), 10_000, 10_000, 1);
+    
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+        inline.shutdown();
+    }
+    
+    @Test
+    void pricesFromTheRatingTablesAndCountsQuotes() {
+        List<QuoteDTO> quotes = parallel.quote(List.of(
+            request("low", ProductType.TRAVEL_INSURANCE, "200.00", "5000", 1, 0),
+            request("high", ProductType.LIFE_INSURANCE, "1000.00", "300000", 360, 3)));
+        
+        assertThat(quotes.get(0).getReference()).isEqualTo("low");
+        assertThat(quotes.get(0).getRiskLevel()).isEqualTo(RiskLevel.LOW);
+        assertThat(quotes.get(0).getQuotedPremium()).isEqualByComparingTo("200.00");
+        // 0.20 product + 0.20 ratio + 0.25 claims + 0.15 term
+        assertThat(quotes.get(1).getRiskLevel()).isEqualTo(RiskLevel.VERY_HIGH);
+        assertThat(quotes.get(1).getDecision()).isEqualTo(UnderwritingDecision.REFERRED);
+        assertThat(quotes.get(1).getQuotedPremium()).isEqualByComparingTo("1500.00");
+        assertThat(meterRegistry.counter("underwriting.quotes").count()).isEqualTo(2.0);
+    }
+    
+    @Test
+    void parallelSlicesMatchInlinePricing() {
+        ProductType[] productTypes = ProductType.values();
+        List<QuoteRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 1_050; i++) {
+            requests.add(request("Q-" + i, productTypes[i % productTypes.length],
+                BigDecimal.valueOf(10_000 + i * 37L, 2).toPlainString(), String.valueOf(5_000 + i * 911L),
+                1 + i % 400, i % 7));
+        }
+        
+        assertThat(parallel.quote(requests)).isEqualTo(inline.quote(requests));
+    }
+    
+    @Test
+    void rejectsIncompleteRequestsAndOversizedBatches() {
+        QuoteRequestDTO incomplete = request("bad", ProductType.AUTO_INSURANCE, "100.00", "1000", 12, 0);
+        incomplete.setTermMonths(null);
+        assertThatThrownBy(() -> parallel.quote(List.of(incomplete)))
+            .isInstanceOf(UnderwritingException.class)
+            .hasMessageContaining("Quote request 0");
+        
+        List<QuoteRequestDTO> oversized = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            oversized.add(incomplete);
+        }
+        assertThatThrownBy(() -> parallel.quote(oversized))
+            .isInstanceOf(UnderwritingException.class)
+            .hasMessageContaining("exceeds maximum");
+    }
+    
+    private static QuoteRequestDTO request(String reference, ProductType productType, String premium,
+                                           String coverageAmount, int termMonths, int priorSettledClaims) {
+        return QuoteRequestDTO.builder()
+            .reference(reference)
+            .productType(productType)
+            .premium(new BigDecimal(premium))
+            .coverageAmount(new BigDecimal(coverageAmount))
+            .termMonths(termMonths)
+            .priorSettledClaims(priorSettledClaims)
+            .build();
+    }
+}